@@ -0,0 +1,94 @@
+package io.github.paxytools.warmupdicator.health;
+
+import io.github.paxytools.warmupdicator.api.WarmupResult;
+import io.github.paxytools.warmupdicator.api.WarmupStatistics;
+import io.github.paxytools.warmupdicator.api.WarmupTier;
+import io.github.paxytools.warmupdicator.api.Warmupdicator;
+import io.github.paxytools.warmupdicator.config.RetryProperties;
+import io.github.paxytools.warmupdicator.config.WarmupdicatorProperties;
+import io.github.paxytools.warmupdicator.service.ExponentialBackoffRetryPolicy;
+import io.github.paxytools.warmupdicator.service.WarmupService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.actuate.health.Health;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of {@link WarmupHealthIndicator#health()} under concurrent probe calls,
+ * as issued by the liveness and readiness probes of every pod.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WarmupHealthIndicatorBenchmark {
+
+    @Param({"10", "100"})
+    private int warmers;
+
+    @Param({"false", "true"})
+    private boolean showDetails;
+
+    private WarmupHealthIndicator healthIndicator;
+
+    @Setup
+    public void setUp() {
+        Set<Warmupdicator> completed = new HashSet<>();
+        for (int i = 0; i < warmers; i++) {
+            completed.add(new CompletedWarmer("warmer-" + i, i % 5 == 0 ? WarmupTier.BACKGROUND : WarmupTier.CRITICAL));
+        }
+        WarmupService warmupService = new WarmupService(completed, new ExponentialBackoffRetryPolicy(new RetryProperties()), Runnable::run);
+        warmupService.performWarmup();
+
+        WarmupdicatorProperties properties = new WarmupdicatorProperties();
+        properties.setShowDetails(showDetails);
+        healthIndicator = new WarmupHealthIndicator(warmupService, properties);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Health healthSingleProbe() {
+        return healthIndicator.health();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Health healthConcurrentProbes() {
+        return healthIndicator.health();
+    }
+
+    private record CompletedWarmer(String id, WarmupTier tier) implements Warmupdicator {
+
+        @Override
+        public WarmupResult warmUp() {
+            return WarmupResult.success(12, 1, new WarmupStatistics(100, 0, 0.5, 1.2, 8.0))
+                    .withDetails(Map.of("calls", 100));
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public WarmupTier getTier() {
+            return tier;
+        }
+    }
+}
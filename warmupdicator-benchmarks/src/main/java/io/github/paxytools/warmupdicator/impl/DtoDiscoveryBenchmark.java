@@ -0,0 +1,149 @@
+package io.github.paxytools.warmupdicator.impl;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.paxytools.warmupdicator.config.DtoWarmerProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.method.HandlerMethod;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures DTO discovery and exclude filtering of {@link DtoWarmupIndicator} over handler tables of growing size.
+ * <p>
+ * The tables cycle through the handler methods of a synthetic controller, as real applications share DTOs
+ * between many endpoints, so the cost is dominated by walking the handler signatures and the visited-type checks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoDiscoveryBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int handlerMethods;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final DtoWarmerProperties properties = new DtoWarmerProperties();
+    private List<HandlerMethod> handlers;
+    private Set<JavaType> discovered;
+
+    @Setup
+    public void setUp() {
+        OrderController controller = new OrderController();
+        Method[] methods = Arrays.stream(OrderController.class.getDeclaredMethods())
+                .filter(method -> !method.isSynthetic())
+                .sorted(Comparator.comparing(Method::getName))
+                .toArray(Method[]::new);
+        handlers = new ArrayList<>(handlerMethods);
+        for (int i = 0; i < handlerMethods; i++) {
+            handlers.add(new HandlerMethod(controller, methods[i % methods.length]));
+        }
+        discovered = DtoWarmupIndicator.discoverDtoTypes(handlers, List.of(), objectMapper);
+    }
+
+    @Benchmark
+    public Set<JavaType> discover() {
+        return DtoWarmupIndicator.discoverDtoTypes(handlers, List.of(), objectMapper);
+    }
+
+    @Benchmark
+    public Set<JavaType> filter() {
+        return DtoWarmupIndicator.filterExcludedTypes(discovered, properties);
+    }
+
+    @Benchmark
+    public Set<JavaType> discoverAndFilter() {
+        return DtoWarmupIndicator.filterExcludedTypes(DtoWarmupIndicator.discoverDtoTypes(handlers, List.of(), objectMapper), properties);
+    }
+
+    @RestController
+    static class OrderController {
+
+        @GetMapping("/orders/{id}")
+        public Order get(@PathVariable String id) {
+            return null;
+        }
+
+        @GetMapping("/orders")
+        public Page<Order> list() {
+            return null;
+        }
+
+        @PostMapping("/orders")
+        public ResponseEntity<Order> create(@RequestBody OrderRequest request) {
+            return null;
+        }
+
+        @GetMapping("/customers/{id}")
+        public Optional<Customer> customer(@PathVariable String id) {
+            return Optional.empty();
+        }
+
+        @GetMapping("/customers")
+        public CompletableFuture<List<Customer>> customers() {
+            return null;
+        }
+
+        @PostMapping("/invoices")
+        public Invoice invoice(@RequestBody Map<String, Order> orders) {
+            return null;
+        }
+
+        @GetMapping("/ping")
+        public void ping() {
+        }
+    }
+
+    public record Page<T>(List<T> content, int number, long total) {
+    }
+
+    public record Order(String id, Customer customer, List<Line> lines, Status status, Instant created) {
+    }
+
+    public record Line(String sku, int quantity, BigDecimal price) {
+    }
+
+    public record Customer(String id, String name, Address address) {
+    }
+
+    public record Address(String street, String city, String country) {
+    }
+
+    public record OrderRequest(String customerId, List<Line> lines) {
+    }
+
+    public record Invoice(String id, Order order, BigDecimal total) {
+    }
+
+    public enum Status { NEW, PAID, SHIPPED }
+}
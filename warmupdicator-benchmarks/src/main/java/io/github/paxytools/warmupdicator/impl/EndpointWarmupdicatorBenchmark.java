@@ -0,0 +1,96 @@
+package io.github.paxytools.warmupdicator.impl;
+
+import com.sun.net.httpserver.HttpServer;
+import io.github.paxytools.warmupdicator.api.WarmupResult;
+import io.github.paxytools.warmupdicator.config.EndpointWarmerProperties.EndpointProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a warmup run of {@link EndpointWarmupdicator} against a local in-JVM HTTP server that answers
+ * immediately, so the result is the warmer's own overhead: request dispatch, latency recording and,
+ * in async mode, pipelining through the client's executor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+// Without TCP_NODELAY the JDK server's separate header and body writes wait for delayed ACKs, about 40ms per call
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class EndpointWarmupdicatorBenchmark {
+
+    private static final byte[] BODY = "{\"status\":\"ok\"}".getBytes(StandardCharsets.UTF_8);
+
+    @Param({"100"})
+    private int iterations;
+
+    @Param({"1", "4"})
+    private int concurrency;
+
+    @Param({"false", "true"})
+    private boolean async;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private EndpointWarmupdicator warmer;
+
+    @Setup
+    public void setUp() throws IOException {
+        serverExecutor = Executors.newFixedThreadPool(4);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ping", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, BODY.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(BODY);
+            }
+        });
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        EndpointProperties endpoint = new EndpointProperties();
+        endpoint.setName("ping");
+        endpoint.setUrl("http://127.0.0.1:" + server.getAddress().getPort() + "/ping");
+        endpoint.setIterations(iterations);
+        endpoint.setConcurrency(concurrency);
+        endpoint.setAsync(async);
+        endpoint.setMaxResponseTime(5000);
+        warmer = new EndpointWarmupdicator(endpoint, HttpClient.newHttpClient());
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public WarmupResult warmUp() {
+        WarmupResult result = warmer.warmUp();
+        if (!result.isSuccess()) {
+            throw new IllegalStateException(result.getMessage());
+        }
+        return result;
+    }
+}
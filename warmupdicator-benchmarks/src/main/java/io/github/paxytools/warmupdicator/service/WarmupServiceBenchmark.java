@@ -0,0 +1,98 @@
+package io.github.paxytools.warmupdicator.service;
+
+import io.github.paxytools.warmupdicator.api.WarmupResult;
+import io.github.paxytools.warmupdicator.api.WarmupRetryPolicy;
+import io.github.paxytools.warmupdicator.api.Warmupdicator;
+import io.github.paxytools.warmupdicator.config.RetryProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the scheduling overhead of a {@link WarmupService} run over thousands of no-op warmers:
+ * building the dependency graph, chaining the retry futures and collecting the results.
+ * <p>
+ * The "direct" executor runs warmers on the calling thread, isolating the bookkeeping, while "pool"
+ * adds the hand-off to a bounded pool as configured by default.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WarmupServiceBenchmark {
+
+    @Param({"1000", "5000"})
+    private int warmers;
+
+    @Param({"direct", "pool"})
+    private String executor;
+
+    @Param({"false", "true"})
+    private boolean dependencies;
+
+    private final WarmupRetryPolicy retryPolicy = new ExponentialBackoffRetryPolicy(new RetryProperties());
+    private Set<Warmupdicator> noOpWarmers;
+    private ExecutorService pool;
+
+    @Setup
+    public void setUp() {
+        noOpWarmers = new HashSet<>();
+        for (int i = 0; i < warmers; i++) {
+            // With dependencies, every warmer waits for one of the first ten, giving a wide two-level graph
+            Set<String> prerequisites = dependencies && i >= 10 ? Set.of("warmer-" + (i % 10)) : Set.of();
+            noOpWarmers.add(new NoOpWarmer("warmer-" + i, prerequisites));
+        }
+        pool = WarmupExecutors.newBoundedExecutor(Runtime.getRuntime().availableProcessors(), "benchmark-warmup-");
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Benchmark
+    public WarmupService performWarmup() {
+        WarmupService warmupService = "pool".equals(executor)
+                ? new WarmupService(noOpWarmers, retryPolicy, pool)
+                : new WarmupService(noOpWarmers, retryPolicy, Runnable::run);
+        warmupService.performWarmup();
+        if (!warmupService.isWarmedUp()) {
+            throw new IllegalStateException("warmup did not succeed");
+        }
+        return warmupService;
+    }
+
+    private record NoOpWarmer(String id, Set<String> prerequisites) implements Warmupdicator {
+
+        @Override
+        public WarmupResult warmUp() {
+            return WarmupResult.success(0);
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public Set<String> dependsOn() {
+            return prerequisites;
+        }
+    }
+}
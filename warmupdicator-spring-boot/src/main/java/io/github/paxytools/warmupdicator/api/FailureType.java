@@ -0,0 +1,52 @@
+package io.github.paxytools.warmupdicator.api;
+
+/**
+ * Classification of a warmup failure, used by the {@link WarmupRetryPolicy}
+ * to tell transient failures from permanent ones.
+ */
+public enum FailureType {
+
+    /**
+     * The call timed out or exceeded the acceptable response time.
+     */
+    TIMEOUT,
+
+    /**
+     * The target refused the connection.
+     */
+    CONNECTION_REFUSED,
+
+    /**
+     * The target rejected the request with a 4xx status other than 408 or 429.
+     */
+    CLIENT_ERROR,
+
+    /**
+     * The target failed with a 5xx status, or 429 Too Many Requests.
+     */
+    SERVER_ERROR,
+
+    /**
+     * Any other failure, including failures reported by custom warmers.
+     */
+    UNKNOWN;
+
+    /**
+     * Classifies an unsuccessful HTTP status code.
+     *
+     * @param statusCode the HTTP status code
+     * @return the failure type for the status code
+     */
+    public static FailureType forStatus(int statusCode) {
+        if (statusCode == 408) {
+            return TIMEOUT;
+        }
+        if (statusCode == 429 || statusCode >= 500) {
+            return SERVER_ERROR;
+        }
+        if (statusCode >= 400) {
+            return CLIENT_ERROR;
+        }
+        return UNKNOWN;
+    }
+}
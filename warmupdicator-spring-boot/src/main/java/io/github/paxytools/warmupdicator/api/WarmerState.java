@@ -0,0 +1,131 @@
+package io.github.paxytools.warmupdicator.api;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Immutable state of a warmer in the current or last warmup run.
+ */
+@Getter
+public class WarmerState {
+    private final String id;
+    private final WarmupTier tier;
+    private final WarmerStatus status;
+
+    /**
+     * Number of attempts started in the run, 0 until the first one starts.
+     */
+    private final int attempts;
+
+    /**
+     * When the first attempt started, null until then.
+     */
+    private final Instant startedAt;
+
+    /**
+     * When the warmer succeeded, gave up or was skipped, null until then.
+     */
+    private final Instant endedAt;
+
+    /**
+     * Result of the last finished attempt, null until then.
+     */
+    private final WarmupResult result;
+
+    private WarmerState(String id, WarmupTier tier, WarmerStatus status, int attempts, Instant startedAt, Instant endedAt, WarmupResult result) {
+        this.id = id;
+        this.tier = tier;
+        this.status = status;
+        this.attempts = attempts;
+        this.startedAt = startedAt;
+        this.endedAt = endedAt;
+        this.result = result;
+    }
+
+    /**
+     * Creates the state of a warmer that has not started yet.
+     *
+     * @param id the warmer id
+     * @param tier the warmer tier
+     * @return a pending WarmerState
+     */
+    public static WarmerState pending(String id, WarmupTier tier) {
+        return new WarmerState(id, tier, WarmerStatus.PENDING, 0, null, null, null);
+    }
+
+    /**
+     * Returns the time from the start of the first attempt until the warmer ended,
+     * backoffs included, or null if it has not ended or never started.
+     */
+    public Long getDurationMs() {
+        return startedAt != null && endedAt != null ? Duration.between(startedAt, endedAt).toMillis() : null;
+    }
+
+    /**
+     * Returns the message of the last finished attempt, or null if none has finished.
+     */
+    public String getMessage() {
+        return result != null ? result.getMessage() : null;
+    }
+
+    /**
+     * Returns a copy of this state with an attempt started at the given time.
+     *
+     * @param attempt the attempt number, starting at 1
+     * @param now the current time
+     * @return a running WarmerState
+     */
+    public WarmerState withAttemptStarted(int attempt, Instant now) {
+        return new WarmerState(id, tier, WarmerStatus.RUNNING, attempt, startedAt != null ? startedAt : now, null, result);
+    }
+
+    /**
+     * Returns a copy of this state with the result of the attempt that just finished, still running
+     * until the service decides whether to retry.
+     *
+     * @param attemptResult the result of the attempt
+     * @return a WarmerState carrying the given result
+     */
+    public WarmerState withAttemptFinished(WarmupResult attemptResult) {
+        return new WarmerState(id, tier, status, attempts, startedAt, endedAt, attemptResult);
+    }
+
+    /**
+     * Returns a copy of this state waiting for the backoff before the next attempt.
+     *
+     * @return a retrying WarmerState
+     */
+    public WarmerState retrying() {
+        return new WarmerState(id, tier, WarmerStatus.RETRYING, attempts, startedAt, null, result);
+    }
+
+    /**
+     * Returns a copy of this state that ended with its last result.
+     *
+     * @param now the current time
+     * @return a succeeded or failed WarmerState
+     */
+    public WarmerState ended(Instant now) {
+        WarmerStatus endStatus = result != null && result.isSuccess() ? WarmerStatus.SUCCEEDED : WarmerStatus.FAILED;
+        return new WarmerState(id, tier, endStatus, attempts, startedAt, now, result);
+    }
+
+    /**
+     * Returns a copy of this state that was skipped without an attempt.
+     *
+     * @param now the current time
+     * @return a skipped WarmerState
+     */
+    public WarmerState skipped(Instant now) {
+        return new WarmerState(id, tier, WarmerStatus.SKIPPED, 0, null, now, null);
+    }
+
+    /**
+     * Returns whether the warmer has succeeded, failed or been skipped.
+     */
+    public boolean isEnded() {
+        return endedAt != null;
+    }
+}
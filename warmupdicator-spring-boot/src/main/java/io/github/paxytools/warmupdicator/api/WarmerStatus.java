@@ -0,0 +1,37 @@
+package io.github.paxytools.warmupdicator.api;
+
+/**
+ * Progress of a warmer within a warmup run.
+ */
+public enum WarmerStatus {
+
+    /**
+     * Waiting for its prerequisites or for an executor thread.
+     */
+    PENDING,
+
+    /**
+     * An attempt is running.
+     */
+    RUNNING,
+
+    /**
+     * The last attempt failed and the next one is scheduled after a backoff.
+     */
+    RETRYING,
+
+    /**
+     * The last attempt succeeded.
+     */
+    SUCCEEDED,
+
+    /**
+     * The last attempt failed and the warmer will not be retried.
+     */
+    FAILED,
+
+    /**
+     * Not attempted because a prerequisite did not succeed or the attempt limit or deadline was reached.
+     */
+    SKIPPED
+}
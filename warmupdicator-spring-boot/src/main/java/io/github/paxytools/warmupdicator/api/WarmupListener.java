@@ -0,0 +1,70 @@
+package io.github.paxytools.warmupdicator.api;
+
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * Receives the progress of a warmup run from the WarmupService, e.g. to publish metrics.
+ * Register beans of this type to be notified. All methods do nothing by default.
+ * <p>
+ * Listeners are called from the warmup threads and must not block. An exception thrown by a
+ * listener is logged and does not affect the warmup.
+ */
+public interface WarmupListener {
+
+    /**
+     * Called when a warmup run starts, before any warmer is attempted. Runs after the first one
+     * only include the warmers that are run again.
+     *
+     * @param warmers all warmers of the run
+     */
+    default void warmupStarted(Collection<Warmupdicator> warmers) {
+    }
+
+    /**
+     * Called right before an attempt of a warmer, on the thread that runs the attempt.
+     *
+     * @param warmer the warmer
+     * @param attempt the attempt number, starting at 1
+     */
+    default void attemptStarted(Warmupdicator warmer, int attempt) {
+    }
+
+    /**
+     * Called right after an attempt of a warmer, on the thread that ran the attempt.
+     *
+     * @param warmer the warmer
+     * @param attempt the attempt number, starting at 1
+     * @param result the result of the attempt
+     * @param duration the time the attempt took
+     */
+    default void attemptFinished(Warmupdicator warmer, int attempt, WarmupResult result, Duration duration) {
+    }
+
+    /**
+     * Called once a warmer has succeeded or will not be attempted again.
+     *
+     * @param warmer the warmer
+     * @param result the final result, or null if the warmer was skipped because a prerequisite
+     *               did not succeed or the attempt limit or deadline was reached
+     */
+    default void warmerFinished(Warmupdicator warmer, WarmupResult result) {
+    }
+
+    /**
+     * Called once the critical warmers have finished, when the application is warmed up or the warmup gave up.
+     * Background warmers may still be running.
+     *
+     * @param succeeded whether every critical warmer succeeded
+     * @param duration the time to warm
+     */
+    default void warmupFinished(boolean succeeded, Duration duration) {
+    }
+
+    /**
+     * Called once every warmer of the run, critical and background, has finished, successfully or not.
+     * Another run may start right after.
+     */
+    default void runFinished() {
+    }
+}
@@ -2,6 +2,10 @@ package io.github.paxytools.warmupdicator.api;
 
 import lombok.Getter;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Represents the result of a warmup check.
  */
@@ -11,12 +15,23 @@ public class WarmupResult {
     private final String message;
     private final long responseTimeMs;
     private final int attemptCount;
+    private final WarmupStatistics statistics;
+    private final Map<String, Object> details;
 
-    private WarmupResult(boolean success, String message, long responseTimeMs, int attemptCount) {
+    /**
+     * Classification of the failure, null for successful results.
+     */
+    private final FailureType failureType;
+
+    private WarmupResult(boolean success, String message, long responseTimeMs, int attemptCount,
+                         WarmupStatistics statistics, Map<String, Object> details, FailureType failureType) {
         this.success = success;
         this.message = message;
         this.responseTimeMs = responseTimeMs;
         this.attemptCount = attemptCount;
+        this.statistics = statistics;
+        this.details = details != null ? Collections.unmodifiableMap(new LinkedHashMap<>(details)) : Map.of();
+        this.failureType = failureType;
     }
 
     /**
@@ -37,7 +52,19 @@ public class WarmupResult {
      * @return a successful WarmupResult
      */
     public static WarmupResult success(long responseTimeMs, int attemptCount) {
-        return new WarmupResult(true, "OK", responseTimeMs, attemptCount);
+        return success(responseTimeMs, attemptCount, null);
+    }
+
+    /**
+     * Creates a successful warmup result with aggregated call statistics.
+     *
+     * @param responseTimeMs the total response time in milliseconds
+     * @param attemptCount the number of attempts made
+     * @param statistics the aggregated statistics of the calls made, may be null
+     * @return a successful WarmupResult
+     */
+    public static WarmupResult success(long responseTimeMs, int attemptCount, WarmupStatistics statistics) {
+        return new WarmupResult(true, "OK", responseTimeMs, attemptCount, statistics, null, null);
     }
 
     /**
@@ -60,6 +87,53 @@ public class WarmupResult {
      * @return a failed WarmupResult
      */
     public static WarmupResult failure(String message, long responseTimeMs, int attemptCount) {
-        return new WarmupResult(false, message, responseTimeMs, attemptCount);
+        return failure(message, responseTimeMs, attemptCount, null);
+    }
+
+    /**
+     * Creates a failed warmup result with aggregated call statistics.
+     *
+     * @param message the failure message
+     * @param responseTimeMs the total response time in milliseconds
+     * @param attemptCount the number of attempts made
+     * @param statistics the aggregated statistics of the calls made, may be null
+     * @return a failed WarmupResult
+     */
+    public static WarmupResult failure(String message, long responseTimeMs, int attemptCount, WarmupStatistics statistics) {
+        return new WarmupResult(false, message, responseTimeMs, attemptCount, statistics, null, FailureType.UNKNOWN);
+    }
+
+    /**
+     * Returns a copy of this result with a different attempt count.
+     *
+     * @param attemptCount the number of attempts made
+     * @return a WarmupResult with the given attempt count
+     */
+    public WarmupResult withAttemptCount(int attemptCount) {
+        return new WarmupResult(success, message, responseTimeMs, attemptCount, statistics, details, failureType);
+    }
+
+    /**
+     * Returns a copy of this result with additional warmer-specific details,
+     * reported in the health endpoint when details are shown.
+     *
+     * @param details the details to report, must not contain null values
+     * @return a WarmupResult carrying the given details
+     */
+    public WarmupResult withDetails(Map<String, Object> details) {
+        return new WarmupResult(success, message, responseTimeMs, attemptCount, statistics, details, failureType);
+    }
+
+    /**
+     * Returns a copy of this failed result with a classified failure type.
+     *
+     * @param failureType the failure type
+     * @return a WarmupResult with the given failure type
+     */
+    public WarmupResult withFailureType(FailureType failureType) {
+        if (success) {
+            throw new IllegalStateException("Successful results have no failure type");
+        }
+        return new WarmupResult(false, message, responseTimeMs, attemptCount, statistics, details, failureType);
     }
 }
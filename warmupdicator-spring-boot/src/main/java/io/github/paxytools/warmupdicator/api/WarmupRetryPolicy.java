@@ -0,0 +1,46 @@
+package io.github.paxytools.warmupdicator.api;
+
+import java.time.Duration;
+
+/**
+ * Decides whether and when failed warmers are retried by the WarmupService.
+ * Register a bean of this type to replace the default exponential backoff policy.
+ */
+public interface WarmupRetryPolicy {
+
+    /**
+     * Decides whether a failed warmer should be attempted again.
+     *
+     * @param warmerId the id of the failed warmer
+     * @param result the failed result
+     * @param attempts the number of attempts made for this warmer so far
+     * @return true to retry the warmer
+     */
+    boolean shouldRetry(String warmerId, WarmupResult result, int attempts);
+
+    /**
+     * Returns the delay before the next attempt of a warmer.
+     *
+     * @param attempts the number of attempts made for the warmer so far
+     * @return the delay before the next attempt
+     */
+    Duration getBackoff(int attempts);
+
+    /**
+     * Decides whether the warmup as a whole may make further attempts.
+     *
+     * @param totalAttempts the number of attempts made across all warmers
+     * @param elapsed the time elapsed since the warmup started
+     * @return true if further attempts are allowed
+     */
+    boolean canContinue(int totalAttempts, Duration elapsed);
+
+    /**
+     * Returns the overall deadline of the warmup, or null if there is none.
+     *
+     * @return the overall deadline
+     */
+    default Duration getDeadline() {
+        return null;
+    }
+}
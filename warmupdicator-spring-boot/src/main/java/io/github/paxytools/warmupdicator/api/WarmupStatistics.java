@@ -0,0 +1,51 @@
+package io.github.paxytools.warmupdicator.api;
+
+import lombok.Getter;
+
+/**
+ * Aggregated latency statistics of a warmup that issued more than one call.
+ */
+@Getter
+public class WarmupStatistics {
+    private final long count;
+    private final long errorCount;
+    private final double minTimeMs;
+    private final double meanTimeMs;
+    private final double maxTimeMs;
+
+    /**
+     * Number of calls it took for latencies to converge in adaptive mode,
+     * or null if adaptive mode was off or latencies did not converge.
+     */
+    private final Long convergedAfter;
+
+    public WarmupStatistics(long count, long errorCount, double minTimeMs, double meanTimeMs, double maxTimeMs) {
+        this(count, errorCount, minTimeMs, meanTimeMs, maxTimeMs, null);
+    }
+
+    public WarmupStatistics(long count, long errorCount, double minTimeMs, double meanTimeMs, double maxTimeMs, Long convergedAfter) {
+        this.count = count;
+        this.errorCount = errorCount;
+        this.minTimeMs = minTimeMs;
+        this.meanTimeMs = meanTimeMs;
+        this.maxTimeMs = maxTimeMs;
+        this.convergedAfter = convergedAfter;
+    }
+
+    /**
+     * Returns a copy of these statistics with the number of calls it took to converge.
+     *
+     * @param convergedAfter the number of calls, or null if not converged
+     * @return WarmupStatistics carrying the convergence point
+     */
+    public WarmupStatistics withConvergedAfter(Long convergedAfter) {
+        return new WarmupStatistics(count, errorCount, minTimeMs, meanTimeMs, maxTimeMs, convergedAfter);
+    }
+
+    @Override
+    public String toString() {
+        String summary = String.format("calls: %d, errors: %d, min/mean/max: %.2f/%.2f/%.2fms",
+                count, errorCount, minTimeMs, meanTimeMs, maxTimeMs);
+        return convergedAfter != null ? summary + ", converged after: " + convergedAfter : summary;
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.paxytools.warmupdicator.api;
+
+/**
+ * Tier of a warmer, deciding whether readiness waits for it.
+ */
+public enum WarmupTier {
+
+    /**
+     * Readiness is reported UP only once every critical warmer has succeeded.
+     */
+    CRITICAL,
+
+    /**
+     * Runs on a low-priority executor and keeps warming after readiness is reported UP.
+     * Progress is reported separately in the health details.
+     */
+    BACKGROUND
+}
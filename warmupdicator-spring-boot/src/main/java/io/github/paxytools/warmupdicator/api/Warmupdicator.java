@@ -1,5 +1,8 @@
 package io.github.paxytools.warmupdicator.api;
 
+import java.util.Collections;
+import java.util.Set;
+
 /**
  * Interface for warmup indicators.
  * Implementations of this interface can be registered as beans to be automatically
@@ -21,4 +24,36 @@ public interface Warmupdicator {
      * @return a unique identifier
      */
     String getId();
+
+    /**
+     * Whether this warmer should only start once every non-deferred warmer has succeeded.
+     * Deferred warmers are gates that observe the effect of the other warmers,
+     * e.g. a JIT-quiescence gate that waits for compilation to settle.
+     *
+     * @return true to run after all other warmers, false by default
+     */
+    default boolean isDeferred() {
+        return false;
+    }
+
+    /**
+     * Returns the ids of the warmers that must succeed before this warmer starts.
+     * Warmers without dependencies start immediately; the others start as soon as
+     * all of their prerequisites have succeeded.
+     *
+     * @return the ids of the prerequisite warmers, empty by default
+     */
+    default Set<String> dependsOn() {
+        return Collections.emptySet();
+    }
+
+    /**
+     * Returns the tier of this warmer. Readiness only waits for critical warmers,
+     * background warmers keep warming afterwards on a low-priority executor.
+     *
+     * @return the tier, {@link WarmupTier#CRITICAL} by default
+     */
+    default WarmupTier getTier() {
+        return WarmupTier.CRITICAL;
+    }
 }
@@ -0,0 +1,61 @@
+package io.github.paxytools.warmupdicator.config;
+
+import io.github.paxytools.warmupdicator.api.WarmupTier;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for preloading the classes of a recorded class list.
+ */
+@Data
+@SuppressWarnings("ConfigurationProperties")
+@ConfigurationProperties(prefix = "warmupdicator.class-preloader")
+public class ClassPreloaderProperties {
+
+    /**
+     * Enable the class preloader.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Record the classes loaded until the end of warmup into the class list instead of preloading it.
+     */
+    private boolean record = false;
+
+    /**
+     * Path of the class list, one binary class name per line. Prefix it with "classpath:"
+     * to read a list packaged with the application. Recording always writes to a file.
+     */
+    private String file = "warmup-classes.lst";
+
+    /**
+     * Number of workers loading classes concurrently. Class loaders that are not parallel capable
+     * are always used by a single worker.
+     */
+    private int concurrency = 4;
+
+    /**
+     * Run the static initializers of the loaded classes, in list order on a single thread.
+     */
+    private boolean initialize = true;
+
+    /**
+     * Class name patterns that are never preloaded nor recorded.
+     * Supports wildcards like "com.example.legacy.*".
+     */
+    private List<String> excludePatterns = new ArrayList<>();
+
+    /**
+     * If true, a missing class list fails the warmup. Otherwise preloading is skipped,
+     * e.g. on the first deploy before a class list has been recorded.
+     */
+    private boolean failIfMissing = false;
+
+    /**
+     * Tier of the class preloader.
+     */
+    private WarmupTier tier = WarmupTier.CRITICAL;
+}
@@ -0,0 +1,32 @@
+package io.github.paxytools.warmupdicator.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for warming up the HTTP message converters of Spring MVC.
+ */
+@Data
+@SuppressWarnings("ConfigurationProperties")
+@ConfigurationProperties(prefix = "warmupdicator.converter-warmer")
+public class ConverterWarmerProperties {
+
+    /**
+     * Enable message converter warmup.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Body class patterns to exclude from warmup.
+     * Supports wildcards like "*Record" or "*Immutable".
+     */
+    private List<String> excludePatterns = new ArrayList<>();
+
+    /**
+     * Number of failures reported in the warmup result details.
+     */
+    private int reportSize = 10;
+}
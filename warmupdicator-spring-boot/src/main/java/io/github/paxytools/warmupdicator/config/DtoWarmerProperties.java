@@ -3,6 +3,7 @@ package io.github.paxytools.warmupdicator.config;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -24,6 +25,13 @@ public class DtoWarmerProperties {
      * Supports wildcards like "*Record" or "*Immutable".
      */
     private List<String> excludePatterns = new ArrayList<>(List.of("*Record", "*Immutable"));
+
+    /**
+     * Additional DTO types to warm up, as Jackson canonical type names such as
+     * "com.example.Page&lt;com.example.User&gt;". Use it for the bodies of functional endpoints,
+     * whose handlers carry no type information.
+     */
+    private List<String> types = new ArrayList<>();
     
     /**
      * Warm up Jackson serialization by calling objectMapper.writeValueAsBytes(dtoInstance).
@@ -34,10 +42,48 @@ public class DtoWarmerProperties {
      * Warm up Jackson deserialization.
      * 
      * Feasibility is determined by:
-     * 1. For records: Uses Jackson's canDeserialize() capability check
-     * 2. For non-records: Requires successful DTO instantiation and serialization first
+     * 1. Types that can be instantiated: the serialized synthetic instance is read back
+     * 2. Other types: Uses Jackson's canDeserialize() capability check
      * 
      * Default: true (failsafe handling prevents startup failures)
      */
     private boolean warmupDeserialization = true;
+
+    /**
+     * Depth up to which nested DTOs of a synthetic instance are populated.
+     */
+    private int maxDepth = 3;
+
+    /**
+     * Number of elements in the collections, maps and arrays of a synthetic instance.
+     */
+    private int collectionSize = 2;
+
+    /**
+     * Number of DTO types warmed in parallel.
+     */
+    private int concurrency = 4;
+
+    /**
+     * Maximum time spent waiting for a single DTO type. A type that takes longer is reported as timed out
+     * and no longer holds up the warmer. Zero disables the limit.
+     */
+    private Duration classTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Fail the warmup when any DTO type failed or timed out. By default the warmup succeeds and lists
+     * them in the result details, since a DTO that cannot be warmed does not stop the application from serving.
+     */
+    private boolean failOnError = false;
+
+    /**
+     * Number of slowest DTO types, and of failures, reported in the warmup result details.
+     */
+    private int reportSize = 10;
+
+    /**
+     * Read the DTO types from the index generated by Spring AOT processing, when present, instead of
+     * discovering them at startup.
+     */
+    private boolean useIndex = true;
 }
@@ -1,8 +1,10 @@
 package io.github.paxytools.warmupdicator.config;
 
+import io.github.paxytools.warmupdicator.api.WarmupTier;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -24,6 +26,24 @@ public class EndpointWarmerProperties {
      * List of HTTP endpoint warmup targets.
      */
     private List<EndpointProperties> endpoints = new ArrayList<>();
+
+    /**
+     * Client that calls the endpoints.
+     */
+    private Client client = Client.HTTP_CLIENT;
+
+    public enum Client {
+        /**
+         * The JDK HttpClient.
+         */
+        HTTP_CLIENT,
+
+        /**
+         * The application's WebClient, which also warms the client codecs and connector of the application.
+         * Requires spring-webflux.
+         */
+        WEB_CLIENT
+    }
     
     /**
      * Configuration for a single warmup endpoint.
@@ -72,6 +92,72 @@ public class EndpointWarmerProperties {
          */
         private boolean ignoreFailure = false;
 
+        /**
+         * Ids of the warmers that must succeed before this endpoint is called,
+         * e.g. a warmer that fills the database connection pool.
+         */
+        private List<String> dependsOn = new ArrayList<>();
+
+        /**
+         * Tier of this endpoint: critical endpoints hold readiness, background endpoints
+         * are warmed after the application has been reported ready.
+         */
+        private WarmupTier tier = WarmupTier.CRITICAL;
+
+        /**
+         * Number of calls to make to the endpoint during a single warmup attempt.
+         * Values above 1 drive the hot path often enough for the JIT to compile it.
+         * In this mode max-response-time is compared with the mean call latency.
+         */
+        private int iterations = 1;
+
+        /**
+         * Number of calls kept in flight concurrently while iterating.
+         */
+        private int concurrency = 1;
+
+        /**
+         * If true, repeated calls are sent with the non-blocking HTTP client API: up to
+         * concurrency calls are kept in flight without a thread per call, which lets an
+         * HTTP/2 connection multiplex them.
+         */
+        private boolean async = false;
+
+        /**
+         * If set, the endpoint is called repeatedly until this duration has elapsed,
+         * instead of a fixed number of iterations.
+         */
+        private Duration warmupDuration;
+
+        /**
+         * If true, the endpoint is called until its latencies reach a steady state:
+         * the mean and p99 of two consecutive windows of calls drift by no more than
+         * convergence-tolerance. Bounded by max-iterations and, if set, warmup-duration.
+         */
+        private boolean adaptive = false;
+
+        /**
+         * Number of calls per window compared in adaptive mode.
+         */
+        private int convergenceWindow = 100;
+
+        /**
+         * Maximum relative drift of mean and p99 latency between windows for the
+         * latencies to be considered converged (0.1 = 10%).
+         */
+        private double convergenceTolerance = 0.1;
+
+        /**
+         * Hard cap on the number of calls in adaptive mode.
+         */
+        private int maxIterations = 10000;
+
+        /**
+         * Maximum fraction of repeated calls that may fail (exception or unexpected status) for the
+         * warmup to succeed, so that a single transient error does not restart all iterations.
+         */
+        private double maxErrorRate = 0.05;
+
         /**
          * Gets unique name for this endpoint. If name is not set, uses URL with unique suffix.
          */
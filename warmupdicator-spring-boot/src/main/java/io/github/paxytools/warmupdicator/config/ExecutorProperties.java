@@ -0,0 +1,48 @@
+package io.github.paxytools.warmupdicator.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the executor that runs warmers.
+ */
+@Data
+@SuppressWarnings("ConfigurationProperties")
+@ConfigurationProperties(prefix = "warmupdicator.executor")
+public class ExecutorProperties {
+
+    /**
+     * How warmers are executed.
+     * Ignored if the application defines its own Executor bean named "warmupExecutor".
+     */
+    private Mode mode = Mode.BOUNDED;
+
+    /**
+     * Number of threads in bounded mode.
+     */
+    private int poolSize = 16;
+
+    /**
+     * Number of low-priority threads that run background tier warmers.
+     * Ignored if the application defines its own Executor bean named "warmupBackgroundExecutor".
+     */
+    private int backgroundPoolSize = 2;
+
+    public enum Mode {
+        /**
+         * One virtual thread per warmer, on Java 21 and later. Falls back to bounded mode, with a warning,
+         * on JVMs without virtual threads.
+         */
+        VIRTUAL,
+
+        /**
+         * A fixed pool of pool-size platform threads.
+         */
+        BOUNDED,
+
+        /**
+         * The shared ForkJoin common pool.
+         */
+        COMMON
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.paxytools.warmupdicator.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * Configuration properties for the HTTP client used by the endpoint warmers.
+ */
+@Data
+@SuppressWarnings("ConfigurationProperties")
+@ConfigurationProperties(prefix = "warmupdicator.http-client")
+public class HttpClientProperties {
+
+    /**
+     * Preferred HTTP version. HTTP_2 falls back to HTTP/1.1 if the server does not support it.
+     */
+    private HttpClient.Version version = HttpClient.Version.HTTP_2;
+
+    /**
+     * Maximum time to wait for a connection to be established.
+     */
+    private Duration connectTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Redirect policy.
+     */
+    private HttpClient.Redirect followRedirects = HttpClient.Redirect.NORMAL;
+}
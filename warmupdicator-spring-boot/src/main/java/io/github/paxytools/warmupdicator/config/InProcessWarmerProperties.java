@@ -0,0 +1,95 @@
+package io.github.paxytools.warmupdicator.config;
+
+import io.github.paxytools.warmupdicator.api.WarmupTier;
+import io.github.paxytools.warmupdicator.config.EndpointWarmerProperties.EndpointProperties;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration for endpoints warmed up in-process through the DispatcherServlet.
+ */
+@Data
+@SuppressWarnings("ConfigurationProperties")
+@ConfigurationProperties(prefix = "warmupdicator.in-process-warmer")
+public class InProcessWarmerProperties {
+
+    /**
+     * Enable the in-process warmer.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Endpoints to dispatch in-process. Same settings as the endpoint warmer, with url being a path.
+     */
+    private List<EndpointProperties> endpoints = new ArrayList<>();
+
+    /**
+     * Generation of endpoints from the request mappings of the application.
+     */
+    private DiscoveryProperties discovery = new DiscoveryProperties();
+
+    /**
+     * Configuration for generating endpoints from the handler mapping table.
+     */
+    @Data
+    public static class DiscoveryProperties {
+
+        /**
+         * Generate an endpoint for every matching request mapping.
+         */
+        private boolean enabled = false;
+
+        /**
+         * HTTP methods to generate endpoints for. Only add unsafe methods such as POST
+         * if the handlers can be called with synthetic data without side effects.
+         */
+        private List<String> methods = new ArrayList<>(List.of("GET", "HEAD"));
+
+        /**
+         * Ant-style patterns matched against the mapping paths. Empty includes all mappings.
+         */
+        private List<String> includePatterns = new ArrayList<>();
+
+        /**
+         * Ant-style patterns of mapping paths to leave out.
+         */
+        private List<String> excludePatterns = new ArrayList<>(List.of("/error", "/error/**"));
+
+        /**
+         * Sample values for path variables by name. Other path variables get a value derived from their type.
+         */
+        private Map<String, String> pathVariables = new LinkedHashMap<>();
+
+        /**
+         * Sample values for required request parameters and headers by name.
+         * Others get a value derived from their type.
+         */
+        private Map<String, String> requestParams = new LinkedHashMap<>();
+
+        /**
+         * Number of calls per generated endpoint during a single warmup attempt.
+         */
+        private int iterations = 1;
+
+        /**
+         * Maximum acceptable response time of the generated endpoints in milliseconds.
+         */
+        private long maxResponseTime = 1000;
+
+        /**
+         * If true, failures of generated endpoints are logged but do not fail the warmup.
+         * Sample values rarely match existing data, so 404 and 400 responses are common.
+         */
+        private boolean ignoreFailure = true;
+
+        /**
+         * Tier of the generated endpoints.
+         */
+        private WarmupTier tier = WarmupTier.CRITICAL;
+    }
+}
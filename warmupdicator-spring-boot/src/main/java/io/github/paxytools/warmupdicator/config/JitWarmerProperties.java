@@ -0,0 +1,36 @@
+package io.github.paxytools.warmupdicator.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the JIT compilation gate.
+ */
+@Data
+@SuppressWarnings("ConfigurationProperties")
+@ConfigurationProperties(prefix = "warmupdicator.jit-warmer")
+public class JitWarmerProperties {
+
+    /**
+     * Enable the JIT compilation gate.
+     */
+    private boolean enabled = false;
+
+    /**
+     * How long the total JIT compilation time must stay unchanged
+     * before the JIT is considered caught up.
+     */
+    private Duration quietPeriod = Duration.ofSeconds(2);
+
+    /**
+     * Interval at which the compilation time is sampled.
+     */
+    private Duration pollInterval = Duration.ofMillis(200);
+
+    /**
+     * Maximum time to wait for a quiet period. The gate then succeeds with the "timedOut" detail set.
+     */
+    private Duration maxWait = Duration.ofSeconds(60);
+}
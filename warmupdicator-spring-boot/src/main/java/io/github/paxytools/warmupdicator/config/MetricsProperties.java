@@ -0,0 +1,18 @@
+package io.github.paxytools.warmupdicator.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for warmup metrics.
+ */
+@Data
+@SuppressWarnings("ConfigurationProperties")
+@ConfigurationProperties(prefix = "warmupdicator.metrics")
+public class MetricsProperties {
+
+    /**
+     * Publish warmup metrics to the Micrometer MeterRegistry, when there is one.
+     */
+    private boolean enabled = true;
+}
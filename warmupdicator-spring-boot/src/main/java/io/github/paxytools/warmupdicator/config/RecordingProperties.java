@@ -0,0 +1,69 @@
+package io.github.paxytools.warmupdicator.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for sampling live requests into replayable recordings.
+ */
+@Data
+@SuppressWarnings("ConfigurationProperties")
+@ConfigurationProperties(prefix = "warmupdicator.recording")
+public class RecordingProperties {
+
+    /**
+     * Enable the request sampling filter.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Fraction of live requests that are recorded (0.01 = 1%).
+     */
+    private double sampleRate = 0.01;
+
+    /**
+     * Directory the recordings are written to. Point replay-warmer.file at it to replay them.
+     */
+    private String directory = "warmup-recordings";
+
+    /**
+     * Size of a single recording file. A full file is rotated.
+     */
+    private DataSize maxFileSize = DataSize.ofMegabytes(16);
+
+    /**
+     * Number of recording files kept. The oldest file is deleted on rotation,
+     * so recordings never use more than max-files * max-file-size bytes.
+     */
+    private int maxFiles = 3;
+
+    /**
+     * Number of sampled requests buffered between flushes. Samples are dropped while the buffer is full.
+     */
+    private int bufferCapacity = 1024;
+
+    /**
+     * Interval at which buffered samples are written to the recording file.
+     */
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    /**
+     * Largest request body that is recorded. Requests with larger bodies are not sampled.
+     */
+    private DataSize maxBodySize = DataSize.ofKilobytes(8);
+
+    /**
+     * Headers that are never recorded, compared case-insensitively.
+     */
+    private List<String> excludedHeaders = new ArrayList<>(List.of("Authorization", "Cookie", "Proxy-Authorization", "X-Api-Key"));
+
+    /**
+     * Path prefixes that are never recorded.
+     */
+    private List<String> excludedPaths = new ArrayList<>(List.of("/actuator"));
+}
@@ -0,0 +1,83 @@
+package io.github.paxytools.warmupdicator.config;
+
+import io.github.paxytools.warmupdicator.api.WarmupTier;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for replaying recorded traffic during warmup.
+ */
+@Data
+@SuppressWarnings("ConfigurationProperties")
+@ConfigurationProperties(prefix = "warmupdicator.replay-warmer")
+public class ReplayWarmerProperties {
+
+    /**
+     * Enable the replay warmer.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Path of the recorded request log: a JSON lines file, a binary recording file,
+     * or the recording directory of warmupdicator.recording.
+     */
+    private String file;
+
+    /**
+     * Base URL the recorded paths are resolved against.
+     * Defaults to http://localhost on the port the application is listening on.
+     */
+    private String baseUrl;
+
+    /**
+     * Replay speed relative to the recorded pace: 1 replays in real time, 10 ten times faster.
+     * 0 replays as fast as concurrency allows.
+     */
+    private double speedUp = 0;
+
+    /**
+     * Number of requests kept in flight concurrently.
+     */
+    private int concurrency = 4;
+
+    /**
+     * Maximum number of requests to replay, 0 for the whole log.
+     */
+    private int maxRequests = 0;
+
+    /**
+     * Timeout of a single replayed request in milliseconds.
+     */
+    private long requestTimeout = 5000;
+
+    /**
+     * Maximum fraction of replayed requests that may fail (exception or 5xx) for the warmup to succeed.
+     * Client errors are expected in real traffic and are not counted.
+     */
+    private double maxErrorRate = 0.1;
+
+    /**
+     * HTTP methods that are replayed, other recorded requests are skipped. Only add unsafe methods
+     * such as POST if replaying them against this instance has no side effects.
+     */
+    private List<String> methods = new ArrayList<>(List.of("GET", "HEAD"));
+
+    /**
+     * Recorded headers that are never replayed, compared case-insensitively.
+     */
+    private List<String> excludedHeaders = new ArrayList<>(List.of("Authorization", "Cookie", "Proxy-Authorization", "X-Api-Key"));
+
+    /**
+     * If true, a missing request log fails the warmup. Otherwise the replay is skipped,
+     * e.g. on the first deploy before any traffic has been recorded.
+     */
+    private boolean failIfMissing = false;
+
+    /**
+     * Tier of the replay warmer.
+     */
+    private WarmupTier tier = WarmupTier.CRITICAL;
+}
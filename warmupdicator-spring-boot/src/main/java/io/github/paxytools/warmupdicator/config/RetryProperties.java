@@ -0,0 +1,58 @@
+package io.github.paxytools.warmupdicator.config;
+
+import io.github.paxytools.warmupdicator.api.FailureType;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Configuration properties for retrying failed warmers.
+ */
+@Data
+@SuppressWarnings("ConfigurationProperties")
+@ConfigurationProperties(prefix = "warmupdicator.retry")
+public class RetryProperties {
+
+    /**
+     * Delay before the first retry of a failed warmer.
+     */
+    private Duration initialBackoff = Duration.ofMillis(200);
+
+    /**
+     * Upper bound for the delay between retries.
+     */
+    private Duration maxBackoff = Duration.ofSeconds(10);
+
+    /**
+     * Factor by which the delay grows with every retry.
+     */
+    private double multiplier = 2.0;
+
+    /**
+     * Random deviation applied to every delay (0.2 = up to 20% shorter or longer).
+     */
+    private double jitter = 0.2;
+
+    /**
+     * Maximum number of attempts per warmer (0 = unlimited).
+     */
+    private int maxAttempts = 0;
+
+    /**
+     * Maximum number of attempts across all warmers (0 = unlimited).
+     */
+    private int maxTotalAttempts = 0;
+
+    /**
+     * Overall deadline for the warmup. No further attempts are made once it has passed.
+     */
+    private Duration deadline;
+
+    /**
+     * Failure types that are considered permanent and are not retried.
+     */
+    private Set<FailureType> nonRetryableFailures = EnumSet.of(FailureType.CLIENT_ERROR, FailureType.CONNECTION_REFUSED);
+}
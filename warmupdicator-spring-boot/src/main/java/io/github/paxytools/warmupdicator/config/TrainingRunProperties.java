@@ -0,0 +1,37 @@
+package io.github.paxytools.warmupdicator.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for CDS training runs.
+ */
+@Data
+@SuppressWarnings("ConfigurationProperties")
+@ConfigurationProperties(prefix = "warmupdicator.training-run")
+public class TrainingRunProperties {
+
+    /**
+     * Exit the application once every warmer has finished, so that a JVM started with
+     * -XX:ArchiveClassesAtExit writes a CDS archive of the classes the warmup loaded.
+     */
+    private boolean enabled = false;
+
+    /**
+     * CDS archive file shown in the suggested JVM flags.
+     */
+    private String archiveFile = "application.jsa";
+
+    /**
+     * Exit code used when a warmer gave up, so that a build baking the archive fails.
+     */
+    private int failureExitCode = 1;
+
+    /**
+     * Maximum time to wait for the warmup before exiting with the failure exit code, so that a run whose
+     * warmers keep retrying does not hang the build. Zero disables the limit.
+     */
+    private Duration timeout = Duration.ofMinutes(30);
+}
@@ -1,28 +1,66 @@
 package io.github.paxytools.warmupdicator.config;
 
+import io.github.paxytools.warmupdicator.api.WarmupListener;
+import io.github.paxytools.warmupdicator.api.WarmupRetryPolicy;
 import io.github.paxytools.warmupdicator.api.Warmupdicator;
+import io.github.paxytools.warmupdicator.config.EndpointWarmerProperties.EndpointProperties;
+import io.github.paxytools.warmupdicator.endpoint.WarmupEndpoint;
+import io.github.paxytools.warmupdicator.endpoint.WarmupProgressStream;
 import io.github.paxytools.warmupdicator.health.WarmupHealthIndicator;
+import io.github.paxytools.warmupdicator.impl.ClassPreloadWarmupdicator;
+import io.github.paxytools.warmupdicator.impl.DispatcherServletWarmupdicator;
 import io.github.paxytools.warmupdicator.impl.DtoWarmupIndicator;
+import io.github.paxytools.warmupdicator.impl.EndpointDiscovery;
 import io.github.paxytools.warmupdicator.impl.EndpointWarmupdicator;
+import io.github.paxytools.warmupdicator.impl.JitCompilationWarmupdicator;
+import io.github.paxytools.warmupdicator.impl.MessageConverterWarmupdicator;
+import io.github.paxytools.warmupdicator.impl.ReplayWarmupdicator;
+import io.github.paxytools.warmupdicator.impl.WebClientWarmupdicator;
+import io.github.paxytools.warmupdicator.metrics.WarmupMetrics;
+import io.github.paxytools.warmupdicator.recording.ClassLoadRecorder;
+import io.github.paxytools.warmupdicator.recording.RecordingReader;
+import io.github.paxytools.warmupdicator.recording.RequestRecorder;
+import io.github.paxytools.warmupdicator.recording.RequestSamplingFilter;
+import io.github.paxytools.warmupdicator.service.ExponentialBackoffRetryPolicy;
+import io.github.paxytools.warmupdicator.service.TrainingRun;
+import io.github.paxytools.warmupdicator.service.WarmupExecutors;
 import io.github.paxytools.warmupdicator.service.WarmupService;
+import io.github.paxytools.warmupdicator.service.WarmupSnapshot;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
 import org.springframework.boot.actuate.autoconfigure.health.ConditionalOnEnabledHealthIndicator;
 import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ResourceLoader;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 import org.springframework.beans.factory.annotation.Qualifier;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletContext;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Set;
 
 import java.net.http.HttpClient;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
@@ -37,6 +75,7 @@ public class WarmupdicatorConfiguration {
     @Bean
     @ConditionalOnMissingBean
     @ConditionalOnProperty(prefix = "warmupdicator.endpoint-warmer", name = "enabled", havingValue = "true", matchIfMissing = true)
+    @ConditionalOnProperty(prefix = "warmupdicator.endpoint-warmer", name = "client", havingValue = "http-client", matchIfMissing = true)
     public List<EndpointWarmupdicator> endpointWarmupdicators(WarmupdicatorProperties properties, HttpClient httpClient) {
         return properties.getEndpointWarmer().getEndpoints().stream()
                 .map(endpoint -> new EndpointWarmupdicator(endpoint, httpClient))
@@ -45,24 +84,115 @@ public class WarmupdicatorConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    @ConditionalOnProperty(prefix = "warmupdicator.dto-warmer", name = "enabled", havingValue = "true")
-    public DtoWarmupIndicator dtoWarmupIndicator(WarmupdicatorProperties properties, ObjectMapper objectMapper, @Qualifier("requestMappingHandlerMapping") RequestMappingHandlerMapping handlerMapping) {
-        return new DtoWarmupIndicator(properties.getDtoWarmer(), objectMapper, handlerMapping);
+    @ConditionalOnProperty(prefix = "warmupdicator.jit-warmer", name = "enabled", havingValue = "true")
+    public JitCompilationWarmupdicator jitCompilationWarmupdicator(WarmupdicatorProperties properties) {
+        return new JitCompilationWarmupdicator(properties.getJitWarmer());
+    }
+
+    /**
+     * Replays recorded traffic. The base URL defaults to the port the application is listening on.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "warmupdicator.replay-warmer", name = "enabled", havingValue = "true")
+    public ReplayWarmupdicator replayWarmupdicator(WarmupdicatorProperties properties, HttpClient httpClient, ObjectMapper objectMapper, Environment environment) {
+        ReplayWarmerProperties replay = properties.getReplayWarmer();
+        return new ReplayWarmupdicator(replay, httpClient, new RecordingReader(objectMapper),
+                () -> replay.getBaseUrl() != null
+                        ? replay.getBaseUrl()
+                        : "http://localhost:" + environment.getProperty("local.server.port", environment.getProperty("server.port", "8080")));
+    }
+
+    /**
+     * Preloads the classes of a class list recorded by a previous run.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "warmupdicator.class-preloader", name = "enabled", havingValue = "true")
+    @ConditionalOnProperty(prefix = "warmupdicator.class-preloader", name = "record", havingValue = "false", matchIfMissing = true)
+    public ClassPreloadWarmupdicator classPreloadWarmupdicator(WarmupdicatorProperties properties, ResourceLoader resourceLoader) {
+        return new ClassPreloadWarmupdicator(properties.getClassPreloader(), resourceLoader.getClassLoader());
+    }
+
+    /**
+     * Records the loaded classes into the class list once every warmer has finished. Preloading is off
+     * while recording, so that the list only holds the classes the application actually loads.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "warmupdicator.class-preloader", name = "enabled", havingValue = "true")
+    @ConditionalOnProperty(prefix = "warmupdicator.class-preloader", name = "record", havingValue = "true")
+    public ClassLoadRecorder classLoadRecorder(WarmupdicatorProperties properties, ResourceLoader resourceLoader, WarmupService warmupService) {
+        ClassLoadRecorder recorder = new ClassLoadRecorder(properties.getClassPreloader(), resourceLoader.getClassLoader());
+        warmupService.whenFinished().thenRun(recorder::write);
+        return recorder;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public WarmupRetryPolicy warmupRetryPolicy(WarmupdicatorProperties properties) {
+        return new ExponentialBackoffRetryPolicy(properties.getRetry());
+    }
+
+    /**
+     * Executor that runs warmers. Define a bean named "warmupExecutor" to supply your own.
+     */
+    @Bean(name = "warmupExecutor", destroyMethod = "shutdown")
+    @ConditionalOnMissingBean(name = "warmupExecutor")
+    public Executor warmupExecutor(WarmupdicatorProperties properties) {
+        return WarmupExecutors.create(properties.getExecutor());
+    }
+
+    /**
+     * Low-priority executor that runs background tier warmers. Define a bean named "warmupBackgroundExecutor" to supply your own.
+     */
+    @Bean(name = "warmupBackgroundExecutor", destroyMethod = "shutdown")
+    @ConditionalOnMissingBean(name = "warmupBackgroundExecutor")
+    public Executor warmupBackgroundExecutor(WarmupdicatorProperties properties) {
+        return WarmupExecutors.createBackground(properties.getExecutor());
     }
 
     @Bean
     public WarmupService warmupService(
             ObjectProvider<List<Warmupdicator>> componentsWarmupdicatorProvider,
             ObjectProvider<List<EndpointWarmupdicator>> endpointWarmupdicatorProvider,
-            ObjectProvider<DtoWarmupIndicator> dtoWarmupIndicatorProvider
+            ObjectProvider<List<WebClientWarmupdicator>> webClientWarmupdicatorProvider,
+            ObjectProvider<List<DispatcherServletWarmupdicator>> dispatcherServletWarmupdicatorProvider,
+            ObjectProvider<DtoWarmupIndicator> dtoWarmupIndicatorProvider,
+            ObjectProvider<MessageConverterWarmupdicator> messageConverterWarmupdicatorProvider,
+            ObjectProvider<JitCompilationWarmupdicator> jitCompilationWarmupdicatorProvider,
+            ObjectProvider<ReplayWarmupdicator> replayWarmupdicatorProvider,
+            ObjectProvider<ClassPreloadWarmupdicator> classPreloadWarmupdicatorProvider,
+            ObjectProvider<WarmupListener> warmupListeners,
+            WarmupRetryPolicy warmupRetryPolicy,
+            @Qualifier("warmupExecutor") Executor warmupExecutor,
+            @Qualifier("warmupBackgroundExecutor") Executor warmupBackgroundExecutor
     ) {
         Set<Warmupdicator> allWarmers = new HashSet<>();
 
         componentsWarmupdicatorProvider.ifAvailable(allWarmers::addAll);
         endpointWarmupdicatorProvider.ifAvailable(allWarmers::addAll);
+        webClientWarmupdicatorProvider.ifAvailable(allWarmers::addAll);
+        dispatcherServletWarmupdicatorProvider.ifAvailable(allWarmers::addAll);
         dtoWarmupIndicatorProvider.ifAvailable(allWarmers::add);
+        messageConverterWarmupdicatorProvider.ifAvailable(allWarmers::add);
+        jitCompilationWarmupdicatorProvider.ifAvailable(allWarmers::add);
+        replayWarmupdicatorProvider.ifAvailable(allWarmers::add);
+        classPreloadWarmupdicatorProvider.ifAvailable(allWarmers::add);
+
+        WarmupService warmupService = new WarmupService(allWarmers, warmupRetryPolicy, warmupExecutor, warmupBackgroundExecutor);
+        warmupListeners.orderedStream().forEach(warmupService::addListener);
+        return warmupService;
+    }
 
-        return new WarmupService(allWarmers);
+    /**
+     * Exits the application once every warmer has finished, to record a CDS archive of the warmed up application.
+     */
+    @Bean(initMethod = "start")
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "warmupdicator.training-run", name = "enabled", havingValue = "true")
+    public TrainingRun trainingRun(WarmupdicatorProperties properties, WarmupService warmupService, ConfigurableApplicationContext context) {
+        return new TrainingRun(properties.getTrainingRun(), warmupService, context);
     }
 
     @Bean
@@ -72,17 +202,242 @@ public class WarmupdicatorConfiguration {
         return new WarmupHealthIndicator(warmupService, properties);
     }
 
+    /**
+     * Exposes the state of every warmer and runs them again on request, once exposed with
+     * management.endpoints.web.exposure.include=warmup.
+     */
+    @Bean
+    @ConditionalOnAvailableEndpoint
+    @ConditionalOnMissingBean
+    public WarmupEndpoint warmupEndpoint(WarmupService warmupService) {
+        return new WarmupEndpoint(warmupService);
+    }
+
     @Bean
     @ConditionalOnMissingBean
     public WarmupdicatorProperties warmupdicatorProperties() {
         return new WarmupdicatorProperties();
     }
 
+    /**
+     * HTTP client for the endpoint warmers. It keeps its own default executor: the warmers block in
+     * {@code send()} on the warmup executor, so sharing that pool would leave no thread to complete the responses.
+     */
     @Bean
     @ConditionalOnMissingBean
-    public HttpClient httpClient() {
-        return HttpClient.newBuilder()
-                .followRedirects(HttpClient.Redirect.NORMAL)
-                .build();
+    public HttpClient httpClient(WarmupdicatorProperties properties) {
+        HttpClientProperties httpClientProperties = properties.getHttpClient();
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(httpClientProperties.getVersion())
+                .followRedirects(httpClientProperties.getFollowRedirects());
+        if (httpClientProperties.getConnectTimeout() != null) {
+            builder.connectTimeout(httpClientProperties.getConnectTimeout());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Warms up the DTOs of Spring MVC controllers.
+     * Nested so that the servlet classes are only loaded in servlet applications.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.web.servlet.DispatcherServlet")
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnProperty(prefix = "warmupdicator.dto-warmer", name = "enabled", havingValue = "true")
+    static class ServletDtoWarmerConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public DtoWarmupIndicator dtoWarmupIndicator(WarmupdicatorProperties properties, ObjectMapper objectMapper, @Qualifier("requestMappingHandlerMapping") RequestMappingHandlerMapping handlerMapping) {
+            return new DtoWarmupIndicator(properties.getDtoWarmer(), objectMapper, handlerMapping);
+        }
+    }
+
+    /**
+     * Warms up the HTTP message converters of Spring MVC through the handler adapter's converter chain.
+     * Nested so that the servlet classes are only loaded in servlet applications.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.web.servlet.DispatcherServlet")
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnProperty(prefix = "warmupdicator.converter-warmer", name = "enabled", havingValue = "true")
+    static class ConverterWarmerConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public MessageConverterWarmupdicator messageConverterWarmupdicator(
+                WarmupdicatorProperties properties,
+                @Qualifier("requestMappingHandlerMapping") RequestMappingHandlerMapping handlerMapping,
+                RequestMappingHandlerAdapter handlerAdapter
+        ) {
+            return new MessageConverterWarmupdicator(properties.getConverterWarmer(), handlerMapping, handlerAdapter.getMessageConverters());
+        }
+    }
+
+    /**
+     * Warms up the DTOs of WebFlux controllers, unwrapping Mono, Flux and other reactive types.
+     * Nested so that the WebFlux classes are only loaded in reactive applications.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.web.reactive.DispatcherHandler")
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    @ConditionalOnProperty(prefix = "warmupdicator.dto-warmer", name = "enabled", havingValue = "true")
+    static class ReactiveDtoWarmerConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public DtoWarmupIndicator dtoWarmupIndicator(
+                WarmupdicatorProperties properties,
+                ObjectMapper objectMapper,
+                @Qualifier("requestMappingHandlerMapping") org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping handlerMapping
+        ) {
+            return new DtoWarmupIndicator(properties.getDtoWarmer(), objectMapper, () -> handlerMapping.getHandlerMethods().values());
+        }
+    }
+
+    /**
+     * Calls the endpoint warmer endpoints with the application's WebClient.
+     * Nested so that the WebFlux classes are only loaded when endpoint-warmer.client is web-client.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.web.reactive.function.client.WebClient")
+    @ConditionalOnProperty(prefix = "warmupdicator.endpoint-warmer", name = "enabled", havingValue = "true", matchIfMissing = true)
+    @ConditionalOnProperty(prefix = "warmupdicator.endpoint-warmer", name = "client", havingValue = "web-client")
+    static class WebClientWarmerConfiguration {
+
+        /**
+         * Uses the auto-configured WebClient.Builder when there is one, so that the application's codecs and connector are warmed.
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public List<WebClientWarmupdicator> webClientWarmupdicators(WarmupdicatorProperties properties, ObjectProvider<WebClient.Builder> webClientBuilderProvider) {
+            WebClient webClient = webClientBuilderProvider.getIfAvailable(WebClient::builder).build();
+            return properties.getEndpointWarmer().getEndpoints().stream()
+                    .map(endpoint -> new WebClientWarmupdicator(endpoint, webClient))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Warms up endpoints in-process through the DispatcherServlet.
+     * Nested so that the servlet classes are only loaded in servlet applications.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.web.servlet.DispatcherServlet")
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnProperty(prefix = "warmupdicator.in-process-warmer", name = "enabled", havingValue = "true")
+    static class InProcessWarmerConfiguration {
+
+        /**
+         * Has the container initialize the DispatcherServlet at startup, so that it is ready when the warmup
+         * dispatches to it. An explicit spring.mvc.servlet.load-on-startup is left as configured.
+         */
+        @Bean
+        static BeanPostProcessor dispatcherServletLoadOnStartup(Environment environment) {
+            boolean configured = environment.containsProperty("spring.mvc.servlet.load-on-startup");
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                    if (!configured && bean instanceof ServletRegistrationBean<?> registration
+                            && registration.getServlet() instanceof DispatcherServlet) {
+                        registration.setLoadOnStartup(1);
+                    }
+                    return bean;
+                }
+            };
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        public List<DispatcherServletWarmupdicator> dispatcherServletWarmupdicators(
+                WarmupdicatorProperties properties,
+                DispatcherServlet dispatcherServlet,
+                ServletContext servletContext,
+                @Qualifier("requestMappingHandlerMapping") ObjectProvider<RequestMappingHandlerMapping> handlerMappingProvider,
+                ObjectProvider<ObjectMapper> objectMapperProvider
+        ) {
+            InProcessWarmerProperties inProcess = properties.getInProcessWarmer();
+            List<EndpointProperties> endpoints = new ArrayList<>(inProcess.getEndpoints());
+            if (inProcess.getDiscovery().isEnabled()) {
+                // A configured endpoint named like a discovered one, e.g. "GET /users/{id}", replaces it
+                Set<String> configuredNames = endpoints.stream().map(EndpointProperties::getName).collect(Collectors.toSet());
+                new EndpointDiscovery(inProcess.getDiscovery(), handlerMappingProvider.getObject(), objectMapperProvider.getIfAvailable(ObjectMapper::new))
+                        .discover().stream()
+                        .filter(endpoint -> !configuredNames.contains(endpoint.getName()))
+                        .forEach(endpoints::add);
+            }
+            return endpoints.stream()
+                    .map(endpoint -> new DispatcherServletWarmupdicator(endpoint, dispatcherServlet, servletContext))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Samples live requests into recordings for the replay warmer.
+     * Nested so that the servlet classes are only loaded in servlet applications.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "jakarta.servlet.Filter")
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnProperty(prefix = "warmupdicator.recording", name = "enabled", havingValue = "true")
+    static class RequestRecordingConfiguration {
+
+        @Bean(destroyMethod = "close")
+        @ConditionalOnMissingBean
+        public RequestRecorder requestRecorder(WarmupdicatorProperties properties) {
+            return new RequestRecorder(properties.getRecording());
+        }
+
+        /**
+         * Only records once the warmup, including background warmers, is over, so that warmup traffic is not recorded.
+         */
+        @Bean
+        @ConditionalOnMissingBean(name = "requestSamplingFilter")
+        public FilterRegistrationBean<RequestSamplingFilter> requestSamplingFilter(WarmupdicatorProperties properties, RequestRecorder requestRecorder, WarmupService warmupService) {
+            RequestSamplingFilter filter = new RequestSamplingFilter(properties.getRecording(), requestRecorder,
+                    () -> {
+                        WarmupSnapshot snapshot = warmupService.getSnapshot();
+                        return snapshot.isWarmedUp() && snapshot.isBackgroundFinished();
+                    });
+            FilterRegistrationBean<RequestSamplingFilter> registration = new FilterRegistrationBean<>(filter);
+            registration.setOrder(Ordered.LOWEST_PRECEDENCE);
+            return registration;
+        }
+    }
+
+    /**
+     * Streams the progress of the warmup as Server-Sent Events when the warmup endpoint is available.
+     * Nested so that the servlet classes are only loaded in servlet applications.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.web.servlet.DispatcherServlet")
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnAvailableEndpoint(endpoint = WarmupEndpoint.class)
+    static class WarmupProgressStreamConfiguration {
+
+        /**
+         * The warmup service is looked up lazily, since the stream is one of its listeners.
+         */
+        @Bean(destroyMethod = "close")
+        @ConditionalOnMissingBean
+        public WarmupProgressStream warmupProgressStream(ObjectProvider<WarmupService> warmupServiceProvider) {
+            return new WarmupProgressStream(warmupServiceProvider::getObject);
+        }
+    }
+
+    /**
+     * Publishes warmup metrics to the Micrometer registry.
+     * Nested so that the Micrometer classes are only loaded when Micrometer is present.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    @ConditionalOnProperty(prefix = "warmupdicator.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+    static class MetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public WarmupMetrics warmupMetrics(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+            return new WarmupMetrics(meterRegistryProvider::getIfAvailable);
+        }
     }
 }
@@ -26,9 +26,64 @@ public class WarmupdicatorProperties {
      */
     private DtoWarmerProperties dtoWarmer = new DtoWarmerProperties();
 
+    /**
+     * HTTP message converter warmup configuration.
+     */
+    private ConverterWarmerProperties converterWarmer = new ConverterWarmerProperties();
+
     /**
      * HTTP endpoint warmup configuration.
      */
     private EndpointWarmerProperties endpointWarmer = new EndpointWarmerProperties();
+
+    /**
+     * JIT compilation gate configuration.
+     */
+    private JitWarmerProperties jitWarmer = new JitWarmerProperties();
+
+    /**
+     * In-process DispatcherServlet warmup configuration.
+     */
+    private InProcessWarmerProperties inProcessWarmer = new InProcessWarmerProperties();
+
+    /**
+     * Recorded traffic replay configuration.
+     */
+    private ReplayWarmerProperties replayWarmer = new ReplayWarmerProperties();
+
+    /**
+     * Live request sampling configuration.
+     */
+    private RecordingProperties recording = new RecordingProperties();
+
+    /**
+     * Class list preloading and recording configuration.
+     */
+    private ClassPreloaderProperties classPreloader = new ClassPreloaderProperties();
+
+    /**
+     * CDS training run configuration.
+     */
+    private TrainingRunProperties trainingRun = new TrainingRunProperties();
+
+    /**
+     * Micrometer metrics configuration.
+     */
+    private MetricsProperties metrics = new MetricsProperties();
+
+    /**
+     * Retry policy configuration for failed warmers.
+     */
+    private RetryProperties retry = new RetryProperties();
+
+    /**
+     * Executor configuration for running warmers.
+     */
+    private ExecutorProperties executor = new ExecutorProperties();
+
+    /**
+     * HTTP client configuration for endpoint warmers.
+     */
+    private HttpClientProperties httpClient = new HttpClientProperties();
     
 }
@@ -0,0 +1,113 @@
+package io.github.paxytools.warmupdicator.endpoint;
+
+import io.github.paxytools.warmupdicator.api.WarmerState;
+import io.github.paxytools.warmupdicator.service.WarmupService;
+import io.github.paxytools.warmupdicator.service.WarmupSnapshot;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.OperationResponseBody;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Actuator endpoint exposing the state of every warmer, and re-running all or some of them.
+ * <ul>
+ *     <li>{@code GET /actuator/warmup}: the overall state and the state of every warmer</li>
+ *     <li>{@code GET /actuator/warmup/{id}}: the state of a single warmer</li>
+ *     <li>{@code POST /actuator/warmup}: runs the warmers given as a comma separated {@code warmers} list
+ *     again, or all warmers without it, and returns right away</li>
+ * </ul>
+ * In servlet applications the progress of a run is streamed by {@link WarmupProgressStream}.
+ */
+@Endpoint(id = "warmup")
+@RequiredArgsConstructor
+public class WarmupEndpoint {
+
+    private final WarmupService warmupService;
+
+    @ReadOperation
+    public WarmupDescriptor warmup() {
+        return WarmupDescriptor.of(warmupService);
+    }
+
+    @ReadOperation
+    public WarmerState warmer(@Selector String id) {
+        return warmupService.getWarmerStates().get(id);
+    }
+
+    @WriteOperation
+    public RewarmDescriptor rewarm(@Nullable List<String> warmers) {
+        List<String> ids = warmers != null ? warmers : List.of();
+        try {
+            warmupService.rewarm(ids);
+            return new RewarmDescriptor(true, ids.isEmpty() ? List.copyOf(warmupService.getWarmerStates().keySet()) : ids, null);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), e.getMessage());
+        } catch (IllegalStateException e) {
+            return new RewarmDescriptor(false, ids, e.getMessage());
+        }
+    }
+
+    /**
+     * Overall state of the warmup and the state of every warmer in the current or last run.
+     */
+    @Getter
+    public static class WarmupDescriptor implements OperationResponseBody {
+        private final boolean running;
+        private final boolean warmedUp;
+        private final boolean backgroundWarmedUp;
+        private final boolean backgroundFinished;
+        private final long timeMs;
+        private final int tries;
+        private final Map<String, WarmerState> warmers;
+
+        private WarmupDescriptor(boolean running, boolean warmedUp, boolean backgroundWarmedUp, boolean backgroundFinished,
+                                 long timeMs, int tries, Map<String, WarmerState> warmers) {
+            this.running = running;
+            this.warmedUp = warmedUp;
+            this.backgroundWarmedUp = backgroundWarmedUp;
+            this.backgroundFinished = backgroundFinished;
+            this.timeMs = timeMs;
+            this.tries = tries;
+            this.warmers = warmers;
+        }
+
+        static WarmupDescriptor of(WarmupService warmupService) {
+            WarmupSnapshot snapshot = warmupService.getSnapshot();
+            return new WarmupDescriptor(snapshot.isRunning(), snapshot.isWarmedUp(), snapshot.isBackgroundWarmedUp(),
+                    snapshot.isBackgroundFinished(), snapshot.getTotalTimeMs(), snapshot.getTotalTries(), snapshot.getWarmerStates());
+        }
+    }
+
+    /**
+     * Outcome of a request to run warmers again.
+     */
+    @Getter
+    public static class RewarmDescriptor implements OperationResponseBody {
+
+        /**
+         * Whether the run was started, false if a warmup is already running.
+         */
+        private final boolean started;
+
+        private final List<String> warmers;
+
+        /**
+         * Why the run was not started, null if it was.
+         */
+        private final String message;
+
+        RewarmDescriptor(boolean started, List<String> warmers, String message) {
+            this.started = started;
+            this.warmers = warmers;
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package io.github.paxytools.warmupdicator.endpoint;
+
+import io.github.paxytools.warmupdicator.api.WarmupListener;
+import io.github.paxytools.warmupdicator.api.WarmupResult;
+import io.github.paxytools.warmupdicator.api.Warmupdicator;
+import io.github.paxytools.warmupdicator.service.WarmupExecutors;
+import io.github.paxytools.warmupdicator.service.WarmupService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * Streams the progress of a warmup run as Server-Sent Events, next to the {@link WarmupEndpoint}.
+ * <p>
+ * A client first receives a {@code state} event with the current state. While a warmup runs, it then receives
+ * {@code warmup-started}, {@code attempt-started}, {@code attempt-finished}, {@code warmer-finished} and
+ * {@code warmup-finished} events, and the stream ends with a {@code run-finished} event holding the final state.
+ * When no warmup runs the stream ends right after the {@code state} event.
+ * <p>
+ * Events are sent from a single thread, so that slow clients do not hold up the warmers.
+ */
+@Slf4j
+@RestController
+public class WarmupProgressStream implements WarmupListener, Closeable {
+
+    private final Supplier<WarmupService> warmupService;
+    private final Set<SseEmitter> emitters = ConcurrentHashMap.newKeySet();
+    private final ExecutorService sender = WarmupExecutors.newBoundedExecutor(1, "warmup-progress-");
+
+    /**
+     * Creates a stream that looks the warmup service up lazily, since the stream is one of its listeners.
+     */
+    public WarmupProgressStream(Supplier<WarmupService> warmupService) {
+        this.warmupService = warmupService;
+    }
+
+    @GetMapping(path = "${management.endpoints.web.base-path:/actuator}/warmup/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        SseEmitter emitter = new SseEmitter();
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+        emitters.add(emitter);
+        WarmupEndpoint.WarmupDescriptor state = WarmupEndpoint.WarmupDescriptor.of(warmupService.get());
+        send(emitter, "state", state);
+        if (!state.isRunning()) {
+            complete(emitter);
+        }
+        return emitter;
+    }
+
+    @Override
+    public void warmupStarted(Collection<Warmupdicator> warmers) {
+        broadcast("warmup-started", () -> Map.of("warmers", warmers.stream().map(Warmupdicator::getId).sorted().toList()));
+    }
+
+    @Override
+    public void attemptStarted(Warmupdicator warmer, int attempt) {
+        broadcast("attempt-started", () -> warmupService.get().getWarmerStates().get(warmer.getId()));
+    }
+
+    @Override
+    public void attemptFinished(Warmupdicator warmer, int attempt, WarmupResult result, Duration duration) {
+        broadcast("attempt-finished", () -> {
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("id", warmer.getId());
+            data.put("attempt", attempt);
+            data.put("durationMs", duration.toMillis());
+            data.put("result", result);
+            return data;
+        });
+    }
+
+    @Override
+    public void warmerFinished(Warmupdicator warmer, WarmupResult result) {
+        broadcast("warmer-finished", () -> warmupService.get().getWarmerStates().get(warmer.getId()));
+    }
+
+    @Override
+    public void warmupFinished(boolean succeeded, Duration duration) {
+        broadcast("warmup-finished", () -> Map.of("succeeded", succeeded, "timeMs", duration.toMillis()));
+    }
+
+    @Override
+    public void runFinished() {
+        if (emitters.isEmpty()) {
+            return;
+        }
+        sender.execute(() -> {
+            Object state = WarmupEndpoint.WarmupDescriptor.of(warmupService.get());
+            for (SseEmitter emitter : emitters) {
+                send(emitter, "run-finished", state);
+                complete(emitter);
+            }
+        });
+    }
+
+    /**
+     * Sends the event to every connected client. The data is only built when a client is connected,
+     * on the calling thread, so that it reflects the state at the time of the event.
+     */
+    private void broadcast(String name, Supplier<Object> data) {
+        if (emitters.isEmpty()) {
+            return;
+        }
+        Object eventData = data.get();
+        sender.execute(() -> emitters.forEach(emitter -> send(emitter, name, eventData)));
+    }
+
+    private void send(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping warmup progress client: {}", e.toString());
+            emitters.remove(emitter);
+        }
+    }
+
+    private void complete(SseEmitter emitter) {
+        if (emitters.remove(emitter)) {
+            emitter.complete();
+        }
+    }
+
+    @Override
+    public void close() {
+        emitters.forEach(SseEmitter::complete);
+        emitters.clear();
+        sender.shutdownNow();
+    }
+}
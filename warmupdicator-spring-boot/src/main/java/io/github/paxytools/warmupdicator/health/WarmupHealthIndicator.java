@@ -2,15 +2,22 @@ package io.github.paxytools.warmupdicator.health;
 
 import io.github.paxytools.warmupdicator.config.WarmupdicatorProperties;
 import io.github.paxytools.warmupdicator.service.WarmupService;
+import io.github.paxytools.warmupdicator.service.WarmupSnapshot;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
  * Health indicator that reports the status of warmup checks.
+ * <p>
+ * The status is UP once the critical warmers have succeeded. Progress of the background
+ * warmers is reported in the "background" detail and does not affect the status.
+ * <p>
+ * Probes call this indicator every few seconds while the state rarely changes, so the Health is
+ * built from a {@link WarmupSnapshot} and served from a cache until the snapshot version changes.
  */
 @RequiredArgsConstructor
 public class WarmupHealthIndicator implements HealthIndicator {
@@ -18,26 +25,56 @@ public class WarmupHealthIndicator implements HealthIndicator {
     private final WarmupService warmupService;
     private final WarmupdicatorProperties properties;
 
+    private volatile CachedHealth cached;
+
     @Override
     public Health health() {
-        boolean isWarmedUp = warmupService.isWarmedUp();
+        WarmupSnapshot snapshot = warmupService.getSnapshot();
+        boolean showDetails = properties.isShowDetails();
+        CachedHealth current = cached;
+        if (current == null || current.version() != snapshot.getVersion() || current.showDetails() != showDetails) {
+            current = new CachedHealth(snapshot.getVersion(), showDetails, build(snapshot, showDetails));
+            cached = current;
+        }
+        return current.health();
+    }
+
+    private static Health build(WarmupSnapshot snapshot, boolean showDetails) {
+        boolean isWarmedUp = snapshot.isWarmedUp();
         Health.Builder builder = isWarmedUp ? Health.up() : Health.down();
 
         // Add simplified status information
         String status = isWarmedUp ? "OK" : "FAIL";
         builder.withDetail("status", status);
-        builder.withDetail("timeMs", warmupService.getTotalTimeMs());
-        builder.withDetail("tries", warmupService.getTotalTries());
+        builder.withDetail("timeMs", snapshot.getTotalTimeMs());
+        builder.withDetail("tries", snapshot.getTotalTries());
+
+        if (snapshot.getBackgroundTotal() > 0) {
+            Map<String, Object> background = new LinkedHashMap<>();
+            background.put("status", snapshot.isBackgroundWarmedUp() ? "OK" : snapshot.isBackgroundFinished() ? "FAIL" : "WARMING");
+            background.put("progress", snapshot.getBackgroundSucceeded() + "/" + snapshot.getBackgroundTotal());
+            builder.withDetail("background", background);
+        }
 
         // Add detailed information if enabled
-        if (properties.isShowDetails()) {
-            Map<String, Object> details = new HashMap<>();
+        if (showDetails) {
+            Map<String, Object> details = new LinkedHashMap<>();
 
-            warmupService.getResults().forEach((id, result) -> {
-                String resultMessage = result.isSuccess() 
+            snapshot.getResults().forEach((id, result) -> {
+                String resultMessage = result.isSuccess()
                     ? String.format("OK (in %dms, attempts: %d)", result.getResponseTimeMs(), result.getAttemptCount())
                     : String.format("%s (took %dms, attempts: %d)", result.getMessage(), result.getResponseTimeMs(), result.getAttemptCount());
-                details.put(id, resultMessage);
+                if (result.getStatistics() != null) {
+                    resultMessage += " [" + result.getStatistics() + "]";
+                }
+                if (result.getDetails().isEmpty()) {
+                    details.put(id, resultMessage);
+                } else {
+                    Map<String, Object> warmerDetails = new LinkedHashMap<>();
+                    warmerDetails.put("status", resultMessage);
+                    warmerDetails.putAll(result.getDetails());
+                    details.put(id, warmerDetails);
+                }
             });
 
             builder.withDetail("details", details);
@@ -45,4 +82,10 @@ public class WarmupHealthIndicator implements HealthIndicator {
 
         return builder.build();
     }
+
+    /**
+     * The Health built from the snapshot with the given version.
+     */
+    private record CachedHealth(long version, boolean showDetails, Health health) {
+    }
 }
@@ -0,0 +1,384 @@
+package io.github.paxytools.warmupdicator.impl;
+
+import io.github.paxytools.warmupdicator.api.FailureType;
+import io.github.paxytools.warmupdicator.api.WarmupResult;
+import io.github.paxytools.warmupdicator.api.WarmupStatistics;
+import io.github.paxytools.warmupdicator.api.WarmupTier;
+import io.github.paxytools.warmupdicator.api.Warmupdicator;
+import io.github.paxytools.warmupdicator.config.EndpointWarmerProperties.EndpointProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatusCode;
+
+import java.net.ConnectException;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Base class of the warmers that call an endpoint described by {@link EndpointProperties}.
+ * <p>
+ * By default a single call is made. When {@code iterations} or {@code warmup-duration}
+ * is configured, the endpoint is called repeatedly by {@code concurrency} workers and the
+ * result carries aggregated {@link WarmupStatistics}. In adaptive mode the calls continue
+ * until latencies converge, as decided by a {@link LatencyConvergenceDetector}.
+ * Subclasses only implement how a single call is made.
+ */
+abstract class AbstractEndpointWarmupdicator implements Warmupdicator {
+
+    protected final Logger log = LoggerFactory.getLogger(getClass());
+
+    protected final EndpointProperties endpoint;
+
+    /**
+     * Why the endpoint settings are invalid, or null if they are valid.
+     */
+    private final String invalidSettings;
+
+    protected AbstractEndpointWarmupdicator(EndpointProperties endpoint) {
+        this.endpoint = endpoint;
+        this.invalidSettings = validate(endpoint);
+        if (invalidSettings != null) {
+            log.warn("Invalid warmup settings for {}: {}", endpoint.getName(), invalidSettings);
+        }
+    }
+
+    private static String validate(EndpointProperties endpoint) {
+        if (endpoint.isAdaptive() && endpoint.getConvergenceWindow() < 2) {
+            return "Convergence window must hold at least 2 samples, got " + endpoint.getConvergenceWindow();
+        }
+        return null;
+    }
+
+    /**
+     * Makes a single blocking call to the endpoint.
+     *
+     * @return the response status code
+     * @throws Exception if the call could not be made
+     */
+    protected abstract int call() throws Exception;
+
+    @Override
+    public WarmupResult warmUp() {
+        if (invalidSettings != null) {
+            // A configuration error fails the same way on every attempt, so it is not retried
+            return WarmupResult.failure(invalidSettings, 0).withFailureType(FailureType.CLIENT_ERROR);
+        }
+        if (endpoint.isAdaptive() || endpoint.getIterations() > 1 || endpoint.getWarmupDuration() != null) {
+            return warmUpRepeatedly();
+        }
+
+        log.debug("Calling warmup endpoint: {} {}", endpoint.getHttpMethod(), endpoint.getUrl());
+
+        Instant start = Instant.now();
+
+        try {
+            int statusCode = call();
+
+            long responseTimeMs = Duration.between(start, Instant.now()).toMillis();
+
+            // Check response status
+            boolean statusOk = isStatusOk(statusCode);
+
+            // Check response time
+            boolean timeOk = responseTimeMs <= endpoint.getMaxResponseTime();
+
+            if (statusOk && timeOk) {
+                log.info("Warming up - {} {} succeeded", endpoint.getHttpMethod(), endpoint.getName());
+                return WarmupResult.success(responseTimeMs, 1);
+            } else {
+                String errorMessage = !statusOk
+                        ? String.format("HTTP %d error for %s", statusCode, endpoint.getName())
+                        : String.format("Response time %dms exceeds acceptable threshold %dms for %s", responseTimeMs, endpoint.getMaxResponseTime(), endpoint.getUrl());
+
+                if (endpoint.isIgnoreFailure()) {
+                    log.warn("Ignoring failure for {} {}: {}", endpoint.getHttpMethod(), endpoint.getUrl(), errorMessage);
+                    return WarmupResult.success(responseTimeMs, 1);
+                }
+
+                log.warn(errorMessage);
+                FailureType failureType = !statusOk ? FailureType.forStatus(statusCode) : FailureType.TIMEOUT;
+                return WarmupResult.failure(errorMessage, responseTimeMs).withFailureType(failureType);
+            }
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            long responseTimeMs = Duration.between(start, Instant.now()).toMillis();
+
+            if (endpoint.isIgnoreFailure()) {
+                log.warn("Ignoring exception for {} {}: {}", endpoint.getHttpMethod(), endpoint.getUrl(), e.getMessage());
+                return WarmupResult.success(responseTimeMs, 1);
+            }
+
+            return WarmupResult.failure(e.getMessage(), responseTimeMs).withFailureType(classify(e));
+        }
+    }
+
+    /**
+     * Calls the endpoint repeatedly to give the JIT enough invocations to compile the hot path.
+     * <p>
+     * Stops after the configured iterations, when the warmup duration has elapsed or, in adaptive
+     * mode, when latencies have converged or max-iterations calls have been made. The attempt only
+     * fails if more than max-error-rate of the calls failed, and reports the calls and errors in its details.
+     */
+    private WarmupResult warmUpRepeatedly() {
+        int workers = Math.max(1, endpoint.getConcurrency());
+        log.debug("Calling warmup endpoint repeatedly: {} {} (iterations: {}, duration: {}, adaptive: {}, concurrency: {})",
+                endpoint.getHttpMethod(), endpoint.getUrl(), endpoint.getIterations(), endpoint.getWarmupDuration(), endpoint.isAdaptive(), workers);
+
+        Instant start = Instant.now();
+        Instant deadline = endpoint.getWarmupDuration() != null ? start.plus(endpoint.getWarmupDuration()) : null;
+        AtomicInteger issued = new AtomicInteger();
+        AtomicReference<String> lastError = new AtomicReference<>();
+        AtomicReference<FailureType> lastFailureType = new AtomicReference<>(FailureType.UNKNOWN);
+        LatencyRecorder recorder = new LatencyRecorder();
+        LatencyConvergenceDetector detector = endpoint.isAdaptive()
+                ? new LatencyConvergenceDetector(endpoint.getConvergenceWindow(), endpoint.getConvergenceTolerance())
+                : null;
+
+        try {
+            runRepeatedCalls(() -> hasNextCall(issued, deadline, detector), workers, recorder, detector, lastError, lastFailureType);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            lastError.set(e.getMessage());
+        } catch (Exception e) {
+            lastError.set(e.getMessage());
+        }
+
+        long responseTimeMs = Duration.between(start, Instant.now()).toMillis();
+        WarmupStatistics statistics = recorder.toStatistics();
+        if (detector != null) {
+            statistics = statistics.withConvergedAfter(detector.getConvergedAfter());
+            if (!detector.isConverged()) {
+                log.warn("Latencies for {} did not converge within {} calls", endpoint.getName(), statistics.getCount());
+            }
+        }
+
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("calls", statistics.getCount());
+        details.put("errors", statistics.getErrorCount());
+
+        double errorRate = statistics.getCount() > 0 ? (double) statistics.getErrorCount() / statistics.getCount() : 0;
+        String errorMessage = null;
+        if (statistics.getCount() == 0 || errorRate > endpoint.getMaxErrorRate()) {
+            errorMessage = String.format("%d of %d calls failed for %s, last error: %s",
+                    statistics.getErrorCount(), statistics.getCount(), endpoint.getName(), lastError.get());
+        } else if (statistics.getMeanTimeMs() > endpoint.getMaxResponseTime()) {
+            errorMessage = String.format("Mean response time %.2fms exceeds acceptable threshold %dms for %s",
+                    statistics.getMeanTimeMs(), endpoint.getMaxResponseTime(), endpoint.getUrl());
+            lastFailureType.set(FailureType.TIMEOUT);
+        }
+
+        if (errorMessage == null) {
+            log.info("Warming up - {} {} succeeded ({})", endpoint.getHttpMethod(), endpoint.getName(), statistics);
+            return WarmupResult.success(responseTimeMs, 1, statistics).withDetails(details);
+        }
+
+        if (endpoint.isIgnoreFailure()) {
+            log.warn("Ignoring failure for {} {}: {}", endpoint.getHttpMethod(), endpoint.getUrl(), errorMessage);
+            return WarmupResult.success(responseTimeMs, 1, statistics).withDetails(details);
+        }
+
+        log.warn(errorMessage);
+        return WarmupResult.failure(errorMessage, responseTimeMs, 1, statistics)
+                .withFailureType(lastFailureType.get())
+                .withDetails(details);
+    }
+
+    /**
+     * Makes calls while {@code hasNextCall} returns true and records each of them.
+     * By default {@code workers} threads make blocking calls.
+     */
+    protected void runRepeatedCalls(BooleanSupplier hasNextCall, int workers, LatencyRecorder recorder, LatencyConvergenceDetector detector,
+                                    AtomicReference<String> lastError, AtomicReference<FailureType> lastFailureType) throws Exception {
+        runWorkers(() -> {
+            while (hasNextCall.getAsBoolean()) {
+                FailureType failureType = callOnce(recorder, detector, lastError);
+                if (failureType != null) {
+                    lastFailureType.set(failureType);
+                }
+            }
+        }, workers);
+    }
+
+    /**
+     * Keeps up to {@code inFlight} asynchronous calls outstanding until {@code hasNextCall} says
+     * stop, then waits for the outstanding calls to complete.
+     *
+     * @param asyncCall starts a call and returns its status code when it completes
+     */
+    protected void runPipelined(Supplier<CompletionStage<Integer>> asyncCall, BooleanSupplier hasNextCall, int inFlight,
+                                LatencyRecorder recorder, LatencyConvergenceDetector detector,
+                                AtomicReference<String> lastError, AtomicReference<FailureType> lastFailureType) throws InterruptedException {
+        Semaphore permits = new Semaphore(inFlight);
+        try {
+            while (true) {
+                permits.acquire();
+                if (!hasNextCall.getAsBoolean()) {
+                    permits.release();
+                    break;
+                }
+                long start = System.nanoTime();
+                BiConsumer<Integer, Throwable> completion = (statusCode, error) -> {
+                    try {
+                        FailureType failureType = record(start, statusCode != null ? statusCode : 0, error, recorder, detector, lastError);
+                        if (failureType != null) {
+                            lastFailureType.set(failureType);
+                        }
+                    } finally {
+                        permits.release();
+                    }
+                };
+                CompletionStage<Integer> call;
+                try {
+                    call = asyncCall.get();
+                } catch (RuntimeException e) {
+                    // A call that fails to start is recorded like a failed call, so its permit is released
+                    completion.accept(null, e);
+                    continue;
+                }
+                call.whenComplete(completion);
+            }
+        } finally {
+            // Wait for the calls still in flight so that the statistics are complete
+            permits.acquire(inFlight);
+        }
+    }
+
+    private boolean hasNextCall(AtomicInteger issued, Instant deadline, LatencyConvergenceDetector detector) {
+        if (detector != null) {
+            return !detector.isConverged()
+                    && issued.getAndIncrement() < endpoint.getMaxIterations()
+                    && (deadline == null || Instant.now().isBefore(deadline));
+        }
+        return deadline != null ? Instant.now().isBefore(deadline) : issued.getAndIncrement() < endpoint.getIterations();
+    }
+
+    /**
+     * Runs the worker on the calling thread plus {@code workers - 1} short-lived helper threads.
+     */
+    private void runWorkers(Runnable worker, int workers) throws Exception {
+        if (workers == 1) {
+            worker.run();
+            return;
+        }
+
+        ExecutorService helpers = Executors.newFixedThreadPool(workers - 1, runnable -> {
+            Thread thread = new Thread(runnable, "warmup-" + endpoint.getName());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 1; i < workers; i++) {
+                futures.add(helpers.submit(worker));
+            }
+            worker.run();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            helpers.shutdownNow();
+        }
+    }
+
+    /**
+     * Makes a single blocking call and records its latency.
+     *
+     * @return the failure type if the call failed, null otherwise
+     */
+    private FailureType callOnce(LatencyRecorder recorder, LatencyConvergenceDetector detector, AtomicReference<String> lastError) {
+        long start = System.nanoTime();
+        int statusCode = 0;
+        Throwable error = null;
+        try {
+            statusCode = call();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            error = e;
+        } catch (Exception e) {
+            error = e;
+        }
+        return record(start, statusCode, error, recorder, detector, lastError);
+    }
+
+    /**
+     * Records the latency and outcome of a call started at {@code start} (in nanos).
+     *
+     * @return the failure type if the call failed, null otherwise
+     */
+    protected FailureType record(long start, int statusCode, Throwable error, LatencyRecorder recorder,
+                                 LatencyConvergenceDetector detector, AtomicReference<String> lastError) {
+        long elapsedNanos = System.nanoTime() - start;
+        FailureType failureType = null;
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            failureType = classify(cause);
+            lastError.set(cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName());
+        } else if (!isStatusOk(statusCode)) {
+            failureType = FailureType.forStatus(statusCode);
+            lastError.set(String.format("HTTP %d error for %s", statusCode, endpoint.getName()));
+        }
+        recorder.record(elapsedNanos, failureType != null);
+        if (detector != null) {
+            detector.record(elapsedNanos);
+        }
+        return failureType;
+    }
+
+    /**
+     * Classifies an exception thrown while calling an endpoint.
+     */
+    static FailureType classify(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof HttpTimeoutException || cause instanceof TimeoutException) {
+                return FailureType.TIMEOUT;
+            }
+            if (cause instanceof ConnectException) {
+                return FailureType.CONNECTION_REFUSED;
+            }
+        }
+        return FailureType.UNKNOWN;
+    }
+
+    protected boolean isStatusOk(int statusCode) {
+        return endpoint.getExpectedStatus() != null
+                ? statusCode == endpoint.getExpectedStatus()
+                : HttpStatusCode.valueOf(statusCode).is2xxSuccessful();
+    }
+
+    @Override
+    public String getId() {
+        return endpoint.getName();
+    }
+
+    @Override
+    public WarmupTier getTier() {
+        return endpoint.getTier() != null ? endpoint.getTier() : WarmupTier.CRITICAL;
+    }
+
+    @Override
+    public Set<String> dependsOn() {
+        return endpoint.getDependsOn() != null ? new LinkedHashSet<>(endpoint.getDependsOn()) : Collections.emptySet();
+    }
+}
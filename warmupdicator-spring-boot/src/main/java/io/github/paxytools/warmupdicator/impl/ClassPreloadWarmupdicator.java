@@ -0,0 +1,175 @@
+package io.github.paxytools.warmupdicator.impl;
+
+import io.github.paxytools.warmupdicator.api.FailureType;
+import io.github.paxytools.warmupdicator.api.WarmupResult;
+import io.github.paxytools.warmupdicator.api.WarmupTier;
+import io.github.paxytools.warmupdicator.api.Warmupdicator;
+import io.github.paxytools.warmupdicator.config.ClassPreloaderProperties;
+import io.github.paxytools.warmupdicator.recording.ClassList;
+import io.github.paxytools.warmupdicator.service.WarmupExecutors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.util.ResourceUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Implementation of Warmupdicator that loads the classes of a recorded class list before the first request needs them.
+ * <p>
+ * Classes are loaded without initialization by several workers taking names from the list in order, which is
+ * only done when the class loader is parallel capable; otherwise its lock would serialize the workers anyway.
+ * Static initializers then run in list order on a single thread, since initializing classes that depend on each
+ * other from different threads can deadlock. Names that no longer resolve, e.g. after a refactoring, are counted
+ * as failed without failing the warmup. The class list is written by {@code ClassLoadRecorder} in record mode.
+ */
+@Slf4j
+public class ClassPreloadWarmupdicator implements Warmupdicator {
+
+    private static final int REPORTED_FAILURES = 10;
+
+    private final ClassPreloaderProperties properties;
+    private final ClassLoader classLoader;
+
+    public ClassPreloadWarmupdicator(ClassPreloaderProperties properties, ClassLoader classLoader) {
+        this.properties = properties;
+        this.classLoader = classLoader;
+    }
+
+    @Override
+    public String getId() {
+        return "class-preload";
+    }
+
+    @Override
+    public WarmupTier getTier() {
+        return properties.getTier() != null ? properties.getTier() : WarmupTier.CRITICAL;
+    }
+
+    @Override
+    public WarmupResult warmUp() {
+        Instant start = Instant.now();
+
+        if (properties.getFile() == null || properties.getFile().isBlank()) {
+            return WarmupResult.failure("No class list configured for preloading", 0).withFailureType(FailureType.CLIENT_ERROR);
+        }
+        Resource resource = resolve(properties.getFile());
+        if (!resource.exists()) {
+            if (properties.isFailIfMissing()) {
+                return WarmupResult.failure("Class list not found: " + properties.getFile(), 0).withFailureType(FailureType.CLIENT_ERROR);
+            }
+            log.warn("Class list {} not found, skipping class preloading", properties.getFile());
+            return WarmupResult.success(0, 1).withDetails(Map.of("skipped", "no class list at " + properties.getFile()));
+        }
+
+        List<String> names;
+        try (InputStream in = resource.getInputStream()) {
+            names = ClassList.read(in, properties.getExcludePatterns());
+        } catch (IOException e) {
+            long elapsedMs = Duration.between(start, Instant.now()).toMillis();
+            return WarmupResult.failure("Cannot read class list: " + e.getMessage(), elapsedMs).withFailureType(FailureType.CLIENT_ERROR);
+        }
+
+        int workers = classLoader.isRegisteredAsParallelCapable() ? Math.max(1, properties.getConcurrency()) : 1;
+        log.info("Preloading {} classes with {} workers...", names.size(), workers);
+
+        LatencyRecorder recorder = new LatencyRecorder();
+        Map<String, String> failures = new LinkedHashMap<>();
+        List<Class<?>> loaded = load(names, workers, recorder, failures);
+        int initialized = properties.isInitialize() ? initialize(loaded, failures) : 0;
+
+        long elapsedMs = Duration.between(start, Instant.now()).toMillis();
+        log.info("Preloaded {} of {} classes in {}ms ({} initialized, {} failed)", loaded.size(), names.size(), elapsedMs, initialized, failures.size());
+
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("classes", names.size());
+        details.put("loaded", loaded.size());
+        details.put("initialized", initialized);
+        details.put("failed", failures.size());
+        details.put("workers", workers);
+        if (!failures.isEmpty()) {
+            Map<String, String> reported = new LinkedHashMap<>();
+            failures.entrySet().stream().limit(REPORTED_FAILURES).forEach(failure -> reported.put(failure.getKey(), failure.getValue()));
+            details.put("failures", reported);
+        }
+        return WarmupResult.success(elapsedMs, 1, recorder.toStatistics()).withDetails(details);
+    }
+
+    /**
+     * Loads the classes on the given number of workers, keeping the order of the list in the returned classes.
+     */
+    private List<Class<?>> load(List<String> names, int workers, LatencyRecorder recorder, Map<String, String> failures) {
+        Class<?>[] classes = new Class<?>[names.size()];
+        String[] errors = new String[names.size()];
+        AtomicInteger next = new AtomicInteger();
+        Runnable worker = () -> {
+            for (int i = next.getAndIncrement(); i < names.size(); i = next.getAndIncrement()) {
+                long startNanos = System.nanoTime();
+                try {
+                    classes[i] = Class.forName(names.get(i), false, classLoader);
+                } catch (ClassNotFoundException | LinkageError e) {
+                    errors[i] = e.toString();
+                }
+                recorder.record(System.nanoTime() - startNanos, errors[i] != null);
+            }
+        };
+
+        if (workers == 1) {
+            worker.run();
+        } else {
+            ExecutorService executor = WarmupExecutors.newBoundedExecutor(workers, "warmup-class-preload-");
+            try {
+                CompletableFuture<?>[] running = new CompletableFuture<?>[workers];
+                for (int i = 0; i < workers; i++) {
+                    running[i] = CompletableFuture.runAsync(worker, executor);
+                }
+                CompletableFuture.allOf(running).join();
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        List<Class<?>> loaded = new ArrayList<>(names.size());
+        for (int i = 0; i < classes.length; i++) {
+            if (classes[i] != null) {
+                loaded.add(classes[i]);
+            } else {
+                log.debug("Cannot preload {}: {}", names.get(i), errors[i]);
+                failures.put(names.get(i), errors[i]);
+            }
+        }
+        return loaded;
+    }
+
+    private int initialize(List<Class<?>> classes, Map<String, String> failures) {
+        int initialized = 0;
+        for (Class<?> type : classes) {
+            try {
+                Class.forName(type.getName(), true, type.getClassLoader());
+                initialized++;
+            } catch (ClassNotFoundException | LinkageError e) {
+                log.debug("Cannot initialize {}: {}", type.getName(), e.toString());
+                failures.put(type.getName(), e.toString());
+            }
+        }
+        return initialized;
+    }
+
+    private Resource resolve(String location) {
+        if (location.startsWith(ResourceUtils.CLASSPATH_URL_PREFIX)) {
+            return new ClassPathResource(location.substring(ResourceUtils.CLASSPATH_URL_PREFIX.length()), classLoader);
+        }
+        return new FileSystemResource(location);
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.paxytools.warmupdicator.impl;
+
+import io.github.paxytools.warmupdicator.config.EndpointWarmerProperties.EndpointProperties;
+import jakarta.servlet.ServletContext;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation of Warmupdicator that dispatches synthetic requests straight through the application's
+ * {@link DispatcherServlet}, without a socket, the servlet container or a port.
+ * <p>
+ * Handler lookup, interceptors, argument resolvers, message converters and exception resolvers all run
+ * as for a real request. Servlet filters do not, since they belong to the container. The endpoint url
+ * is a path such as {@code /api/users?page=1}. A full URL is accepted too, in which case its host and
+ * port are ignored.
+ * <p>
+ * The servlet belongs to the container, which initializes it. The in-process warmer configuration sets
+ * load-on-startup so that this happens at startup; until it has happened, calls fail and are retried.
+ */
+public class DispatcherServletWarmupdicator extends AbstractEndpointWarmupdicator {
+
+    static final String SERVLET_NAME = "dispatcherServlet";
+
+    private final DispatcherServlet dispatcherServlet;
+    private final ServletContext servletContext;
+
+    private final String method;
+    private final String contextPath;
+    private final String pathWithinContext;
+    private final String queryString;
+    private final Map<String, List<String>> headers = new LinkedHashMap<>();
+    private final byte[] body;
+
+    private volatile boolean initialized;
+
+    public DispatcherServletWarmupdicator(EndpointProperties endpoint, DispatcherServlet dispatcherServlet, ServletContext servletContext) {
+        super(endpoint);
+        this.dispatcherServlet = dispatcherServlet;
+        this.servletContext = servletContext;
+
+        URI uri = URI.create(endpoint.getUrl());
+        String path = uri.getPath() != null && !uri.getPath().isEmpty() ? uri.getPath() : "/";
+        String servletContextPath = servletContext.getContextPath() != null ? servletContext.getContextPath() : "";
+        if (!servletContextPath.isEmpty() && (path.equals(servletContextPath) || path.startsWith(servletContextPath + "/"))) {
+            path = path.substring(servletContextPath.length());
+        }
+        this.method = endpoint.getHttpMethod() != null ? endpoint.getHttpMethod().toUpperCase() : "GET";
+        this.contextPath = servletContextPath;
+        this.pathWithinContext = path.isEmpty() ? "/" : path;
+        this.queryString = uri.getRawQuery();
+        this.body = endpoint.getRequestBody() != null ? endpoint.getRequestBody().getBytes(StandardCharsets.UTF_8) : null;
+
+        // Set default Content-Type header, then apply custom headers (which can override defaults)
+        this.headers.put("Content-Type", List.of("application/json"));
+        if (endpoint.getHeaders() != null) {
+            endpoint.getHeaders().forEach((name, value) -> {
+                this.headers.keySet().removeIf(name::equalsIgnoreCase);
+                this.headers.put(name, List.of(value));
+            });
+        }
+    }
+
+    @Override
+    protected int call() throws Exception {
+        checkInitialized();
+        SyntheticHttpServletRequest request = new SyntheticHttpServletRequest(servletContext, method, contextPath, pathWithinContext, queryString, headers, body);
+        SyntheticHttpServletResponse response = new SyntheticHttpServletResponse();
+        dispatcherServlet.service(request, response);
+        return response.getStatus();
+    }
+
+    /**
+     * Fails the call while the container has not initialized the servlet yet, e.g. when
+     * spring.mvc.servlet.load-on-startup is negative and no real request has arrived.
+     */
+    private void checkInitialized() {
+        if (initialized) {
+            return;
+        }
+        if (dispatcherServlet.getServletConfig() == null) {
+            throw new IllegalStateException("DispatcherServlet is not initialized by the servlet container yet, "
+                    + "set spring.mvc.servlet.load-on-startup to initialize it at startup");
+        }
+        initialized = true;
+    }
+}
@@ -0,0 +1,131 @@
+package io.github.paxytools.warmupdicator.impl;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+import com.fasterxml.jackson.databind.type.TypeBindings;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ResolvableType;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Collects the Jackson types reachable from a set of root types: the content and key types of
+ * collections, maps, arrays and references, the property types of beans, and the subtypes of
+ * polymorphic types, both declared with {@code @JsonSubTypes} and registered on the mapper.
+ * <p>
+ * Types are compared with their generic bindings, so {@code Page<Foo>} and {@code Page<Bar>} are
+ * both kept, and every type is visited once, which also breaks cycles. Scalar JDK types are not
+ * collected since their (de)serializers are built eagerly by Jackson.
+ */
+@Slf4j
+final class DtoTypeCollector {
+
+    private final ObjectMapper objectMapper;
+    private final Set<JavaType> types = new LinkedHashSet<>();
+
+    DtoTypeCollector(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Collects the type and everything reachable from it.
+     */
+    void collect(ResolvableType type) {
+        collect(toJavaType(type));
+    }
+
+    void collect(JavaType type) {
+        if (type == null || type.isJavaLangObject() || type.isPrimitive()) {
+            return;
+        }
+        if (type.isContainerType() || type.isReferenceType()) {
+            if (types.add(type)) {
+                collect(type.getKeyType());
+                collect(type.getContentType());
+            }
+            return;
+        }
+        if (isScalar(type.getRawClass()) || !types.add(type)) {
+            return;
+        }
+        if (type.isEnumType()) {
+            return;
+        }
+
+        try {
+            BeanDescription serialization = objectMapper.getSerializationConfig().introspect(type);
+            for (BeanPropertyDefinition property : serialization.findProperties()) {
+                collect(property.getPrimaryType());
+            }
+            BeanDescription deserialization = objectMapper.getDeserializationConfig().introspect(type);
+            for (BeanPropertyDefinition property : deserialization.findProperties()) {
+                collect(property.getPrimaryType());
+            }
+            for (NamedType subtype : objectMapper.getSubtypeResolver()
+                    .collectAndResolveSubtypesByClass(objectMapper.getSerializationConfig(), serialization.getClassInfo())) {
+                Class<?> subclass = subtype.getType();
+                if (subclass != type.getRawClass() && type.getRawClass().isAssignableFrom(subclass)) {
+                    collect(objectMapper.getTypeFactory().constructSpecializedType(type, subclass));
+                }
+            }
+        } catch (Exception | LinkageError e) {
+            log.debug("Cannot introspect {}: {}", type.toCanonical(), e.toString());
+        }
+    }
+
+    /**
+     * Returns the collected types in discovery order.
+     */
+    Set<JavaType> getTypes() {
+        return types;
+    }
+
+    private static boolean isScalar(Class<?> raw) {
+        String name = raw.getName();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("com.fasterxml.jackson.");
+    }
+
+    /**
+     * Converts a Spring type to the equivalent Jackson type. The underlying reflective type may be a type
+     * variable resolved through its owner, so the conversion goes through the resolved generics.
+     */
+    private JavaType toJavaType(ResolvableType type) {
+        TypeFactory typeFactory = objectMapper.getTypeFactory();
+        if (type.isArray()) {
+            return typeFactory.constructArrayType(toJavaType(type.getComponentType()));
+        }
+        Class<?> raw = type.resolve(Object.class);
+        ResolvableType[] generics = type.getGenerics();
+        if (generics.length == 0 || generics.length != raw.getTypeParameters().length) {
+            return typeFactory.constructType(raw);
+        }
+        JavaType[] parameters = new JavaType[generics.length];
+        for (int i = 0; i < generics.length; i++) {
+            parameters[i] = toJavaType(generics[i]);
+        }
+        return typeFactory.constructParametricType(raw, parameters);
+    }
+
+    /**
+     * Converts a Jackson type to the equivalent Spring type, keeping generic bindings.
+     */
+    static ResolvableType toResolvableType(JavaType type) {
+        if (type.isArrayType()) {
+            return ResolvableType.forArrayComponent(toResolvableType(type.getContentType()));
+        }
+        Class<?> raw = type.getRawClass();
+        TypeBindings bindings = type.getBindings();
+        if (bindings.isEmpty() || raw.getTypeParameters().length != bindings.size()) {
+            return ResolvableType.forClass(raw);
+        }
+        List<JavaType> typeParameters = bindings.getTypeParameters();
+        ResolvableType[] generics = typeParameters.stream().map(DtoTypeCollector::toResolvableType).toArray(ResolvableType[]::new);
+        return ResolvableType.forClassWithGenerics(raw, generics);
+    }
+}
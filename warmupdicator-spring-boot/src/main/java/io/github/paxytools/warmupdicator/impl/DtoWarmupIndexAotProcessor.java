@@ -0,0 +1,96 @@
+package io.github.paxytools.warmupdicator.impl;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.paxytools.warmupdicator.config.DtoWarmerProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.method.HandlerMethod;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Discovers the DTO warmup targets during Spring AOT processing and writes them to the index at
+ * {@link DtoWarmupIndicator#INDEX_LOCATION}, so that the DTO warmer skips handler method discovery,
+ * generic resolution and filtering at startup.
+ * <p>
+ * Handler methods are found the way {@code RequestMappingHandlerMapping} finds them, on the
+ * {@code @Controller} beans, without instantiating them. Types are collected with a default
+ * {@link Jackson2ObjectMapperBuilder} mapper, since the application's mapper is not created at build time.
+ * Nothing is generated unless the DTO warmer is enabled.
+ */
+@Slf4j
+public class DtoWarmupIndexAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+    @Override
+    public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+        if (beanFactory.getBeanNamesForType(DtoWarmupIndicator.class, false, false).length == 0) {
+            return null;
+        }
+
+        DtoWarmerProperties properties = bindProperties(beanFactory);
+        if (!properties.isUseIndex()) {
+            return null;
+        }
+
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        Set<JavaType> dtoTypes = DtoWarmupIndicator.filterExcludedTypes(
+            DtoWarmupIndicator.discoverDtoTypes(findHandlerMethods(beanFactory), properties.getTypes(), objectMapper), properties);
+        log.debug("Indexed {} DTO types for warmup", dtoTypes.size());
+
+        return (generationContext, beanFactoryInitializationCode) -> {
+            StringBuilder index = new StringBuilder("# DTO warmup targets, generated by ")
+                .append(DtoWarmupIndexAotProcessor.class.getSimpleName()).append('\n');
+            dtoTypes.forEach(dtoType -> index.append(dtoType.toCanonical()).append('\n'));
+            generationContext.getGeneratedFiles().addResourceFile(DtoWarmupIndicator.INDEX_LOCATION, index);
+
+            // The index is read at runtime and the types are instantiated and introspected reflectively
+            generationContext.getRuntimeHints().resources().registerPattern(DtoWarmupIndicator.INDEX_LOCATION);
+            new BindingReflectionHintsRegistrar().registerReflectionHints(generationContext.getRuntimeHints().reflection(),
+                dtoTypes.stream().map(JavaType::getRawClass).distinct().toArray(Class<?>[]::new));
+        };
+    }
+
+    private static DtoWarmerProperties bindProperties(ConfigurableListableBeanFactory beanFactory) {
+        if (!beanFactory.containsBean(ConfigurableApplicationContext.ENVIRONMENT_BEAN_NAME)) {
+            return new DtoWarmerProperties();
+        }
+        ConfigurableEnvironment environment = beanFactory.getBean(ConfigurableApplicationContext.ENVIRONMENT_BEAN_NAME, ConfigurableEnvironment.class);
+        return Binder.get(environment).bind("warmupdicator.dto-warmer", DtoWarmerProperties.class).orElseGet(DtoWarmerProperties::new);
+    }
+
+    private static List<HandlerMethod> findHandlerMethods(ConfigurableListableBeanFactory beanFactory) {
+        List<HandlerMethod> handlerMethods = new ArrayList<>();
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            if (beanFactory.getBeanDefinition(beanName).isAbstract()) {
+                continue;
+            }
+            Class<?> beanType = beanFactory.getType(beanName, false);
+            if (beanType == null || !AnnotatedElementUtils.hasAnnotation(beanType, Controller.class)) {
+                continue;
+            }
+            Set<Method> methods = MethodIntrospector.selectMethods(ClassUtils.getUserClass(beanType),
+                (MethodIntrospector.MetadataLookup<Boolean>) method ->
+                    AnnotatedElementUtils.hasAnnotation(method, RequestMapping.class) ? Boolean.TRUE : null).keySet();
+            for (Method method : methods) {
+                handlerMethods.add(new HandlerMethod(beanName, beanFactory, method));
+            }
+        }
+        return handlerMethods;
+    }
+}
@@ -1,43 +1,111 @@
 package io.github.paxytools.warmupdicator.impl;
 
+import io.github.paxytools.warmupdicator.api.FailureType;
 import io.github.paxytools.warmupdicator.api.WarmupResult;
 import io.github.paxytools.warmupdicator.api.Warmupdicator;
 import io.github.paxytools.warmupdicator.config.DtoWarmerProperties;
-import lombok.RequiredArgsConstructor;
+import io.github.paxytools.warmupdicator.jfr.DtoWarmupEvent;
+import io.github.paxytools.warmupdicator.service.WarmupExecutors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.MethodParameter;
+import org.springframework.core.ReactiveAdapter;
+import org.springframework.core.ReactiveAdapterRegistry;
 import org.springframework.core.ResolvableType;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpEntity;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.WebAsyncTask;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
-import org.springframework.http.ResponseEntity;
 
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import java.lang.reflect.Constructor;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 /**
- * Warmup indicator that preloads DTO classes using Spring MVC HandlerMethod discovery.
+ * Warmup indicator that preloads DTO classes using Spring MVC or WebFlux HandlerMethod discovery.
  * Discovers request and response DTOs from controller methods and warms Jackson serialization/deserialization.
+ * Discovery works with Jackson types, so generics such as {@code Map<String, List<Foo>>} or {@code Page<Foo>}
+ * are kept, and follows bean properties and polymorphic subtypes transitively.
+ * Each DTO is serialized and read back as a populated synthetic instance, so the serializers and
+ * deserializers of its nested types, collections, enums and java.time fields are built and run too.
+ * Types are warmed in parallel with a time limit per type, and the slowest types and failures are
+ * reported in the result details, and every type is recorded as a {@link DtoWarmupEvent}.
+ * Types that failed or timed out are listed in the details of a successful result, unless
+ * {@link DtoWarmerProperties#isFailOnError()} is set: the warmup then fails, and a failed type is
+ * reported as a {@link FailureType#CLIENT_ERROR} so that it is not retried.
+ * When the application was processed ahead of time, the filtered types are read from the index at
+ * {@link #INDEX_LOCATION} and discovery is skipped.
  * 
  * NOTE:
- * This implementation intentionally uses deprecated Jackson capability methods
+ * Types that cannot be instantiated fall back to the deprecated Jackson capability methods
  * (canSerialize / canDeserialize) because they are the only reliable way to force
- * eager serializer/deserializer construction without instantiating records.
+ * eager serializer/deserializer construction without an instance.
  *
  * Newer Jackson APIs do not provide an equivalent trigger.
  */
 @Slf4j
-@RequiredArgsConstructor
 public class DtoWarmupIndicator implements Warmupdicator {
 
+    private static final List<Class<?>> BODY_WRAPPERS = List.of(HttpEntity.class, Optional.class,
+            CompletionStage.class, Callable.class, DeferredResult.class, WebAsyncTask.class);
+
+    /**
+     * Classpath location of the DTO type index generated ahead of time by {@link DtoWarmupIndexAotProcessor}.
+     */
+    public static final String INDEX_LOCATION = "META-INF/warmupdicator/dto-types.idx";
+
+    private enum Outcome { WARMED, SKIPPED, FAILED, TIMED_OUT }
+
+    /**
+     * Time spent on a single DTO type, error is null unless it failed or timed out.
+     */
+    private record DtoTiming(String type, Outcome outcome, long elapsedNanos, String error) {
+    }
+
     private final DtoWarmerProperties properties;
     private final ObjectMapper objectMapper;
-    private final RequestMappingHandlerMapping handlerMapping;
+    private final Supplier<Collection<HandlerMethod>> handlerMethods;
+
+    public DtoWarmupIndicator(DtoWarmerProperties properties, ObjectMapper objectMapper, RequestMappingHandlerMapping handlerMapping) {
+        this(properties, objectMapper, () -> handlerMapping.getHandlerMethods().values());
+    }
+
+    /**
+     * Creates a DTO warmer for any source of handler methods, such as a WebFlux handler mapping.
+     *
+     * @param properties the DTO warmer configuration
+     * @param objectMapper the mapper whose serializers and deserializers are warmed
+     * @param handlerMethods supplies the handler methods to discover DTO types from
+     */
+    public DtoWarmupIndicator(DtoWarmerProperties properties, ObjectMapper objectMapper, Supplier<Collection<HandlerMethod>> handlerMethods) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.handlerMethods = handlerMethods;
+    }
 
     @Override
     public String getId() {
@@ -50,32 +118,52 @@ public class DtoWarmupIndicator implements Warmupdicator {
         Instant start = Instant.now();
         
         try {
-            // Discover DTO classes from HandlerMethods
-            Set<Class<?>> dtoClasses = discoverDtoClasses();
-
-            // Filter out excluded patterns
-            Set<Class<?>> filteredClasses = filterExcludedClasses(dtoClasses);
+            // Use the build-time index if present, discovery and filtering were done when it was generated
+            Set<JavaType> filteredTypes = properties.isUseIndex() ? loadIndex() : null;
+            if (filteredTypes == null) {
+                // Discover DTO types from HandlerMethods
+                Set<JavaType> dtoTypes = discoverDtoTypes(handlerMethods.get(), properties.getTypes(), objectMapper);
+
+                // Filter out excluded patterns
+                filteredTypes = filterExcludedTypes(dtoTypes, properties);
+            }
             
             log.debug("DTO warmup candidates (after filter): {}", 
-                filteredClasses.stream().map(Class::getName).toList());
-
-            // Warm up each DTO class
-            int warmedCount = 0;
-            int skippedCount = 0;
-
-            for (Class<?> dtoClass : filteredClasses) {
-                boolean warmed = warmupDtoClass(dtoClass);
-                if (warmed) {
-                    warmedCount++;
-                } else {
-                    skippedCount++;
-                }
+                filteredTypes.stream().map(JavaType::toCanonical).toList());
+
+            // Warm up each DTO type in parallel
+            SyntheticInstanceGenerator instanceGenerator = new SyntheticInstanceGenerator(properties.getMaxDepth(), properties.getCollectionSize());
+            List<DtoTiming> timings = warmupDtoTypes(filteredTypes, instanceGenerator);
+
+            LatencyRecorder recorder = new LatencyRecorder();
+            Map<Outcome, Integer> counts = new EnumMap<>(Outcome.class);
+            for (DtoTiming timing : timings) {
+                recorder.record(timing.elapsedNanos(), timing.outcome() == Outcome.FAILED || timing.outcome() == Outcome.TIMED_OUT);
+                counts.merge(timing.outcome(), 1, Integer::sum);
             }
 
             long duration = java.time.Duration.between(start, Instant.now()).toMillis();
 
-            log.info("DTO warmup completed successfully: {} warmed, {} skipped ({}ms)", warmedCount, skippedCount, duration);
-            return WarmupResult.success(duration, 1);
+            int warmed = counts.getOrDefault(Outcome.WARMED, 0);
+            int skipped = counts.getOrDefault(Outcome.SKIPPED, 0);
+            int failed = counts.getOrDefault(Outcome.FAILED, 0);
+            int timedOut = counts.getOrDefault(Outcome.TIMED_OUT, 0);
+            Map<String, Object> details = collectDetails(timings, counts);
+            if (failed == 0 && timedOut == 0) {
+                log.info("DTO warmup completed successfully: {} warmed, {} skipped ({}ms)", warmed, skipped, duration);
+                return WarmupResult.success(duration, 1, recorder.toStatistics()).withDetails(details);
+            }
+
+            String message = String.format("DTO warmup incomplete: %d warmed, %d skipped, %d failed, %d timed out",
+                warmed, skipped, failed, timedOut);
+            log.warn("{} ({}ms)", message, duration);
+            if (!properties.isFailOnError()) {
+                return WarmupResult.success(duration, 1, recorder.toStatistics()).withDetails(details);
+            }
+            // A type that failed fails the same way on every attempt, only timed out types may warm on a retry
+            return WarmupResult.failure(message, duration, 1, recorder.toStatistics())
+                .withFailureType(failed == 0 ? FailureType.TIMEOUT : FailureType.CLIENT_ERROR)
+                .withDetails(details);
 
         } catch (Exception e) {
             long duration = java.time.Duration.between(start, Instant.now()).toMillis();
@@ -85,115 +173,206 @@ public class DtoWarmupIndicator implements Warmupdicator {
     }
 
     /**
-     * Discover DTO classes from all HandlerMethods in the application.
+     * Warms the DTO types on a bounded pool of workers. Jackson caches serializers and deserializers in
+     * concurrent maps, so types sharing nested types can be warmed at the same time.
+     * <p>
+     * The time limit of a type starts when a worker picks it up. A type that exceeds it is reported as timed
+     * out right away; its worker is not interrupted, since Jackson does not check for interruption, and is
+     * released once the type completes.
      */
-    private Set<Class<?>> discoverDtoClasses() {
-        Set<Class<?>> dtoClasses = new HashSet<>();
-
-        for (HandlerMethod handlerMethod : handlerMapping.getHandlerMethods().values()) {
-            // Extract request body classes
-            extractRequestBodyClasses(handlerMethod, dtoClasses);
+    private List<DtoTiming> warmupDtoTypes(Set<JavaType> dtoTypes, SyntheticInstanceGenerator instanceGenerator) {
+        long timeoutMs = properties.getClassTimeout() != null ? properties.getClassTimeout().toMillis() : 0;
+        ExecutorService workers = WarmupExecutors.newBoundedExecutor(properties.getConcurrency(), "warmup-dto-");
+        try {
+            List<CompletableFuture<DtoTiming>> results = new ArrayList<>(dtoTypes.size());
+            for (JavaType dtoType : dtoTypes) {
+                CompletableFuture<DtoTiming> result = new CompletableFuture<>();
+                workers.execute(() -> {
+                    if (timeoutMs > 0) {
+                        result.orTimeout(timeoutMs, TimeUnit.MILLISECONDS);
+                    }
+                    try {
+                        result.complete(timeDtoType(dtoType, instanceGenerator));
+                    } catch (Throwable e) {
+                        // E.g. a StackOverflowError on a deep graph, which must not leave the type pending forever
+                        result.completeExceptionally(e);
+                    }
+                });
+                results.add(result.exceptionally(e -> {
+                    if (e instanceof TimeoutException) {
+                        log.warn("DTO warmup of {} timed out after {}ms", dtoType.toCanonical(), timeoutMs);
+                        return new DtoTiming(dtoType.toCanonical(), Outcome.TIMED_OUT, TimeUnit.MILLISECONDS.toNanos(timeoutMs),
+                            "timed out after " + timeoutMs + "ms");
+                    }
+                    log.warn("DTO warmup of {} failed: {}", dtoType.toCanonical(), e.toString());
+                    return new DtoTiming(dtoType.toCanonical(), Outcome.FAILED, 0, e.toString());
+                }));
+            }
+            return results.stream().map(CompletableFuture::join).toList();
+        } finally {
+            workers.shutdown();
+        }
+    }
 
-            // Extract response body classes
-            extractResponseBodyClasses(handlerMethod, dtoClasses);
+    private DtoTiming timeDtoType(JavaType dtoType, SyntheticInstanceGenerator instanceGenerator) {
+        DtoWarmupEvent event = new DtoWarmupEvent();
+        event.begin();
+        long start = System.nanoTime();
+        DtoTiming timing;
+        try {
+            boolean warmed = warmupDtoType(dtoType, instanceGenerator);
+            timing = new DtoTiming(dtoType.toCanonical(), warmed ? Outcome.WARMED : Outcome.SKIPPED, System.nanoTime() - start, null);
+        } catch (Exception | LinkageError e) {
+            log.debug("Failed to warm up DTO type: {}", dtoType.toCanonical(), e);
+            timing = new DtoTiming(dtoType.toCanonical(), Outcome.FAILED, System.nanoTime() - start, e.toString());
         }
+        event.end();
+        if (event.shouldCommit()) {
+            event.type = timing.type();
+            event.outcome = timing.outcome().name();
+            event.error = timing.error();
+            event.commit();
+        }
+        return timing;
+    }
 
-        log.debug("Discovered {} DTO classes from {} handler methods", dtoClasses.size(), handlerMapping.getHandlerMethods().size());
-        return dtoClasses;
+    /**
+     * Summarizes the outcome counts, the slowest types and the failures for the health endpoint.
+     */
+    private Map<String, Object> collectDetails(List<DtoTiming> timings, Map<Outcome, Integer> counts) {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("types", timings.size());
+        details.put("warmed", counts.getOrDefault(Outcome.WARMED, 0));
+        details.put("skipped", counts.getOrDefault(Outcome.SKIPPED, 0));
+        details.put("failed", counts.getOrDefault(Outcome.FAILED, 0));
+        details.put("timedOut", counts.getOrDefault(Outcome.TIMED_OUT, 0));
+
+        Map<String, Object> slowest = new LinkedHashMap<>();
+        timings.stream()
+            .sorted(Comparator.comparingLong(DtoTiming::elapsedNanos).reversed())
+            .limit(properties.getReportSize())
+            .forEach(timing -> slowest.put(timing.type(), TimeUnit.NANOSECONDS.toMillis(timing.elapsedNanos()) + "ms"));
+        details.put("slowest", slowest);
+
+        Map<String, Object> failures = new LinkedHashMap<>();
+        timings.stream()
+            .filter(timing -> timing.error() != null)
+            .limit(properties.getReportSize())
+            .forEach(timing -> failures.put(timing.type(), timing.error()));
+        if (!failures.isEmpty()) {
+            details.put("failures", failures);
+        }
+        return details;
     }
 
     /**
-     * Extract request body classes from method parameters.
+     * Reads the DTO types listed in the build-time index.
+     * @return the indexed types, or null if there is no index
      */
-    private void extractRequestBodyClasses(HandlerMethod handlerMethod, Set<Class<?>> dtoClasses) {
-        MethodParameter[] methodParameters = handlerMethod.getMethodParameters();
-
-        for (MethodParameter methodParameter : methodParameters) {
-            if (methodParameter.hasParameterAnnotation(org.springframework.web.bind.annotation.RequestBody.class)) {
-                ResolvableType type = ResolvableType.forMethodParameter(methodParameter);
-                Class<?> resolved = type.resolve();
-                
-                if (resolved != null && Collection.class.isAssignableFrom(resolved)) {
-                    Class<?> generic = type.getGeneric(0).resolve();
-                    if (generic != null) {
-                        dtoClasses.add(generic);
-                        log.debug("Found request body DTO (generic): {}", generic.getSimpleName());
-                    }
-                } else if (resolved != null && Optional.class.isAssignableFrom(resolved)) {
-                    Class<?> generic = type.getGeneric(0).resolve();
-                    if (generic != null) {
-                        dtoClasses.add(generic);
-                        log.debug("Found request body DTO (optional): {}", generic.getSimpleName());
-                    }
-                } else {
-                    Class<?> parameterType = type.resolve();
-                    if (parameterType != null) {
-                        dtoClasses.add(parameterType);
-                        log.debug("Found request body DTO: {}", parameterType.getSimpleName());
-                    }
+    private Set<JavaType> loadIndex() throws IOException {
+        ClassPathResource index = new ClassPathResource(INDEX_LOCATION);
+        if (!index.exists()) {
+            return null;
+        }
+
+        Set<JavaType> dtoTypes = new LinkedHashSet<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(index.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                try {
+                    dtoTypes.add(objectMapper.getTypeFactory().constructFromCanonical(line));
+                } catch (IllegalArgumentException e) {
+                    log.debug("Skipping stale DTO index entry: {}", line);
                 }
             }
         }
+        log.debug("Loaded {} DTO types from {}", dtoTypes.size(), INDEX_LOCATION);
+        return dtoTypes;
     }
 
     /**
-     * Extract response body classes from method return types.
+     * Discover DTO types from the given HandlerMethods and the configured types, then every type reachable from them.
      */
-    private void extractResponseBodyClasses(
-            HandlerMethod handlerMethod,
-            Set<Class<?>> dtoClasses
-    ) {
-        ResolvableType resolvableType =
-                ResolvableType.forMethodReturnType(handlerMethod.getMethod());
-
-        ResolvableType bodyType = resolvableType;
-        
-        // Handle ResponseEntity<T>
-        if (ResponseEntity.class.isAssignableFrom(resolvableType.toClass())) {
-            bodyType = resolvableType.getGeneric(0);
-        }
-        
-        // Handle Collection<T>
-        Class<?> bodyResolved = bodyType.resolve();
-        if (bodyResolved != null && Collection.class.isAssignableFrom(bodyResolved)) {
-            Class<?> generic = bodyType.getGeneric(0).resolve();
-            if (generic != null && generic != Void.TYPE && generic != String.class) {
-                dtoClasses.add(generic);
-                log.debug("Found response body DTO (collection): {}", generic.getSimpleName());
+    static Set<JavaType> discoverDtoTypes(Collection<HandlerMethod> handlerMethods, Collection<String> types, ObjectMapper objectMapper) {
+        DtoTypeCollector collector = new DtoTypeCollector(objectMapper);
+
+        // Configured types, e.g. the bodies of functional endpoints which carry no type information
+        for (String type : types) {
+            try {
+                collector.collect(objectMapper.getTypeFactory().constructFromCanonical(type));
+            } catch (IllegalArgumentException e) {
+                log.warn("Ignoring unknown DTO type {}: {}", type, e.getMessage());
             }
-            return;
         }
-        
-        // Handle Optional<T>
-        if (bodyResolved != null && Optional.class.isAssignableFrom(bodyResolved)) {
-            Class<?> generic = bodyType.getGeneric(0).resolve();
-            if (generic != null && generic != Void.TYPE && generic != String.class) {
-                dtoClasses.add(generic);
-                log.debug("Found response body DTO (optional): {}", generic.getSimpleName());
+
+        for (HandlerMethod handlerMethod : handlerMethods) {
+            // Request body types
+            for (MethodParameter methodParameter : handlerMethod.getMethodParameters()) {
+                if (methodParameter.hasParameterAnnotation(RequestBody.class)
+                        || HttpEntity.class.isAssignableFrom(methodParameter.getParameterType())) {
+                    collectBodyType(ResolvableType.forMethodParameter(methodParameter), collector);
+                }
             }
-            return;
+
+            // Response body type
+            collectBodyType(ResolvableType.forMethodReturnType(handlerMethod.getMethod(), handlerMethod.getBeanType()), collector);
+        }
+
+        log.debug("Discovered {} DTO types from {} handler methods", collector.getTypes().size(), handlerMethods.size());
+        return collector.getTypes();
+    }
+
+    private static void collectBodyType(ResolvableType type, DtoTypeCollector collector) {
+        ResolvableType bodyType = unwrapBodyType(type);
+        if (bodyType != null) {
+            collector.collect(bodyType);
         }
+    }
 
-        // Handle plain return types
+    /**
+     * Unwraps ResponseEntity, Optional, async and reactive wrappers down to the type Jackson actually (de)serializes.
+     * @return the body type, or null if there is no body
+     */
+    static ResolvableType unwrapBodyType(ResolvableType type) {
+        ResolvableType bodyType = type;
+        Class<?> wrapper = findBodyWrapper(bodyType.resolve());
+        while (wrapper != null) {
+            bodyType = bodyType.as(wrapper).getGeneric(0);
+            wrapper = findBodyWrapper(bodyType.resolve());
+        }
         Class<?> resolved = bodyType.resolve();
-        if (resolved != null
-                && resolved != Void.TYPE
-                && resolved != String.class) {
+        return resolved != null && resolved != Void.TYPE && resolved != Void.class ? bodyType : null;
+    }
 
-            dtoClasses.add(resolved);
-            log.debug("Found response body DTO: {}", resolved.getSimpleName());
+    private static Class<?> findBodyWrapper(Class<?> type) {
+        if (type == null) {
+            return null;
         }
+        for (Class<?> wrapper : BODY_WRAPPERS) {
+            if (wrapper.isAssignableFrom(type)) {
+                return wrapper;
+            }
+        }
+        // Mono, Flux, Publisher and the other reactive types known to Spring
+        ReactiveAdapter adapter = ReactiveAdapterRegistry.getSharedInstance().getAdapter(type);
+        return adapter != null && !adapter.isNoValue() ? adapter.getReactiveType() : null;
     }
 
     /**
-     * Filter out classes that match exclude patterns.
+     * Filter out types that match exclude patterns.
      */
-    private Set<Class<?>> filterExcludedClasses(Set<Class<?>> dtoClasses) {
-        Set<Class<?>> filtered = new HashSet<>();
+    static Set<JavaType> filterExcludedTypes(Set<JavaType> dtoTypes, DtoWarmerProperties properties) {
+        Set<JavaType> filtered = new LinkedHashSet<>();
         
-        for (Class<?> dtoClass : dtoClasses) {
-            // Skip framework types
-            if (dtoClass.getPackageName().startsWith("org.springframework")) {
+        for (JavaType dtoType : dtoTypes) {
+            Class<?> dtoClass = dtoType.getRawClass();
+
+            // Skip framework types, unless they carry application types such as Page<Foo>
+            if (dtoClass.getPackageName().startsWith("org.springframework") && dtoType.getBindings().isEmpty()) {
                 log.debug("Skipping framework type: {}", dtoClass.getSimpleName());
                 continue;
             }
@@ -209,7 +388,7 @@ public class DtoWarmupIndicator implements Warmupdicator {
             }
 
             if (!excluded) {
-                filtered.add(dtoClass);
+                filtered.add(dtoType);
             }
         }
 
@@ -217,108 +396,76 @@ public class DtoWarmupIndicator implements Warmupdicator {
     }
 
     /**
-     * Create an instance of a DTO class using no-args constructor.
+     * Warm up a single DTO type.
+     * @return true if the DTO was successfully warmed, false if skipped
+     * @throws Exception if the synthetic instance cannot be serialized or read back
      */
-    private Object createDtoInstance(Class<?> dtoClass) throws Exception {
-        if (dtoClass.isRecord()) {
-            log.debug("Skipping record DTO: {}", dtoClass.getSimpleName());
-            return null;
+    private boolean warmupDtoType(JavaType dtoType, SyntheticInstanceGenerator instanceGenerator) throws Exception {
+        Class<?> dtoClass = dtoType.getRawClass();
+        log.debug("Warming up DTO type: {}", dtoType.toCanonical());
+        
+        // Skip obvious non-DTOs
+        if (dtoClass.isPrimitive()
+            || Number.class.isAssignableFrom(dtoClass)
+            || CharSequence.class.isAssignableFrom(dtoClass)) {
+            log.debug("Skipping non-DTO type: {}", dtoClass.getSimpleName());
+            return false;
         }
 
-        try {
-            Constructor<?> constructor = dtoClass.getConstructor();
-            return constructor.newInstance();
-        } catch (Exception e) {
-            log.debug("Cannot instantiate DTO {}: {}", dtoClass.getSimpleName(), e);
-            return null;
+        Object instance = instanceGenerator.generate(DtoTypeCollector.toResolvableType(dtoType));
+        if (instance == null) {
+            return warmupCapabilities(dtoType);
         }
+
+        boolean warmed = false;
+        byte[] serialized = objectMapper.writerFor(dtoType).writeValueAsBytes(instance);
+        if (properties.isWarmupSerialization()) {
+            warmed = true;
+            log.debug("Warmed up serialization for: {}", dtoType.toCanonical());
+        }
+
+        // Reuse the serialized bytes, they hold every populated nested value
+        if (properties.isWarmupDeserialization()) {
+            objectMapper.readerFor(dtoType).readValue(serialized);
+            warmed = true;
+            log.debug("Warmed up deserialization for: {}", dtoType.toCanonical());
+        }
+
+        return warmed;
     }
 
     /**
-     * Warm up a single DTO class.
-     * @return true if the DTO was successfully warmed, false if skipped or failed
+     * Warm up a DTO type that cannot be instantiated via Jackson capability checks.
+     * @return true if a serializer or deserializer was built
      */
-    private boolean warmupDtoClass(Class<?> dtoClass) {
-        log.debug("Warming up DTO class: {}", dtoClass.getSimpleName());
-        
-        try {
-            // Skip obvious non-DTOs
-            if (dtoClass.isEnum()
-                || dtoClass.isPrimitive()
-                || Number.class.isAssignableFrom(dtoClass)
-                || CharSequence.class.isAssignableFrom(dtoClass)) {
-                log.debug("Skipping non-DTO type: {}", dtoClass.getSimpleName());
-                return false;
-            }
-
-            // Handle records specially - warm via Jackson capability checks
-            if (dtoClass.isRecord()) {
-                boolean warmed = false;
-                if (properties.isWarmupSerialization()) {
-                    try {
-                        // Use deprecated but effective method to force serializer construction
-                        @SuppressWarnings("deprecation")
-                        boolean canSerialize = objectMapper.canSerialize(dtoClass);
-                        if (canSerialize) {
-                            warmed = true;
-                            log.debug("Warmed up serialization for record: {}", dtoClass.getSimpleName());
-                        }
-                    } catch (Exception e) {
-                        log.debug("Could not warm up serialization for record: {}", dtoClass.getSimpleName(), e);
-                    }
-                }
-                if (properties.isWarmupDeserialization()) {
-                    try {
-                        // Use deprecated but effective method to force deserializer construction
-                        @SuppressWarnings("deprecation")
-                        boolean canDeserialize = objectMapper.canDeserialize(objectMapper.getTypeFactory().constructType(dtoClass));
-                        if (canDeserialize) {
-                            warmed = true;
-                            log.debug("Warmed up deserialization for record: {}", dtoClass.getSimpleName());
-                        }
-                    } catch (Exception e) {
-                        log.debug("Could not warm up deserialization for record: {}", dtoClass.getSimpleName(), e);
-                    }
+    private boolean warmupCapabilities(JavaType dtoType) {
+        boolean warmed = false;
+        if (properties.isWarmupSerialization()) {
+            try {
+                // Use deprecated but effective method to force serializer construction
+                @SuppressWarnings("deprecation")
+                boolean canSerialize = objectMapper.canSerialize(dtoType.getRawClass());
+                if (canSerialize) {
+                    warmed = true;
+                    log.debug("Warmed up serialization capability for: {}", dtoType.toCanonical());
                 }
-                return warmed;
+            } catch (Exception e) {
+                log.debug("Could not warm up serialization for: {}", dtoType.toCanonical(), e);
             }
-
-            // Try to instantiate DTO for non-record classes
-            Object instance = createDtoInstance(dtoClass);
-
-            if (instance != null) {
-                boolean warmed = false;
-                
-                // Warm up serialization
-                byte[] serialized = null;
-                if (properties.isWarmupSerialization()) {
-                    serialized = objectMapper.writeValueAsBytes(instance);
+        }
+        if (properties.isWarmupDeserialization()) {
+            try {
+                // Use deprecated but effective method to force deserializer construction
+                @SuppressWarnings("deprecation")
+                boolean canDeserialize = objectMapper.canDeserialize(dtoType);
+                if (canDeserialize) {
                     warmed = true;
-                    log.debug("Warmed up serialization for: {}", dtoClass.getSimpleName());
+                    log.debug("Warmed up deserialization capability for: {}", dtoType.toCanonical());
                 }
-
-                // Warm up deserialization (optional)
-                if (properties.isWarmupDeserialization()) {
-                    if (serialized != null) {
-                        // Reuse serialized bytes if we already have them
-                        objectMapper.readValue(serialized, dtoClass);
-                        warmed = true;
-                        log.debug("Warmed up deserialization for: {}", dtoClass.getSimpleName());
-                    } else {
-                        // Separate serialization if only deserialization is enabled
-                        byte[] freshSerialized = objectMapper.writeValueAsBytes(instance);
-                        objectMapper.readValue(freshSerialized, dtoClass);
-                        warmed = true;
-                        log.debug("Warmed up deserialization for: {}", dtoClass.getSimpleName());
-                    }
-                }
-                
-                return warmed;
+            } catch (Exception e) {
+                log.debug("Could not warm up deserialization for: {}", dtoType.toCanonical(), e);
             }
-        } catch (Exception e) {
-            log.debug("Failed to warm up DTO: {}", dtoClass.getSimpleName(), e);
         }
-        
-        return false;
+        return warmed;
     }
 }
@@ -0,0 +1,342 @@
+package io.github.paxytools.warmupdicator.impl;
+
+import io.github.paxytools.warmupdicator.config.EndpointWarmerProperties.EndpointProperties;
+import io.github.paxytools.warmupdicator.config.InProcessWarmerProperties.DiscoveryProperties;
+import jakarta.servlet.http.Part;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.bind.annotation.CookieValue;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.SessionAttribute;
+import org.springframework.web.bind.annotation.ValueConstants;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.util.UriUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Generates endpoints from the request mappings of the application, so that warmup coverage
+ * follows the controllers without listing every endpoint by hand.
+ * <p>
+ * Path variables, required request parameters and headers get sample values, configured by name
+ * or derived from their type, and {@code @RequestBody} parameters a synthetic JSON body. Handlers
+ * that cannot be called with synthetic data, such as multipart uploads or asynchronous and
+ * streaming handlers, are left out.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class EndpointDiscovery {
+
+    private static final int BODY_DEPTH = 3;
+
+    private static final List<Class<?>> ASYNC_RETURN_TYPES = List.of(Callable.class, CompletionStage.class,
+            DeferredResult.class, WebAsyncTask.class, ResponseBodyEmitter.class, StreamingResponseBody.class);
+
+    private final DiscoveryProperties properties;
+    private final RequestMappingHandlerMapping handlerMapping;
+    private final ObjectMapper objectMapper;
+
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final SyntheticInstanceGenerator instanceGenerator = new SyntheticInstanceGenerator(BODY_DEPTH, 1);
+
+    /**
+     * Returns an endpoint per matching request mapping, named after its method and path pattern,
+     * e.g. {@code GET /users/{id}}.
+     */
+    public List<EndpointProperties> discover() {
+        List<EndpointProperties> endpoints = new ArrayList<>();
+
+        handlerMapping.getHandlerMethods().forEach((info, handlerMethod) -> {
+            Optional<String> pattern = info.getPatternValues().stream().findFirst();
+            if (pattern.isEmpty() || !isIncluded(pattern.get())) {
+                return;
+            }
+            String method = selectMethod(info);
+            if (method == null) {
+                return;
+            }
+            String unsupported = findUnsupported(info, handlerMethod);
+            if (unsupported != null) {
+                log.debug("Skipping {} {}: {}", method, pattern.get(), unsupported);
+                return;
+            }
+            try {
+                endpoints.add(toEndpoint(method, pattern.get(), info, handlerMethod));
+            } catch (IllegalArgumentException e) {
+                log.debug("Skipping {} {}: {}", method, pattern.get(), e.getMessage());
+            }
+        });
+
+        endpoints.sort(Comparator.comparing(EndpointProperties::getName));
+        log.info("Discovered {} warmup endpoints from {} request mappings", endpoints.size(), handlerMapping.getHandlerMethods().size());
+        return endpoints;
+    }
+
+    private boolean isIncluded(String pattern) {
+        boolean included = properties.getIncludePatterns().isEmpty()
+                || properties.getIncludePatterns().stream().anyMatch(include -> pathMatcher.match(include, pattern));
+        return included && properties.getExcludePatterns().stream().noneMatch(exclude -> pathMatcher.match(exclude, pattern));
+    }
+
+    /**
+     * Returns the first configured method the mapping accepts. Mappings without methods accept all of them.
+     */
+    private String selectMethod(RequestMappingInfo info) {
+        Set<?> mappedMethods = info.getMethodsCondition().getMethods();
+        for (String method : properties.getMethods()) {
+            String upperCase = method.toUpperCase();
+            if (mappedMethods.isEmpty() || mappedMethods.stream().anyMatch(mapped -> mapped.toString().equals(upperCase))) {
+                return upperCase;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns why the handler cannot be called with a synthetic request, or null if it can.
+     */
+    private String findUnsupported(RequestMappingInfo info, HandlerMethod handlerMethod) {
+        Class<?> returnType = handlerMethod.getReturnType().getParameterType();
+        if (ASYNC_RETURN_TYPES.stream().anyMatch(type -> type.isAssignableFrom(returnType))
+                || ReactiveAdapterRegistry.getSharedInstance().getAdapter(returnType) != null) {
+            return "asynchronous handler";
+        }
+        if (info.getProducesCondition().getProducibleMediaTypes().stream().anyMatch(MediaType.TEXT_EVENT_STREAM::includes)) {
+            return "event stream";
+        }
+        for (MethodParameter parameter : handlerMethod.getMethodParameters()) {
+            Class<?> type = parameter.getParameterType();
+            if (parameter.hasParameterAnnotation(RequestPart.class) || MultipartFile.class.isAssignableFrom(type)
+                    || Part.class.isAssignableFrom(type)) {
+                return "multipart parameter";
+            }
+            CookieValue cookieValue = parameter.getParameterAnnotation(CookieValue.class);
+            if (cookieValue != null && cookieValue.required() && ValueConstants.DEFAULT_NONE.equals(cookieValue.defaultValue())) {
+                return "required cookie";
+            }
+            SessionAttribute sessionAttribute = parameter.getParameterAnnotation(SessionAttribute.class);
+            if (sessionAttribute != null && sessionAttribute.required()) {
+                return "required session attribute";
+            }
+        }
+        return null;
+    }
+
+    private EndpointProperties toEndpoint(String method, String pattern, RequestMappingInfo info, HandlerMethod handlerMethod) {
+        String[] parameterNames = parameterNameDiscoverer.getParameterNames(handlerMethod.getMethod());
+        Map<String, Class<?>> pathVariableTypes = new LinkedHashMap<>();
+        Map<String, String> query = new LinkedHashMap<>();
+        Map<String, String> headers = new LinkedHashMap<>();
+        String body = null;
+
+        for (MethodParameter parameter : handlerMethod.getMethodParameters()) {
+            String parameterName = parameterNames != null ? parameterNames[parameter.getParameterIndex()] : null;
+            Class<?> type = parameter.nestedIfOptional().getNestedParameterType();
+
+            PathVariable pathVariable = parameter.getParameterAnnotation(PathVariable.class);
+            if (pathVariable != null && !Map.class.isAssignableFrom(type)) {
+                pathVariableTypes.put(nameOf(pathVariable.name(), parameterName), type);
+            }
+
+            RequestParam requestParam = parameter.getParameterAnnotation(RequestParam.class);
+            if (requestParam != null && isRequired(requestParam.required(), requestParam.defaultValue(), parameter)
+                    && !Map.class.isAssignableFrom(type)) {
+                String name = nameOf(requestParam.name(), parameterName);
+                query.put(name, sampleFor(name, elementType(parameter, type)));
+            }
+
+            RequestHeader requestHeader = parameter.getParameterAnnotation(RequestHeader.class);
+            if (requestHeader != null && isRequired(requestHeader.required(), requestHeader.defaultValue(), parameter)
+                    && !Map.class.isAssignableFrom(type) && !HttpHeaders.class.isAssignableFrom(type)) {
+                String name = nameOf(requestHeader.name(), parameterName);
+                headers.put(name, sampleFor(name, elementType(parameter, type)));
+            }
+
+            if (parameter.hasParameterAnnotation(RequestBody.class)) {
+                body = syntheticBody(parameter);
+            }
+        }
+
+        // Parameters and headers the mapping itself requires, e.g. @GetMapping(params = "version=2")
+        info.getParamsCondition().getExpressions().stream()
+                .filter(expression -> !expression.isNegated())
+                .forEach(expression -> query.putIfAbsent(expression.getName(),
+                        expression.getValue() != null ? expression.getValue() : sampleFor(expression.getName(), String.class)));
+        info.getHeadersCondition().getExpressions().stream()
+                .filter(expression -> !expression.isNegated())
+                .forEach(expression -> headers.putIfAbsent(expression.getName(),
+                        expression.getValue() != null ? expression.getValue() : sampleFor(expression.getName(), String.class)));
+
+        info.getConsumesCondition().getConsumableMediaTypes().stream()
+                .filter(MediaType::isConcrete)
+                .findFirst()
+                .ifPresent(mediaType -> headers.put(HttpHeaders.CONTENT_TYPE, mediaType.toString()));
+        info.getProducesCondition().getProducibleMediaTypes().stream()
+                .filter(MediaType::isConcrete)
+                .findFirst()
+                .ifPresent(mediaType -> headers.put(HttpHeaders.ACCEPT, mediaType.toString()));
+
+        StringBuilder url = new StringBuilder(expand(pattern, pathVariableTypes));
+        String separator = "?";
+        for (Map.Entry<String, String> parameter : query.entrySet()) {
+            url.append(separator)
+                    .append(UriUtils.encodeQueryParam(parameter.getKey(), StandardCharsets.UTF_8))
+                    .append('=')
+                    .append(UriUtils.encodeQueryParam(parameter.getValue(), StandardCharsets.UTF_8));
+            separator = "&";
+        }
+
+        EndpointProperties endpoint = new EndpointProperties();
+        endpoint.setName(method + " " + pattern);
+        endpoint.setHttpMethod(method);
+        endpoint.setUrl(url.toString());
+        endpoint.setHeaders(headers.isEmpty() ? null : headers);
+        endpoint.setRequestBody(body);
+        endpoint.setIterations(properties.getIterations());
+        endpoint.setMaxResponseTime(properties.getMaxResponseTime());
+        endpoint.setIgnoreFailure(properties.isIgnoreFailure());
+        endpoint.setTier(properties.getTier());
+        return endpoint;
+    }
+
+    /**
+     * Replaces the variables and wildcards of the path pattern with sample values.
+     */
+    private String expand(String pattern, Map<String, Class<?>> pathVariableTypes) {
+        StringBuilder path = new StringBuilder();
+        int i = 0;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            if (c == '{') {
+                int end = findClosingBrace(pattern, i);
+                String variable = pattern.substring(i + 1, end);
+                boolean catchAll = variable.startsWith("*");
+                if (catchAll) {
+                    variable = variable.substring(1);
+                }
+                int colon = variable.indexOf(':');
+                String name = colon >= 0 ? variable.substring(0, colon) : variable;
+                String regex = colon >= 0 ? variable.substring(colon + 1) : null;
+                String value = sampleForPathVariable(name, regex, pathVariableTypes.get(name));
+                path.append(catchAll ? UriUtils.encodePath(value, StandardCharsets.UTF_8) : UriUtils.encodePathSegment(value, StandardCharsets.UTF_8));
+                i = end + 1;
+            } else if (c == '*') {
+                path.append(SampleValues.TEXT);
+                while (i < pattern.length() && pattern.charAt(i) == '*') {
+                    i++;
+                }
+            } else {
+                path.append(c == '?' ? 'a' : c);
+                i++;
+            }
+        }
+        return path.toString();
+    }
+
+    private static int findClosingBrace(String pattern, int start) {
+        int depth = 0;
+        for (int i = start; i < pattern.length(); i++) {
+            if (pattern.charAt(i) == '{') {
+                depth++;
+            } else if (pattern.charAt(i) == '}' && --depth == 0) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("unbalanced braces in " + pattern);
+    }
+
+    private String sampleForPathVariable(String name, String regex, Class<?> type) {
+        String configured = properties.getPathVariables().get(name);
+        if (configured != null) {
+            return configured;
+        }
+        for (String candidate : List.of(SampleValues.forType(type), "1", SampleValues.TEXT)) {
+            if (regex == null || candidate.matches(regex)) {
+                return candidate;
+            }
+        }
+        throw new IllegalArgumentException(String.format("no sample value matches {%s:%s}, set one with path-variables.%s", name, regex, name));
+    }
+
+    private String sampleFor(String name, Class<?> type) {
+        String configured = properties.getRequestParams().get(name);
+        return configured != null ? configured : SampleValues.forType(type);
+    }
+
+    /**
+     * Returns the element type of collection parameters, so that a single element is sampled.
+     */
+    private static Class<?> elementType(MethodParameter parameter, Class<?> type) {
+        if (Collection.class.isAssignableFrom(type)) {
+            Class<?> element = ResolvableType.forMethodParameter(parameter.nestedIfOptional()).asCollection().resolveGeneric(0);
+            return element != null ? element : String.class;
+        }
+        return type;
+    }
+
+    private static boolean isRequired(boolean required, String defaultValue, MethodParameter parameter) {
+        return required && ValueConstants.DEFAULT_NONE.equals(defaultValue) && !parameter.isOptional();
+    }
+
+    private static String nameOf(String annotatedName, String parameterName) {
+        if (!annotatedName.isEmpty()) {
+            return annotatedName;
+        }
+        if (parameterName == null) {
+            throw new IllegalArgumentException("parameter name not available, compile with -parameters");
+        }
+        return parameterName;
+    }
+
+    /**
+     * Returns a JSON body for the {@code @RequestBody} parameter: a serialized synthetic instance
+     * of the body type, or an empty array or object if it cannot be instantiated.
+     */
+    private String syntheticBody(MethodParameter parameter) {
+        Class<?> type = parameter.nestedIfOptional().getNestedParameterType();
+        if (CharSequence.class.isAssignableFrom(type)) {
+            return SampleValues.TEXT;
+        }
+        Object value = instanceGenerator.generate(ResolvableType.forMethodParameter(parameter.nestedIfOptional()));
+        if (value != null) {
+            try {
+                return objectMapper.writeValueAsString(value);
+            } catch (Exception e) {
+                log.debug("Cannot serialize synthetic {}: {}", type.getSimpleName(), e.getMessage());
+            }
+        }
+        return type.isArray() || Collection.class.isAssignableFrom(type) ? "[]" : "{}";
+    }
+}
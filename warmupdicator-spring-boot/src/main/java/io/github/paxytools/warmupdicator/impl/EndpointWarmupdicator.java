@@ -1,98 +1,114 @@
 package io.github.paxytools.warmupdicator.impl;
 
-import io.github.paxytools.warmupdicator.api.Warmupdicator;
-import io.github.paxytools.warmupdicator.api.WarmupResult;
+import io.github.paxytools.warmupdicator.api.FailureType;
 import io.github.paxytools.warmupdicator.config.EndpointWarmerProperties.EndpointProperties;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpStatusCode;
+import io.github.paxytools.warmupdicator.jfr.EndpointCallEvent;
 
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
-import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
 
 /**
  * Implementation of Warmupdicator that makes HTTP calls to an endpoint.
+ * <p>
+ * In async mode repeated calls are pipelined with {@link HttpClient#sendAsync} instead of
+ * blocking a thread each. The request is built once and reused, and response bodies are
+ * discarded without buffering.
+ * <p>
+ * Every call is recorded as an {@link EndpointCallEvent}.
  */
-@Slf4j
-@RequiredArgsConstructor
-public class EndpointWarmupdicator implements Warmupdicator {
+public class EndpointWarmupdicator extends AbstractEndpointWarmupdicator {
 
-    private final EndpointProperties endpoint;
     private final HttpClient httpClient;
 
-    @Override
-    public WarmupResult warmUp() {
-        log.debug("Calling warmup endpoint: {} {}", endpoint.getHttpMethod(), endpoint.getUrl());
+    private volatile HttpRequest request;
+
+    public EndpointWarmupdicator(EndpointProperties endpoint, HttpClient httpClient) {
+        super(endpoint);
+        this.httpClient = httpClient;
+    }
 
-        Instant start = Instant.now();
-        
+    @Override
+    protected int call() throws Exception {
+        EndpointCallEvent event = new EndpointCallEvent();
+        event.begin();
+        int statusCode = 0;
+        Throwable error = null;
         try {
-            HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
-                    .uri(URI.create(endpoint.getUrl()))
-                    .timeout(Duration.ofMillis(endpoint.getMaxResponseTime()));
+            statusCode = httpClient.send(getRequest(), HttpResponse.BodyHandlers.discarding()).statusCode();
+            return statusCode;
+        } catch (Exception e) {
+            error = e;
+            throw e;
+        } finally {
+            commit(event, statusCode, error);
+        }
+    }
 
-            // Set HTTP method and body
-            String method = endpoint.getHttpMethod() != null ? endpoint.getHttpMethod().toUpperCase() : "GET";
-            HttpRequest.BodyPublisher bodyPublisher = endpoint.getRequestBody() != null 
-                    ? HttpRequest.BodyPublishers.ofString(endpoint.getRequestBody())
-                    : HttpRequest.BodyPublishers.noBody();
-                
-            // Set default Content-Type header, then apply custom headers (which can override defaults)
-            requestBuilder.header("Content-Type", "application/json");
-            if (endpoint.getHeaders() != null) {
-                endpoint.getHeaders().forEach(requestBuilder::header);
-            }
-                
-            HttpRequest request = requestBuilder
-                    .method(method, bodyPublisher)
-                    .build();
+    @Override
+    protected void runRepeatedCalls(BooleanSupplier hasNextCall, int workers, LatencyRecorder recorder, LatencyConvergenceDetector detector,
+                                    AtomicReference<String> lastError, AtomicReference<FailureType> lastFailureType) throws Exception {
+        if (endpoint.isAsync()) {
+            HttpRequest warmupRequest = getRequest();
+            runPipelined(() -> {
+                EndpointCallEvent event = new EndpointCallEvent();
+                event.begin();
+                return httpClient.sendAsync(warmupRequest, HttpResponse.BodyHandlers.discarding())
+                        .thenApply(HttpResponse::statusCode)
+                        .whenComplete((statusCode, error) -> commit(event, statusCode != null ? statusCode : 0, error));
+            }, hasNextCall, workers, recorder, detector, lastError, lastFailureType);
+        } else {
+            super.runRepeatedCalls(hasNextCall, workers, recorder, detector, lastError, lastFailureType);
+        }
+    }
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    private void commit(EndpointCallEvent event, int statusCode, Throwable error) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.warmer = endpoint.getName();
+            event.method = getRequest().method();
+            event.url = endpoint.getUrl();
+            event.statusCode = statusCode;
+            event.error = error != null ? error.toString() : null;
+            event.commit();
+        }
+    }
 
-            long responseTimeMs = Duration.between(start, Instant.now()).toMillis();
+    /**
+     * Returns the request for this endpoint, building it on first use. Requests are immutable and reusable.
+     */
+    private HttpRequest getRequest() {
+        HttpRequest current = request;
+        if (current == null) {
+            current = buildRequest();
+            request = current;
+        }
+        return current;
+    }
 
-            // Check response status
-            boolean statusOk = endpoint.getExpectedStatus() != null 
-                    ? response.statusCode() == endpoint.getExpectedStatus()
-                    : HttpStatusCode.valueOf(response.statusCode()).is2xxSuccessful();
+    private HttpRequest buildRequest() {
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
+                .uri(URI.create(endpoint.getUrl()))
+                .timeout(Duration.ofMillis(endpoint.getMaxResponseTime()));
 
-            // Check response time
-            boolean timeOk = responseTimeMs <= endpoint.getMaxResponseTime();
+        // Set HTTP method and body
+        String method = endpoint.getHttpMethod() != null ? endpoint.getHttpMethod().toUpperCase() : "GET";
+        HttpRequest.BodyPublisher bodyPublisher = endpoint.getRequestBody() != null
+                ? HttpRequest.BodyPublishers.ofString(endpoint.getRequestBody())
+                : HttpRequest.BodyPublishers.noBody();
 
-            if (statusOk && timeOk) {
-                log.info("Warming up - {} {} succeeded", endpoint.getHttpMethod(), endpoint.getName());
-                return WarmupResult.success(responseTimeMs, 1);
-            } else {
-                String errorMessage = !statusOk 
-                        ? String.format("HTTP %d error for %s", response.statusCode(), endpoint.getName())
-                        : String.format("Response time %dms exceeds acceptable threshold %dms for %s", responseTimeMs, endpoint.getMaxResponseTime(), endpoint.getUrl());
-                
-                if (endpoint.isIgnoreFailure()) {
-                    log.warn("Ignoring failure for {} {}: {}", endpoint.getHttpMethod(), endpoint.getUrl(), errorMessage);
-                    return WarmupResult.success(responseTimeMs, 1);
-                }
-                
-                log.warn(errorMessage);
-                return WarmupResult.failure(errorMessage, responseTimeMs);
-            }
-        } catch (Exception e) {
-            long responseTimeMs = Duration.between(start, Instant.now()).toMillis();
-            
-            if (endpoint.isIgnoreFailure()) {
-                log.warn("Ignoring exception for {} {}: {}", endpoint.getHttpMethod(), endpoint.getUrl(), e.getMessage());
-                return WarmupResult.success(responseTimeMs, 1);
-            }
-            
-            return WarmupResult.failure(e.getMessage(), responseTimeMs);
+        // Set default Content-Type header, then apply custom headers (which can override defaults)
+        requestBuilder.header("Content-Type", "application/json");
+        if (endpoint.getHeaders() != null) {
+            endpoint.getHeaders().forEach(requestBuilder::header);
         }
-    }
 
-    @Override
-    public String getId() {
-        return endpoint.getName();
+        return requestBuilder
+                .method(method, bodyPublisher)
+                .build();
     }
 }
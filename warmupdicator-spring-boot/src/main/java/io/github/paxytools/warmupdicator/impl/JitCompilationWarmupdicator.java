@@ -0,0 +1,132 @@
+package io.github.paxytools.warmupdicator.impl;
+
+import io.github.paxytools.warmupdicator.api.WarmupResult;
+import io.github.paxytools.warmupdicator.api.Warmupdicator;
+import io.github.paxytools.warmupdicator.config.JitWarmerProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Deferred warmer that holds readiness until the JIT compiler has caught up with the other warmers.
+ * <p>
+ * The JIT is considered caught up once the total compilation time reported by the
+ * {@link CompilationMXBean} has not increased for the configured quiet period. If it is still
+ * compiling after max-wait, the gate gives up waiting and succeeds with the "timedOut" detail set,
+ * so that a JIT that never goes quiet does not hold readiness forever. The result details report
+ * the compilation time and the code cache occupancy.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class JitCompilationWarmupdicator implements Warmupdicator {
+
+    private final JitWarmerProperties properties;
+    private final CompilationMXBean compilationBean;
+    private final List<MemoryPoolMXBean> codeCachePools;
+
+    public JitCompilationWarmupdicator(JitWarmerProperties properties) {
+        this(properties, ManagementFactory.getCompilationMXBean(), findCodeCachePools());
+    }
+
+    @Override
+    public String getId() {
+        return "jit-compilation";
+    }
+
+    @Override
+    public boolean isDeferred() {
+        return true;
+    }
+
+    @Override
+    public WarmupResult warmUp() {
+        Instant start = Instant.now();
+
+        if (compilationBean == null || !compilationBean.isCompilationTimeMonitoringSupported()) {
+            log.info("JIT compilation time monitoring is not supported by this JVM, skipping JIT gate");
+            return WarmupResult.success(0, 1);
+        }
+
+        log.info("Waiting for JIT compilation to settle (quiet period {})...", properties.getQuietPeriod());
+        long lastCompilationTime = compilationBean.getTotalCompilationTime();
+        Instant lastChange = start;
+
+        try {
+            while (true) {
+                Thread.sleep(properties.getPollInterval().toMillis());
+
+                long compilationTime = compilationBean.getTotalCompilationTime();
+                Instant now = Instant.now();
+                if (compilationTime != lastCompilationTime) {
+                    lastCompilationTime = compilationTime;
+                    lastChange = now;
+                }
+
+                if (Duration.between(lastChange, now).compareTo(properties.getQuietPeriod()) >= 0) {
+                    long duration = Duration.between(start, now).toMillis();
+                    log.info("JIT compilation settled after {}ms (total compilation time {}ms)", duration, lastCompilationTime);
+                    return WarmupResult.success(duration, 1).withDetails(collectDetails(lastCompilationTime, false));
+                }
+                if (Duration.between(start, now).compareTo(properties.getMaxWait()) >= 0) {
+                    long duration = Duration.between(start, now).toMillis();
+                    // Waiting again would not make a JIT that never goes quiet settle, so readiness is released
+                    log.warn("JIT still compiling after {}ms (total compilation time {}ms), giving up the wait", duration, lastCompilationTime);
+                    return WarmupResult.success(duration, 1).withDetails(collectDetails(lastCompilationTime, true));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            long duration = Duration.between(start, Instant.now()).toMillis();
+            return WarmupResult.failure("Interrupted while waiting for JIT compilation", duration);
+        }
+    }
+
+    /**
+     * Collects compilation time and code cache occupancy for the health details.
+     */
+    private Map<String, Object> collectDetails(long compilationTimeMs, boolean timedOut) {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("compilationTimeMs", compilationTimeMs);
+        details.put("timedOut", timedOut);
+
+        long used = 0;
+        long max = 0;
+        for (MemoryPoolMXBean pool : codeCachePools) {
+            MemoryUsage usage = pool.getUsage();
+            if (usage == null) {
+                continue;
+            }
+            used += usage.getUsed();
+            if (usage.getMax() > 0) {
+                max += usage.getMax();
+            }
+            details.put(pool.getName(), formatOccupancy(usage.getUsed(), usage.getMax()));
+        }
+        details.put("codeCache", formatOccupancy(used, max));
+        return details;
+    }
+
+    private static String formatOccupancy(long used, long max) {
+        return max > 0
+                ? String.format("%dKB/%dKB (%.1f%%)", used / 1024, max / 1024, used * 100.0 / max)
+                : String.format("%dKB", used / 1024);
+    }
+
+    private static List<MemoryPoolMXBean> findCodeCachePools() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.NON_HEAP)
+                .filter(pool -> pool.getName().startsWith("CodeHeap") || pool.getName().equals("Code Cache"))
+                .collect(Collectors.toList());
+    }
+}
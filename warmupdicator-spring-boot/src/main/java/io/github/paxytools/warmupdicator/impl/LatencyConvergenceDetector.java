@@ -0,0 +1,83 @@
+package io.github.paxytools.warmupdicator.impl;
+
+import java.util.Arrays;
+
+/**
+ * Detects when call latencies have reached a steady state.
+ * <p>
+ * Latencies are collected into consecutive, non-overlapping windows. Once a window is full,
+ * its mean and p99 are compared with those of the previous window; when both drifted by no
+ * more than the configured relative tolerance, the latencies are considered converged.
+ */
+public class LatencyConvergenceDetector {
+
+    private final long[] window;
+    private final double tolerance;
+
+    private int windowFill;
+    private long samples;
+    private double previousMean = -1;
+    private double previousP99 = -1;
+    private long convergedAfter = -1;
+
+    /**
+     * @param windowSize number of samples per window
+     * @param tolerance maximum relative drift of mean and p99 between windows, e.g. 0.1 for 10%
+     */
+    public LatencyConvergenceDetector(int windowSize, double tolerance) {
+        if (windowSize < 2) {
+            throw new IllegalArgumentException("Convergence window must hold at least 2 samples, got " + windowSize);
+        }
+        this.window = new long[windowSize];
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * Records a latency sample.
+     *
+     * @param elapsedNanos the call latency in nanoseconds
+     * @return true if the latencies have converged
+     */
+    public synchronized boolean record(long elapsedNanos) {
+        samples++;
+        if (convergedAfter >= 0) {
+            return true;
+        }
+
+        window[windowFill++] = elapsedNanos;
+        if (windowFill < window.length) {
+            return false;
+        }
+        windowFill = 0;
+
+        long[] sorted = window.clone();
+        Arrays.sort(sorted);
+        double mean = Arrays.stream(sorted).average().orElse(0);
+        double p99 = sorted[Math.min(sorted.length - 1, (int) Math.ceil(sorted.length * 0.99) - 1)];
+
+        if (previousMean >= 0 && drift(previousMean, mean) <= tolerance && drift(previousP99, p99) <= tolerance) {
+            convergedAfter = samples;
+        }
+        previousMean = mean;
+        previousP99 = p99;
+        return convergedAfter >= 0;
+    }
+
+    public synchronized boolean isConverged() {
+        return convergedAfter >= 0;
+    }
+
+    /**
+     * Returns the number of samples it took to converge, or null if not converged yet.
+     */
+    public synchronized Long getConvergedAfter() {
+        return convergedAfter >= 0 ? convergedAfter : null;
+    }
+
+    private static double drift(double previous, double current) {
+        if (previous == 0) {
+            return current == 0 ? 0 : Double.MAX_VALUE;
+        }
+        return Math.abs(current - previous) / previous;
+    }
+}
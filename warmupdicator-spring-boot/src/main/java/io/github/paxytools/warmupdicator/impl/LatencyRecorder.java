@@ -0,0 +1,57 @@
+package io.github.paxytools.warmupdicator.impl;
+
+import io.github.paxytools.warmupdicator.api.WarmupStatistics;
+
+/**
+ * Thread-safe accumulator for the latencies of repeated warmup calls.
+ */
+public class LatencyRecorder {
+
+    private long count;
+    private long errorCount;
+    private long minNanos = Long.MAX_VALUE;
+    private long maxNanos;
+    private long totalNanos;
+
+    /**
+     * Records the outcome of a single call.
+     *
+     * @param elapsedNanos the call latency in nanoseconds
+     * @param error whether the call failed
+     */
+    public synchronized void record(long elapsedNanos, boolean error) {
+        count++;
+        if (error) {
+            errorCount++;
+        }
+        minNanos = Math.min(minNanos, elapsedNanos);
+        maxNanos = Math.max(maxNanos, elapsedNanos);
+        totalNanos += elapsedNanos;
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    public synchronized long getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * Returns the mean latency in milliseconds, or 0 if nothing was recorded.
+     */
+    public synchronized double getMeanTimeMs() {
+        return count == 0 ? 0 : toMillis(totalNanos) / count;
+    }
+
+    public synchronized WarmupStatistics toStatistics() {
+        if (count == 0) {
+            return new WarmupStatistics(0, 0, 0, 0, 0);
+        }
+        return new WarmupStatistics(count, errorCount, toMillis(minNanos), toMillis(totalNanos) / count, toMillis(maxNanos));
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
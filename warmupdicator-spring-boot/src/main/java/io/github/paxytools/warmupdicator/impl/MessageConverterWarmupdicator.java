@@ -0,0 +1,312 @@
+package io.github.paxytools.warmupdicator.impl;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import io.github.paxytools.warmupdicator.api.WarmupResult;
+import io.github.paxytools.warmupdicator.api.Warmupdicator;
+import io.github.paxytools.warmupdicator.config.ConverterWarmerProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonInputMessage;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Warmup indicator that warms the HTTP message converters of Spring MVC the way requests use them.
+ * <p>
+ * For the request and response body of every handler method, with its exact generic type and each media
+ * type the mapping consumes or produces, the converter a request would select is looked up in the handler
+ * adapter's converter chain with canRead/canWrite. A synthetic instance is then written and read back
+ * through that converter. When the mapping declares no media types, every concrete media type that some
+ * converter supports for the body type is warmed, so XML, CBOR, Smile or Protobuf converters are covered
+ * besides JSON. Bodies of {@code @JsonView} handlers are written and read with their view, as the
+ * JsonView advices of Spring MVC do.
+ */
+@Slf4j
+public class MessageConverterWarmupdicator implements Warmupdicator {
+
+    private static final int BODY_DEPTH = 3;
+    private static final int COLLECTION_SIZE = 2;
+
+    private final ConverterWarmerProperties properties;
+    private final RequestMappingHandlerMapping handlerMapping;
+    private final List<HttpMessageConverter<?>> messageConverters;
+
+    /**
+     * @param properties the converter warmer configuration
+     * @param handlerMapping the handler mapping to read the handler methods from
+     * @param messageConverters the converter chain of the handler adapter, in order
+     */
+    public MessageConverterWarmupdicator(ConverterWarmerProperties properties, RequestMappingHandlerMapping handlerMapping,
+                                         List<HttpMessageConverter<?>> messageConverters) {
+        this.properties = properties;
+        this.handlerMapping = handlerMapping;
+        this.messageConverters = messageConverters;
+    }
+
+    private enum Direction { READ, WRITE }
+
+    /**
+     * Progress of a single warmup.
+     */
+    private static final class WarmupRun {
+        private final SyntheticInstanceGenerator instanceGenerator = new SyntheticInstanceGenerator(BODY_DEPTH, COLLECTION_SIZE);
+        private final Set<String> visited = new HashSet<>();
+        private final Map<String, Integer> converters = new TreeMap<>();
+        private final Map<String, Object> failures = new LinkedHashMap<>();
+        private int failed;
+    }
+
+    @Override
+    public String getId() {
+        return "converter-warmup";
+    }
+
+    @Override
+    public WarmupResult warmUp() {
+        log.info("Starting message converter warmup...");
+        Instant start = Instant.now();
+
+        try {
+            WarmupRun run = new WarmupRun();
+            Map<RequestMappingInfo, HandlerMethod> handlerMethods = handlerMapping.getHandlerMethods();
+            handlerMethods.forEach((info, handlerMethod) -> warmupHandler(info, handlerMethod, run));
+
+            int warmed = run.converters.values().stream().mapToInt(Integer::intValue).sum();
+            long duration = Duration.between(start, Instant.now()).toMillis();
+            log.info("Message converter warmup completed successfully: {} round trips, {} failed ({}ms)", warmed, run.failed, duration);
+
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("handlers", handlerMethods.size());
+            details.put("warmed", warmed);
+            details.put("failed", run.failed);
+            details.put("converters", run.converters);
+            if (!run.failures.isEmpty()) {
+                details.put("failures", run.failures);
+            }
+            return WarmupResult.success(duration, 1).withDetails(details);
+
+        } catch (Exception e) {
+            long duration = Duration.between(start, Instant.now()).toMillis();
+            log.error("Message converter warmup failed: {}", e.getMessage());
+            return WarmupResult.failure("Message converter warmup failed: " + e.getMessage(), duration, 1);
+        }
+    }
+
+    private void warmupHandler(RequestMappingInfo info, HandlerMethod handlerMethod, WarmupRun run) {
+        Class<?> contextClass = handlerMethod.getBeanType();
+
+        // Request body, read by the first converter that can read it as the consumed media type
+        for (MethodParameter parameter : handlerMethod.getMethodParameters()) {
+            if (parameter.hasParameterAnnotation(RequestBody.class) || HttpEntity.class.isAssignableFrom(parameter.getParameterType())) {
+                ResolvableType bodyType = DtoWarmupIndicator.unwrapBodyType(ResolvableType.forMethodParameter(parameter));
+                warmupBody(bodyType, contextClass, info.getConsumesCondition().getConsumableMediaTypes(),
+                        jsonView(parameter.getParameterAnnotation(JsonView.class)), Direction.READ, run);
+            }
+        }
+
+        // Response body, written by the first converter that can write it as the produced media type
+        ResolvableType returnType = ResolvableType.forMethodReturnType(handlerMethod.getMethod(), contextClass);
+        if (AnnotatedElementUtils.hasAnnotation(contextClass, ResponseBody.class)
+                || handlerMethod.hasMethodAnnotation(ResponseBody.class)
+                || HttpEntity.class.isAssignableFrom(returnType.toClass())) {
+            warmupBody(DtoWarmupIndicator.unwrapBodyType(returnType), contextClass, info.getProducesCondition().getProducibleMediaTypes(),
+                    jsonView(handlerMethod.getMethodAnnotation(JsonView.class)), Direction.WRITE, run);
+        }
+    }
+
+    private void warmupBody(ResolvableType declaredType, Class<?> contextClass, Set<MediaType> declaredMediaTypes,
+                            Class<?> view, Direction direction, WarmupRun run) {
+        if (declaredType == null || isExcluded(declaredType.toClass())) {
+            return;
+        }
+        ResolvableType bodyType = toConcreteType(declaredType);
+        Collection<MediaType> mediaTypes = declaredMediaTypes.isEmpty() ? supportedMediaTypes(bodyType, contextClass, direction) : declaredMediaTypes;
+
+        for (MediaType mediaType : mediaTypes) {
+            HttpMessageConverter<?> converter = findConverter(bodyType, contextClass, mediaType, direction);
+            if (converter == null) {
+                log.debug("No message converter can {} {} as {}", direction == Direction.READ ? "read" : "write", bodyType, mediaType);
+                continue;
+            }
+            if (!run.visited.add(converter.getClass().getName() + " " + bodyType + " " + mediaType + " " + view)) {
+                continue;
+            }
+            try {
+                roundTrip(converter, bodyType, contextClass, mediaType, view, run.instanceGenerator);
+                run.converters.merge(converter.getClass().getSimpleName(), 1, Integer::sum);
+                log.debug("Warmed up {} for {} as {}", converter.getClass().getSimpleName(), bodyType, mediaType);
+            } catch (Exception | LinkageError e) {
+                run.failed++;
+                if (run.failures.size() < properties.getReportSize()) {
+                    run.failures.put(bodyType + " as " + mediaType, e.toString());
+                }
+                log.debug("Failed to warm up {} for {} as {}", converter.getClass().getSimpleName(), bodyType, mediaType, e);
+            }
+        }
+    }
+
+    /**
+     * Writes a synthetic instance with the converter, then reads it back if the converter can read the type.
+     */
+    @SuppressWarnings("unchecked")
+    private void roundTrip(HttpMessageConverter<?> converter, ResolvableType bodyType, Class<?> contextClass, MediaType mediaType,
+                           Class<?> view, SyntheticInstanceGenerator instanceGenerator) throws Exception {
+        Object instance = instanceGenerator.generate(bodyType);
+        if (instance == null) {
+            // canRead/canWrite have already looked up the serializers, there is nothing to convert
+            return;
+        }
+        boolean jackson = view != null && converter instanceof AbstractJackson2HttpMessageConverter;
+
+        BufferedOutputMessage output = new BufferedOutputMessage();
+        Object body = instance;
+        if (jackson) {
+            MappingJacksonValue value = new MappingJacksonValue(instance);
+            value.setSerializationView(view);
+            body = value;
+        }
+        if (converter instanceof GenericHttpMessageConverter<?> generic) {
+            ((GenericHttpMessageConverter<Object>) generic).write(body, bodyType.getType(), mediaType, output);
+        } else {
+            ((HttpMessageConverter<Object>) converter).write(body, mediaType, output);
+        }
+
+        if (!canRead(converter, bodyType, contextClass, mediaType)) {
+            return;
+        }
+        InputStream written = new ByteArrayInputStream(output.body.toByteArray());
+        HttpInputMessage input = jackson
+                ? new MappingJacksonInputMessage(written, output.getHeaders(), view)
+                : new BufferedInputMessage(written, output.getHeaders());
+        if (converter instanceof GenericHttpMessageConverter<?> generic) {
+            generic.read(bodyType.getType(), contextClass, input);
+        } else {
+            ((HttpMessageConverter<Object>) converter).read((Class<Object>) bodyType.toClass(), input);
+        }
+    }
+
+    private HttpMessageConverter<?> findConverter(ResolvableType bodyType, Class<?> contextClass, MediaType mediaType, Direction direction) {
+        for (HttpMessageConverter<?> converter : messageConverters) {
+            if (direction == Direction.READ ? canRead(converter, bodyType, contextClass, mediaType) : canWrite(converter, bodyType, mediaType)) {
+                return converter;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the concrete media types of the converters that can convert the type, in converter order.
+     */
+    private Set<MediaType> supportedMediaTypes(ResolvableType bodyType, Class<?> contextClass, Direction direction) {
+        Set<MediaType> mediaTypes = new LinkedHashSet<>();
+        for (HttpMessageConverter<?> converter : messageConverters) {
+            if (direction == Direction.READ ? canRead(converter, bodyType, contextClass, null) : canWrite(converter, bodyType, null)) {
+                converter.getSupportedMediaTypes(bodyType.toClass()).stream()
+                        .filter(MediaType::isConcrete)
+                        .forEach(mediaTypes::add);
+            }
+        }
+        return mediaTypes;
+    }
+
+    private static boolean canRead(HttpMessageConverter<?> converter, ResolvableType bodyType, Class<?> contextClass, MediaType mediaType) {
+        return converter instanceof GenericHttpMessageConverter<?> generic
+                ? generic.canRead(bodyType.getType(), contextClass, mediaType)
+                : converter.canRead(bodyType.toClass(), mediaType);
+    }
+
+    private static boolean canWrite(HttpMessageConverter<?> converter, ResolvableType bodyType, MediaType mediaType) {
+        return converter instanceof GenericHttpMessageConverter<?> generic
+                ? generic.canWrite(bodyType.getType(), bodyType.toClass(), mediaType)
+                : converter.canWrite(bodyType.toClass(), mediaType);
+    }
+
+    private boolean isExcluded(Class<?> bodyClass) {
+        for (String pattern : properties.getExcludePatterns()) {
+            if (bodyClass.getSimpleName().matches(pattern.replace("*", ".*"))) {
+                log.debug("Excluded body type from converter warmup: {}", bodyClass.getSimpleName());
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Class<?> jsonView(JsonView jsonView) {
+        return jsonView != null && jsonView.value().length == 1 ? jsonView.value()[0] : null;
+    }
+
+    /**
+     * Rebuilds the type from its resolved generics. A type unwrapped from {@code ResponseEntity<T>} is backed by
+     * the type variable T, which converters would otherwise resolve against the controller class and lose.
+     */
+    static ResolvableType toConcreteType(ResolvableType type) {
+        if (type.isArray()) {
+            return ResolvableType.forArrayComponent(toConcreteType(type.getComponentType()));
+        }
+        Class<?> raw = type.resolve(Object.class);
+        ResolvableType[] generics = type.getGenerics();
+        if (generics.length == 0 || generics.length != raw.getTypeParameters().length) {
+            return ResolvableType.forClass(raw);
+        }
+        return ResolvableType.forClassWithGenerics(raw, Arrays.stream(generics)
+                .map(MessageConverterWarmupdicator::toConcreteType)
+                .toArray(ResolvableType[]::new));
+    }
+
+    private static final class BufferedOutputMessage implements HttpOutputMessage {
+        private final HttpHeaders headers = new HttpHeaders();
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+
+    private record BufferedInputMessage(InputStream body, HttpHeaders headers) implements HttpInputMessage {
+        @Override
+        public InputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
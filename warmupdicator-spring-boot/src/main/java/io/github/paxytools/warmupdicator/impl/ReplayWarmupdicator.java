@@ -0,0 +1,234 @@
+package io.github.paxytools.warmupdicator.impl;
+
+import io.github.paxytools.warmupdicator.api.FailureType;
+import io.github.paxytools.warmupdicator.api.WarmupResult;
+import io.github.paxytools.warmupdicator.api.WarmupStatistics;
+import io.github.paxytools.warmupdicator.api.WarmupTier;
+import io.github.paxytools.warmupdicator.api.Warmupdicator;
+import io.github.paxytools.warmupdicator.config.ReplayWarmerProperties;
+import io.github.paxytools.warmupdicator.recording.RecordedRequest;
+import io.github.paxytools.warmupdicator.recording.RecordingReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Warmer that replays a recorded request log against the application.
+ * <p>
+ * Real traffic exercises the code paths, branch frequencies and argument types that production
+ * sees, so the JIT profiles gathered during warmup match the ones after the rollout.
+ * Requests are replayed with up to {@code concurrency} calls in flight, optionally paced by
+ * their recorded timestamps, and sensitive headers are stripped. Only the configured methods,
+ * GET and HEAD by default, are replayed, since the other recorded requests may change data.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ReplayWarmupdicator implements Warmupdicator {
+
+    /**
+     * Headers the HTTP client manages itself and refuses to set.
+     */
+    private static final Set<String> RESTRICTED_HEADERS = Set.of(
+            "connection", "content-length", "expect", "host", "upgrade", "transfer-encoding", "keep-alive", "te", "trailer");
+
+    private final ReplayWarmerProperties properties;
+    private final HttpClient httpClient;
+    private final RecordingReader reader;
+    private final Supplier<String> baseUrl;
+
+    @Override
+    public String getId() {
+        return "replay";
+    }
+
+    @Override
+    public WarmupTier getTier() {
+        return properties.getTier() != null ? properties.getTier() : WarmupTier.CRITICAL;
+    }
+
+    @Override
+    public WarmupResult warmUp() {
+        Instant start = Instant.now();
+
+        if (properties.getFile() == null || properties.getFile().isBlank()) {
+            return WarmupResult.failure("No request log configured for replay", 0).withFailureType(FailureType.CLIENT_ERROR);
+        }
+        Path file = Path.of(properties.getFile());
+        if (!Files.isReadable(file)) {
+            if (properties.isFailIfMissing()) {
+                return WarmupResult.failure("Request log not found: " + file, 0).withFailureType(FailureType.CLIENT_ERROR);
+            }
+            log.warn("Request log {} not found, skipping replay", file);
+            return WarmupResult.success(0, 1).withDetails(Map.of("skipped", "no request log at " + file));
+        }
+
+        List<RecordedRequest> requests;
+        try {
+            requests = reader.read(file, properties.getMaxRequests());
+        } catch (IOException e) {
+            long responseTimeMs = Duration.between(start, Instant.now()).toMillis();
+            return WarmupResult.failure("Cannot read request log: " + e.getMessage(), responseTimeMs).withFailureType(FailureType.CLIENT_ERROR);
+        }
+
+        log.info("Replaying {} recorded requests from {}", requests.size(), file);
+        LatencyRecorder recorder = new LatencyRecorder();
+        AtomicReference<String> lastError = new AtomicReference<>();
+        AtomicReference<FailureType> lastFailureType = new AtomicReference<>(FailureType.UNKNOWN);
+        int skipped = replay(requests, recorder, lastError, lastFailureType);
+
+        long responseTimeMs = Duration.between(start, Instant.now()).toMillis();
+        WarmupStatistics statistics = recorder.toStatistics();
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("file", file.toString());
+        details.put("replayed", statistics.getCount());
+        details.put("skipped", skipped);
+
+        double errorRate = statistics.getCount() > 0 ? (double) statistics.getErrorCount() / statistics.getCount() : 0;
+        if (errorRate > properties.getMaxErrorRate()) {
+            String message = String.format("%d of %d replayed requests failed, last error: %s",
+                    statistics.getErrorCount(), statistics.getCount(), lastError.get());
+            log.warn(message);
+            return WarmupResult.failure(message, responseTimeMs, 1, statistics)
+                    .withFailureType(lastFailureType.get())
+                    .withDetails(details);
+        }
+
+        log.info("Replay of {} succeeded ({})", file, statistics);
+        return WarmupResult.success(responseTimeMs, 1, statistics).withDetails(details);
+    }
+
+    /**
+     * Sends the requests with up to {@code concurrency} calls in flight and waits for all of them.
+     *
+     * @return the number of requests skipped, because of their method or because they could not be turned into a valid HTTP request
+     */
+    private int replay(List<RecordedRequest> requests, LatencyRecorder recorder,
+                       AtomicReference<String> lastError, AtomicReference<FailureType> lastFailureType) {
+        int concurrency = Math.max(1, properties.getConcurrency());
+        Set<String> methods = properties.getMethods().stream()
+                .map(method -> method.toUpperCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+        Set<String> excludedHeaders = properties.getExcludedHeaders().stream()
+                .map(header -> header.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+        Semaphore permits = new Semaphore(concurrency);
+        long firstTimestamp = requests.isEmpty() ? 0 : requests.get(0).getTimestamp();
+        long replayStart = System.nanoTime();
+        int skipped = 0;
+
+        try {
+            for (RecordedRequest recorded : requests) {
+                if (!methods.contains(recorded.getMethod().toUpperCase(Locale.ROOT))) {
+                    log.debug("Skipping recorded request {} {}: method not replayed", recorded.getMethod(), recorded.getPath());
+                    skipped++;
+                    continue;
+                }
+                pace(recorded.getTimestamp() - firstTimestamp, replayStart);
+
+                HttpRequest request;
+                try {
+                    request = toHttpRequest(recorded, excludedHeaders);
+                } catch (IllegalArgumentException e) {
+                    log.debug("Skipping recorded request {} {}: {}", recorded.getMethod(), recorded.getPath(), e.getMessage());
+                    skipped++;
+                    continue;
+                }
+
+                permits.acquire();
+                long callStart = System.nanoTime();
+                httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+                    try {
+                        FailureType failureType = outcome(response, error, lastError);
+                        recorder.record(System.nanoTime() - callStart, failureType != null);
+                        if (failureType != null) {
+                            lastFailureType.set(failureType);
+                        }
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            lastError.set("Interrupted while replaying");
+        } finally {
+            // Requests are bounded by the request timeout, so the calls in flight complete
+            permits.acquireUninterruptibly(concurrency);
+        }
+        return skipped;
+    }
+
+    /**
+     * Waits until the recorded offset of the request, scaled by the speed-up factor, has elapsed.
+     */
+    private void pace(long offsetMs, long replayStart) throws InterruptedException {
+        if (properties.getSpeedUp() <= 0 || offsetMs <= 0) {
+            return;
+        }
+        long dueNanos = replayStart + (long) (TimeUnit.MILLISECONDS.toNanos(offsetMs) / properties.getSpeedUp());
+        long waitNanos = dueNanos - System.nanoTime();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Classifies the outcome of a replayed call. Client errors are part of real traffic and do not count as failures.
+     *
+     * @return the failure type if the call failed, null otherwise
+     */
+    private static FailureType outcome(HttpResponse<?> response, Throwable error, AtomicReference<String> lastError) {
+        if (error != null) {
+            Throwable cause = error.getCause() != null ? error.getCause() : error;
+            lastError.set(cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName());
+            return AbstractEndpointWarmupdicator.classify(cause);
+        }
+        if (response.statusCode() >= 500) {
+            lastError.set("HTTP " + response.statusCode());
+            return FailureType.forStatus(response.statusCode());
+        }
+        return null;
+    }
+
+    private HttpRequest toHttpRequest(RecordedRequest recorded, Set<String> excludedHeaders) {
+        String base = baseUrl.get();
+        if (base.endsWith("/")) {
+            base = base.substring(0, base.length() - 1);
+        }
+        String path = recorded.getPath().startsWith("/") ? recorded.getPath() : "/" + recorded.getPath();
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .uri(URI.create(base + path))
+                .timeout(Duration.ofMillis(properties.getRequestTimeout()));
+        recorded.getHeaders().forEach((name, value) -> {
+            String lowerName = name.toLowerCase(Locale.ROOT);
+            if (!excludedHeaders.contains(lowerName) && !RESTRICTED_HEADERS.contains(lowerName)) {
+                builder.header(name, value);
+            }
+        });
+
+        HttpRequest.BodyPublisher bodyPublisher = recorded.getBody() != null
+                ? HttpRequest.BodyPublishers.ofString(recorded.getBody())
+                : HttpRequest.BodyPublishers.noBody();
+        return builder.method(recorded.getMethod(), bodyPublisher).build();
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.paxytools.warmupdicator.impl;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Type-appropriate sample values, in the text form used in paths, query strings and headers.
+ */
+final class SampleValues {
+
+    static final String TEXT = "warmup";
+
+    private SampleValues() {
+    }
+
+    /**
+     * Returns a value that converts to the given type, or a plain text value for unknown types.
+     */
+    static String forType(Class<?> type) {
+        if (type == null) {
+            return TEXT;
+        }
+        if (type.isArray()) {
+            return forType(type.getComponentType());
+        }
+        if (type.isEnum()) {
+            Object[] constants = type.getEnumConstants();
+            return constants.length > 0 ? ((Enum<?>) constants[0]).name() : TEXT;
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return "true";
+        }
+        if (type == int.class || type == Integer.class || type == long.class || type == Long.class
+                || type == short.class || type == Short.class || type == byte.class || type == Byte.class
+                || type == BigInteger.class) {
+            return "1";
+        }
+        if (type == double.class || type == Double.class || type == float.class || type == Float.class
+                || type == BigDecimal.class) {
+            return "1.0";
+        }
+        if (type == char.class || type == Character.class) {
+            return "a";
+        }
+        if (type == UUID.class) {
+            return "00000000-0000-0000-0000-000000000001";
+        }
+        if (type == LocalDate.class) {
+            return "2024-01-01";
+        }
+        if (type == LocalDateTime.class) {
+            return "2024-01-01T00:00:00";
+        }
+        if (type == LocalTime.class) {
+            return "00:00:00";
+        }
+        if (type == Instant.class || type == OffsetDateTime.class || type == ZonedDateTime.class || type == Date.class) {
+            return "2024-01-01T00:00:00Z";
+        }
+        if (type == Duration.class) {
+            return "PT1S";
+        }
+        if (type == Locale.class) {
+            return "en";
+        }
+        return TEXT;
+    }
+}
@@ -0,0 +1,586 @@
+package io.github.paxytools.warmupdicator.impl;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.RequestDispatcher;
+import jakarta.servlet.ServletConnection;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletMapping;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpUpgradeHandler;
+import jakarta.servlet.http.MappingMatch;
+import jakarta.servlet.http.Part;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Minimal request handed straight to the {@code DispatcherServlet}, without a connection behind it.
+ * <p>
+ * Requests are stateless: there is no session, no authenticated user and async processing is not supported.
+ */
+class SyntheticHttpServletRequest implements HttpServletRequest {
+
+    private static final String LOCAL_ADDRESS = "127.0.0.1";
+
+    private final ServletContext servletContext;
+    private final String method;
+    private final String contextPath;
+    private final String pathWithinContext;
+    private final String queryString;
+    private final Map<String, List<String>> headers;
+    private final byte[] body;
+    private final Map<String, String[]> parameters;
+    private final Map<String, Object> attributes = new LinkedHashMap<>();
+
+    private String characterEncoding;
+    private boolean bodyUsed;
+
+    SyntheticHttpServletRequest(ServletContext servletContext, String method, String contextPath, String pathWithinContext,
+                                String queryString, Map<String, List<String>> headers, byte[] body) {
+        this.servletContext = servletContext;
+        this.method = method;
+        this.contextPath = contextPath;
+        this.pathWithinContext = pathWithinContext;
+        this.queryString = queryString;
+        this.headers = new LinkedCaseInsensitiveMap<>(headers.size(), Locale.ROOT);
+        this.headers.putAll(headers);
+        this.body = body != null ? body : new byte[0];
+        this.characterEncoding = charsetOf(getContentType());
+        this.parameters = parseParameters();
+    }
+
+    private Map<String, String[]> parseParameters() {
+        MultiValueMap<String, String> values = new LinkedMultiValueMap<>();
+        parseQuery(queryString, values);
+        String contentType = getContentType();
+        if (contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith("application/x-www-form-urlencoded")) {
+            parseQuery(new String(body, getCharset()), values);
+        }
+        Map<String, String[]> result = new LinkedHashMap<>();
+        values.forEach((name, list) -> result.put(name, list.toArray(new String[0])));
+        return Collections.unmodifiableMap(result);
+    }
+
+    private void parseQuery(String query, MultiValueMap<String, String> values) {
+        if (query == null || query.isEmpty()) {
+            return;
+        }
+        Charset charset = getCharset();
+        for (String pair : query.split("&")) {
+            if (pair.isEmpty()) {
+                continue;
+            }
+            int separator = pair.indexOf('=');
+            String name = separator >= 0 ? pair.substring(0, separator) : pair;
+            String value = separator >= 0 ? pair.substring(separator + 1) : "";
+            values.add(URLDecoder.decode(name, charset), URLDecoder.decode(value, charset));
+        }
+    }
+
+    private static String charsetOf(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        for (String parameter : contentType.split(";")) {
+            String trimmed = parameter.trim();
+            if (trimmed.toLowerCase(Locale.ROOT).startsWith("charset=")) {
+                return trimmed.substring("charset=".length()).replace("\"", "");
+            }
+        }
+        return null;
+    }
+
+    private Charset getCharset() {
+        return characterEncoding != null ? Charset.forName(characterEncoding) : StandardCharsets.UTF_8;
+    }
+
+    // Request line
+
+    @Override
+    public String getMethod() {
+        return method;
+    }
+
+    @Override
+    public String getContextPath() {
+        return contextPath;
+    }
+
+    /**
+     * Matches a {@code DispatcherServlet} mapped to "/", for which the container exposes the whole path as servlet path.
+     */
+    @Override
+    public String getServletPath() {
+        return pathWithinContext;
+    }
+
+    @Override
+    public String getPathInfo() {
+        return null;
+    }
+
+    @Override
+    public String getPathTranslated() {
+        return null;
+    }
+
+    @Override
+    public HttpServletMapping getHttpServletMapping() {
+        return new HttpServletMapping() {
+            @Override
+            public String getMatchValue() {
+                return "";
+            }
+
+            @Override
+            public String getPattern() {
+                return "/";
+            }
+
+            @Override
+            public String getServletName() {
+                return DispatcherServletWarmupdicator.SERVLET_NAME;
+            }
+
+            @Override
+            public MappingMatch getMappingMatch() {
+                return MappingMatch.DEFAULT;
+            }
+        };
+    }
+
+    @Override
+    public String getQueryString() {
+        return queryString;
+    }
+
+    @Override
+    public String getRequestURI() {
+        return contextPath + pathWithinContext;
+    }
+
+    @Override
+    public StringBuffer getRequestURL() {
+        return new StringBuffer(getScheme()).append("://").append(getServerName()).append(':').append(getServerPort()).append(getRequestURI());
+    }
+
+    @Override
+    public String getProtocol() {
+        return "HTTP/1.1";
+    }
+
+    @Override
+    public String getScheme() {
+        return "http";
+    }
+
+    @Override
+    public String getServerName() {
+        return "localhost";
+    }
+
+    @Override
+    public int getServerPort() {
+        return 80;
+    }
+
+    @Override
+    public boolean isSecure() {
+        return false;
+    }
+
+    // Headers
+
+    @Override
+    public String getHeader(String name) {
+        List<String> values = headers.get(name);
+        return values != null && !values.isEmpty() ? values.get(0) : null;
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+        List<String> values = headers.get(name);
+        return Collections.enumeration(values != null ? values : Collections.emptyList());
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+        return Collections.enumeration(headers.keySet());
+    }
+
+    @Override
+    public long getDateHeader(String name) {
+        String value = getHeader(name);
+        return value != null ? ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli() : -1;
+    }
+
+    @Override
+    public int getIntHeader(String name) {
+        String value = getHeader(name);
+        return value != null ? Integer.parseInt(value) : -1;
+    }
+
+    @Override
+    public Cookie[] getCookies() {
+        return null;
+    }
+
+    @Override
+    public Locale getLocale() {
+        return Locale.getDefault();
+    }
+
+    @Override
+    public Enumeration<Locale> getLocales() {
+        return Collections.enumeration(List.of(getLocale()));
+    }
+
+    // Body
+
+    @Override
+    public String getCharacterEncoding() {
+        return characterEncoding;
+    }
+
+    @Override
+    public void setCharacterEncoding(String env) throws UnsupportedEncodingException {
+        if (!Charset.isSupported(env)) {
+            throw new UnsupportedEncodingException(env);
+        }
+        this.characterEncoding = env;
+    }
+
+    @Override
+    public int getContentLength() {
+        return body.length;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        return body.length;
+    }
+
+    @Override
+    public String getContentType() {
+        return getHeader("Content-Type");
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        markBodyUsed();
+        ByteArrayInputStream input = new ByteArrayInputStream(body);
+        return new ServletInputStream() {
+            @Override
+            public int read() {
+                return input.read();
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                return input.read(b, off, len);
+            }
+
+            @Override
+            public boolean isFinished() {
+                return input.available() == 0;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setReadListener(ReadListener readListener) {
+                throw new UnsupportedOperationException("Non-blocking reads are not supported");
+            }
+        };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        markBodyUsed();
+        return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body), getCharset()));
+    }
+
+    private void markBodyUsed() {
+        if (bodyUsed) {
+            throw new IllegalStateException("Request body has already been read");
+        }
+        bodyUsed = true;
+    }
+
+    // Parameters
+
+    @Override
+    public String getParameter(String name) {
+        String[] values = parameters.get(name);
+        return values != null && values.length > 0 ? values[0] : null;
+    }
+
+    @Override
+    public Enumeration<String> getParameterNames() {
+        return Collections.enumeration(parameters.keySet());
+    }
+
+    @Override
+    public String[] getParameterValues(String name) {
+        return parameters.get(name);
+    }
+
+    @Override
+    public Map<String, String[]> getParameterMap() {
+        return parameters;
+    }
+
+    @Override
+    public Collection<Part> getParts() {
+        return new ArrayList<>();
+    }
+
+    @Override
+    public Part getPart(String name) {
+        return null;
+    }
+
+    // Attributes
+
+    @Override
+    public Object getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        return Collections.enumeration(new ArrayList<>(attributes.keySet()));
+    }
+
+    @Override
+    public void setAttribute(String name, Object o) {
+        if (o == null) {
+            attributes.remove(name);
+        } else {
+            attributes.put(name, o);
+        }
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+        attributes.remove(name);
+    }
+
+    // Connection
+
+    @Override
+    public String getRemoteAddr() {
+        return LOCAL_ADDRESS;
+    }
+
+    @Override
+    public String getRemoteHost() {
+        return "localhost";
+    }
+
+    @Override
+    public int getRemotePort() {
+        return 0;
+    }
+
+    @Override
+    public String getLocalName() {
+        return "localhost";
+    }
+
+    @Override
+    public String getLocalAddr() {
+        return LOCAL_ADDRESS;
+    }
+
+    @Override
+    public int getLocalPort() {
+        return 80;
+    }
+
+    @Override
+    public String getRequestId() {
+        return "warmup";
+    }
+
+    @Override
+    public String getProtocolRequestId() {
+        return "";
+    }
+
+    @Override
+    public ServletConnection getServletConnection() {
+        return new ServletConnection() {
+            @Override
+            public String getConnectionId() {
+                return "warmup";
+            }
+
+            @Override
+            public String getProtocol() {
+                return SyntheticHttpServletRequest.this.getProtocol();
+            }
+
+            @Override
+            public String getProtocolConnectionId() {
+                return "";
+            }
+
+            @Override
+            public boolean isSecure() {
+                return false;
+            }
+        };
+    }
+
+    // Servlet container
+
+    @Override
+    public ServletContext getServletContext() {
+        return servletContext;
+    }
+
+    @Override
+    public RequestDispatcher getRequestDispatcher(String path) {
+        return servletContext.getRequestDispatcher(path);
+    }
+
+    @Override
+    public DispatcherType getDispatcherType() {
+        return DispatcherType.REQUEST;
+    }
+
+    @Override
+    public AsyncContext startAsync() {
+        throw new IllegalStateException("Async processing is not supported by in-process warmup requests");
+    }
+
+    @Override
+    public AsyncContext startAsync(ServletRequest servletRequest, ServletResponse servletResponse) {
+        return startAsync();
+    }
+
+    @Override
+    public boolean isAsyncStarted() {
+        return false;
+    }
+
+    @Override
+    public boolean isAsyncSupported() {
+        return false;
+    }
+
+    @Override
+    public AsyncContext getAsyncContext() {
+        throw new IllegalStateException("Async processing has not been started");
+    }
+
+    @Override
+    public <T extends HttpUpgradeHandler> T upgrade(Class<T> handlerClass) {
+        throw new UnsupportedOperationException("Protocol upgrades are not supported by in-process warmup requests");
+    }
+
+    // Session and security
+
+    @Override
+    public HttpSession getSession(boolean create) {
+        if (create) {
+            throw new IllegalStateException("Sessions are not supported by in-process warmup requests");
+        }
+        return null;
+    }
+
+    @Override
+    public HttpSession getSession() {
+        return getSession(true);
+    }
+
+    @Override
+    public String changeSessionId() {
+        throw new IllegalStateException("No session");
+    }
+
+    @Override
+    public String getRequestedSessionId() {
+        return null;
+    }
+
+    @Override
+    public boolean isRequestedSessionIdValid() {
+        return false;
+    }
+
+    @Override
+    public boolean isRequestedSessionIdFromCookie() {
+        return false;
+    }
+
+    @Override
+    public boolean isRequestedSessionIdFromURL() {
+        return false;
+    }
+
+    @Override
+    public String getAuthType() {
+        return null;
+    }
+
+    @Override
+    public String getRemoteUser() {
+        return null;
+    }
+
+    @Override
+    public boolean isUserInRole(String role) {
+        return false;
+    }
+
+    @Override
+    public Principal getUserPrincipal() {
+        return null;
+    }
+
+    @Override
+    public boolean authenticate(HttpServletResponse response) {
+        return false;
+    }
+
+    @Override
+    public void login(String username, String password) {
+        throw new UnsupportedOperationException("Login is not supported by in-process warmup requests");
+    }
+
+    @Override
+    public void logout() {
+    }
+}
@@ -0,0 +1,299 @@
+package io.github.paxytools.warmupdicator.impl;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Response paired with {@link SyntheticHttpServletRequest}. The body is counted and discarded.
+ */
+class SyntheticHttpServletResponse implements HttpServletResponse {
+
+    private final Map<String, List<String>> headers = new LinkedCaseInsensitiveMap<>(Locale.ROOT);
+
+    private final ServletOutputStream outputStream = new ServletOutputStream() {
+        @Override
+        public void write(int b) {
+            bytesWritten++;
+            committed = true;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytesWritten += len;
+            committed = true;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            throw new UnsupportedOperationException("Non-blocking writes are not supported");
+        }
+    };
+
+    private int status = SC_OK;
+    private boolean committed;
+    private long bytesWritten;
+    private String characterEncoding;
+    private String contentType;
+    private Locale locale = Locale.getDefault();
+    private PrintWriter writer;
+
+    /**
+     * Returns the number of body bytes written by the handler.
+     */
+    long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    // Status
+
+    @Override
+    public void setStatus(int sc) {
+        if (!committed) {
+            this.status = sc;
+        }
+    }
+
+    @Override
+    public int getStatus() {
+        return status;
+    }
+
+    @Override
+    public void sendError(int sc, String msg) {
+        if (committed) {
+            throw new IllegalStateException("Response already committed");
+        }
+        this.status = sc;
+        this.committed = true;
+    }
+
+    @Override
+    public void sendError(int sc) {
+        sendError(sc, null);
+    }
+
+    @Override
+    public void sendRedirect(String location) {
+        if (committed) {
+            throw new IllegalStateException("Response already committed");
+        }
+        setHeader("Location", location);
+        this.status = SC_FOUND;
+        this.committed = true;
+    }
+
+    // Headers
+
+    @Override
+    public void setHeader(String name, String value) {
+        if (name.equalsIgnoreCase("Content-Type")) {
+            setContentType(value);
+            return;
+        }
+        List<String> values = new ArrayList<>();
+        values.add(value);
+        headers.put(name, values);
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        if (name.equalsIgnoreCase("Content-Type")) {
+            setContentType(value);
+            return;
+        }
+        headers.computeIfAbsent(name, key -> new ArrayList<>()).add(value);
+    }
+
+    @Override
+    public void setDateHeader(String name, long date) {
+        setHeader(name, formatDate(date));
+    }
+
+    @Override
+    public void addDateHeader(String name, long date) {
+        addHeader(name, formatDate(date));
+    }
+
+    private static String formatDate(long date) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(date).atZone(ZoneOffset.UTC));
+    }
+
+    @Override
+    public void setIntHeader(String name, int value) {
+        setHeader(name, String.valueOf(value));
+    }
+
+    @Override
+    public void addIntHeader(String name, int value) {
+        addHeader(name, String.valueOf(value));
+    }
+
+    @Override
+    public boolean containsHeader(String name) {
+        return headers.containsKey(name) || (name.equalsIgnoreCase("Content-Type") && contentType != null);
+    }
+
+    @Override
+    public String getHeader(String name) {
+        if (name.equalsIgnoreCase("Content-Type")) {
+            return contentType;
+        }
+        List<String> values = headers.get(name);
+        return values != null && !values.isEmpty() ? values.get(0) : null;
+    }
+
+    @Override
+    public Collection<String> getHeaders(String name) {
+        if (name.equalsIgnoreCase("Content-Type")) {
+            return contentType != null ? List.of(contentType) : List.of();
+        }
+        List<String> values = headers.get(name);
+        return values != null ? new ArrayList<>(values) : new ArrayList<>();
+    }
+
+    @Override
+    public Collection<String> getHeaderNames() {
+        List<String> names = new ArrayList<>(headers.keySet());
+        if (contentType != null) {
+            names.add("Content-Type");
+        }
+        return names;
+    }
+
+    @Override
+    public void addCookie(Cookie cookie) {
+        addHeader("Set-Cookie", cookie.getName() + "=" + cookie.getValue());
+    }
+
+    @Override
+    public String encodeURL(String url) {
+        return url;
+    }
+
+    @Override
+    public String encodeRedirectURL(String url) {
+        return url;
+    }
+
+    // Body
+
+    @Override
+    public String getCharacterEncoding() {
+        return characterEncoding != null ? characterEncoding : StandardCharsets.ISO_8859_1.name();
+    }
+
+    @Override
+    public void setCharacterEncoding(String charset) {
+        if (writer == null && !committed) {
+            this.characterEncoding = charset;
+        }
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public void setContentType(String type) {
+        if (!committed) {
+            this.contentType = type;
+        }
+    }
+
+    @Override
+    public void setContentLength(int len) {
+        setContentLengthLong(len);
+    }
+
+    @Override
+    public void setContentLengthLong(long len) {
+        if (!committed) {
+            setHeader("Content-Length", String.valueOf(len));
+        }
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() {
+        if (writer == null) {
+            writer = new PrintWriter(new OutputStreamWriter(outputStream, Charset.forName(getCharacterEncoding())), true);
+        }
+        return writer;
+    }
+
+    @Override
+    public void setBufferSize(int size) {
+    }
+
+    @Override
+    public int getBufferSize() {
+        return 0;
+    }
+
+    @Override
+    public void flushBuffer() {
+        if (writer != null) {
+            writer.flush();
+        }
+        committed = true;
+    }
+
+    @Override
+    public void resetBuffer() {
+        if (committed) {
+            throw new IllegalStateException("Response already committed");
+        }
+    }
+
+    @Override
+    public boolean isCommitted() {
+        return committed;
+    }
+
+    @Override
+    public void reset() {
+        resetBuffer();
+        status = SC_OK;
+        headers.clear();
+        contentType = null;
+        characterEncoding = null;
+    }
+
+    @Override
+    public void setLocale(Locale loc) {
+        if (!committed && loc != null) {
+            this.locale = loc;
+        }
+    }
+
+    @Override
+    public Locale getLocale() {
+        return locale;
+    }
+}
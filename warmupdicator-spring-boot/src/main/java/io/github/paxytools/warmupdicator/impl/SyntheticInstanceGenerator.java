@@ -0,0 +1,387 @@
+package io.github.paxytools.warmupdicator.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Builds populated instances of DTO types, so that serializing them reaches the serializers of every
+ * nested type instead of stopping at null fields.
+ * <p>
+ * Records are created through their canonical constructor. Other classes through their no-arg
+ * constructor, after which setters and non-final fields are filled, or else through their public
+ * constructor with the most parameters. Type variables are resolved against the generics of the
+ * owning type, e.g. {@code T} of {@code Page<Foo>}. Beans nested deeper than {@code maxDepth},
+ * recursive references, interfaces and abstract types are left null, and collections, maps and
+ * arrays get {@code collectionSize} elements.
+ */
+@Slf4j
+class SyntheticInstanceGenerator {
+
+    private static final LocalDateTime SAMPLE_DATE_TIME = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private final int maxDepth;
+    private final int collectionSize;
+
+    SyntheticInstanceGenerator(int maxDepth, int collectionSize) {
+        this.maxDepth = maxDepth;
+        this.collectionSize = Math.max(0, collectionSize);
+    }
+
+    /**
+     * Returns a populated instance of the type, or null if it cannot be instantiated.
+     */
+    Object generate(ResolvableType type) {
+        return generate(type, 0, new ArrayDeque<>());
+    }
+
+    Object generate(Class<?> type) {
+        return generate(ResolvableType.forClass(type));
+    }
+
+    private Object generate(ResolvableType type, int depth, Deque<Class<?>> path) {
+        Class<?> raw = type.resolve();
+        if (raw == null) {
+            return null;
+        }
+
+        Object simple = simpleValue(raw);
+        if (simple != null) {
+            return simple;
+        }
+        if (raw.isEnum()) {
+            Object[] constants = raw.getEnumConstants();
+            return constants.length > 0 ? constants[0] : null;
+        }
+        if (raw == Optional.class) {
+            return Optional.ofNullable(generate(type.getGeneric(0), depth, path));
+        }
+        if (raw.isArray()) {
+            return generateArray(type, depth, path);
+        }
+        if (Collection.class.isAssignableFrom(raw)) {
+            return generateCollection(type, raw, depth, path);
+        }
+        if (Map.class.isAssignableFrom(raw)) {
+            return generateMap(type, raw, depth, path);
+        }
+        if (raw.isInterface() || Modifier.isAbstract(raw.getModifiers()) || raw.isPrimitive()
+                || raw.getName().startsWith("java.") || raw.getName().startsWith("javax.")) {
+            return null;
+        }
+        if (depth >= maxDepth || path.contains(raw)) {
+            return null;
+        }
+
+        path.push(raw);
+        try {
+            return raw.isRecord() ? generateRecord(type, raw, depth, path) : generateBean(type, raw, depth, path);
+        } catch (Exception | LinkageError e) {
+            log.debug("Cannot generate instance of {}: {}", raw.getName(), e.toString());
+            return null;
+        } finally {
+            path.pop();
+        }
+    }
+
+    private static Object simpleValue(Class<?> type) {
+        if (type == String.class || type == CharSequence.class) {
+            return SampleValues.TEXT;
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return Boolean.TRUE;
+        }
+        if (type == int.class || type == Integer.class) {
+            return 1;
+        }
+        if (type == long.class || type == Long.class) {
+            return 1L;
+        }
+        if (type == double.class || type == Double.class) {
+            return 1.0d;
+        }
+        if (type == float.class || type == Float.class) {
+            return 1.0f;
+        }
+        if (type == short.class || type == Short.class) {
+            return (short) 1;
+        }
+        if (type == byte.class || type == Byte.class) {
+            return (byte) 1;
+        }
+        if (type == char.class || type == Character.class) {
+            return 'a';
+        }
+        if (type == BigDecimal.class) {
+            return BigDecimal.ONE;
+        }
+        if (type == BigInteger.class) {
+            return BigInteger.ONE;
+        }
+        if (type == UUID.class) {
+            return UUID.fromString(SampleValues.forType(UUID.class));
+        }
+        if (type == LocalDate.class) {
+            return SAMPLE_DATE_TIME.toLocalDate();
+        }
+        if (type == LocalDateTime.class) {
+            return SAMPLE_DATE_TIME;
+        }
+        if (type == LocalTime.class) {
+            return SAMPLE_DATE_TIME.toLocalTime();
+        }
+        if (type == Instant.class) {
+            return SAMPLE_DATE_TIME.toInstant(ZoneOffset.UTC);
+        }
+        if (type == OffsetDateTime.class) {
+            return SAMPLE_DATE_TIME.atOffset(ZoneOffset.UTC);
+        }
+        if (type == ZonedDateTime.class) {
+            return SAMPLE_DATE_TIME.atZone(ZoneOffset.UTC);
+        }
+        if (type == YearMonth.class) {
+            return YearMonth.from(SAMPLE_DATE_TIME);
+        }
+        if (type == Year.class) {
+            return Year.from(SAMPLE_DATE_TIME);
+        }
+        if (type == Duration.class) {
+            return Duration.ofSeconds(1);
+        }
+        if (type == Date.class) {
+            return Date.from(SAMPLE_DATE_TIME.toInstant(ZoneOffset.UTC));
+        }
+        if (type == Locale.class) {
+            return Locale.ENGLISH;
+        }
+        return null;
+    }
+
+    private Object generateArray(ResolvableType type, int depth, Deque<Class<?>> path) {
+        ResolvableType componentType = type.getComponentType();
+        Class<?> component = componentType.resolve(Object.class);
+        Object array = Array.newInstance(component, collectionSize);
+        for (int i = 0; i < collectionSize; i++) {
+            Object element = generate(componentType, depth, path);
+            if (element == null && component.isPrimitive()) {
+                break;
+            }
+            Array.set(array, i, element);
+        }
+        return array;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object generateCollection(ResolvableType type, Class<?> raw, int depth, Deque<Class<?>> path) {
+        Collection<Object> collection = (Collection<Object>) newCollection(raw);
+        if (collection == null) {
+            return null;
+        }
+        ResolvableType elementType = type.asCollection().getGeneric(0);
+        for (int i = 0; i < collectionSize; i++) {
+            Object element = elementKey(elementType, i, depth, path);
+            if (element != null) {
+                collection.add(element);
+            }
+        }
+        return collection;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object generateMap(ResolvableType type, Class<?> raw, int depth, Deque<Class<?>> path) {
+        Map<Object, Object> map = (Map<Object, Object>) newMap(raw);
+        if (map == null) {
+            return null;
+        }
+        ResolvableType mapType = type.asMap();
+        for (int i = 0; i < collectionSize; i++) {
+            Object key = elementKey(mapType.getGeneric(0), i, depth, path);
+            if (key != null) {
+                map.put(key, generate(mapType.getGeneric(1), depth, path));
+            }
+        }
+        return map;
+    }
+
+    /**
+     * Returns distinct values for strings and enums, so that sets and maps get more than one entry.
+     */
+    private Object elementKey(ResolvableType type, int index, int depth, Deque<Class<?>> path) {
+        Class<?> raw = type.resolve();
+        if (raw == String.class) {
+            return SampleValues.TEXT + index;
+        }
+        if (raw != null && raw.isEnum()) {
+            Object[] constants = raw.getEnumConstants();
+            return constants.length > 0 ? constants[index % constants.length] : null;
+        }
+        return generate(type, depth, path);
+    }
+
+    private static Collection<?> newCollection(Class<?> raw) {
+        if (raw.isInterface() || Modifier.isAbstract(raw.getModifiers())) {
+            if (raw.isAssignableFrom(ArrayList.class)) {
+                return new ArrayList<>();
+            }
+            if (raw.isAssignableFrom(TreeSet.class) && SortedSet.class.isAssignableFrom(raw)) {
+                return new TreeSet<>();
+            }
+            if (raw.isAssignableFrom(LinkedHashSet.class)) {
+                return new LinkedHashSet<>();
+            }
+            if (raw.isAssignableFrom(ArrayDeque.class) && Queue.class.isAssignableFrom(raw)) {
+                return new ArrayDeque<>();
+            }
+            return null;
+        }
+        return (Collection<?>) instantiate(raw);
+    }
+
+    private static Map<?, ?> newMap(Class<?> raw) {
+        if (raw.isInterface() || Modifier.isAbstract(raw.getModifiers())) {
+            if (raw.isAssignableFrom(LinkedHashMap.class)) {
+                return new LinkedHashMap<>();
+            }
+            if (raw.isAssignableFrom(TreeMap.class) && SortedMap.class.isAssignableFrom(raw)) {
+                return new TreeMap<>();
+            }
+            return null;
+        }
+        return (Map<?, ?>) instantiate(raw);
+    }
+
+    private static Object instantiate(Class<?> raw) {
+        try {
+            Constructor<?> constructor = raw.getDeclaredConstructor();
+            return constructor.trySetAccessible() ? constructor.newInstance() : null;
+        } catch (Exception | LinkageError e) {
+            return null;
+        }
+    }
+
+    private Object generateRecord(ResolvableType type, Class<?> raw, int depth, Deque<Class<?>> path) throws Exception {
+        RecordComponent[] components = raw.getRecordComponents();
+        Class<?>[] parameterTypes = Arrays.stream(components).map(RecordComponent::getType).toArray(Class<?>[]::new);
+        Object[] arguments = new Object[components.length];
+        for (int i = 0; i < components.length; i++) {
+            ResolvableType componentType = ResolvableType.forMethodParameter(new MethodParameter(components[i].getAccessor(), -1), type);
+            arguments[i] = valueOrDefault(generate(componentType, depth + 1, path), parameterTypes[i]);
+        }
+        Constructor<?> constructor = raw.getDeclaredConstructor(parameterTypes);
+        if (!constructor.trySetAccessible()) {
+            return null;
+        }
+        return constructor.newInstance(arguments);
+    }
+
+    private Object generateBean(ResolvableType type, Class<?> raw, int depth, Deque<Class<?>> path) throws Exception {
+        Object instance = instantiate(raw);
+        if (instance == null) {
+            return generateWithConstructor(type, raw, depth, path);
+        }
+
+        Set<String> filled = new HashSet<>();
+        for (Method method : raw.getMethods()) {
+            if (isSetter(method)) {
+                ResolvableType parameterType = ResolvableType.forMethodParameter(new MethodParameter(method, 0), type);
+                Object value = generate(parameterType, depth + 1, path);
+                if (value != null) {
+                    try {
+                        method.invoke(instance, value);
+                        filled.add(propertyName(method));
+                    } catch (Exception e) {
+                        log.debug("Cannot call {}.{}: {}", raw.getSimpleName(), method.getName(), e.toString());
+                    }
+                }
+            }
+        }
+        for (Class<?> current = raw; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers) || field.isSynthetic()
+                        || filled.contains(field.getName()) || !field.trySetAccessible()) {
+                    continue;
+                }
+                Object value = generate(ResolvableType.forField(field, type), depth + 1, path);
+                if (value != null) {
+                    field.set(instance, value);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Falls back to the public constructor with the most parameters, e.g. for immutable classes with a {@code @JsonCreator}.
+     */
+    private Object generateWithConstructor(ResolvableType type, Class<?> raw, int depth, Deque<Class<?>> path) throws Exception {
+        Constructor<?> constructor = Arrays.stream(raw.getConstructors())
+                .max(Comparator.comparingInt(Constructor::getParameterCount))
+                .orElse(null);
+        if (constructor == null) {
+            return null;
+        }
+        Object[] arguments = new Object[constructor.getParameterCount()];
+        for (int i = 0; i < arguments.length; i++) {
+            ResolvableType parameterType = ResolvableType.forMethodParameter(new MethodParameter(constructor, i), type);
+            arguments[i] = valueOrDefault(generate(parameterType, depth + 1, path), constructor.getParameterTypes()[i]);
+        }
+        return constructor.newInstance(arguments);
+    }
+
+    private static Object valueOrDefault(Object value, Class<?> type) {
+        if (value != null || !type.isPrimitive()) {
+            return value;
+        }
+        return Array.get(Array.newInstance(type, 1), 0);
+    }
+
+    private static boolean isSetter(Method method) {
+        return method.getName().startsWith("set") && method.getName().length() > 3
+                && method.getParameterCount() == 1 && !Modifier.isStatic(method.getModifiers());
+    }
+
+    private static String propertyName(Method setter) {
+        String name = setter.getName().substring(3);
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.paxytools.warmupdicator.impl;
+
+import io.github.paxytools.warmupdicator.api.FailureType;
+import io.github.paxytools.warmupdicator.config.EndpointWarmerProperties.EndpointProperties;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Implementation of Warmupdicator that calls an endpoint with the application's {@link WebClient}.
+ * <p>
+ * Besides the server side, this warms the client codecs and connector the application uses for its own
+ * outgoing calls. Response bodies are released without being decoded. In async mode repeated calls are
+ * pipelined on the connector's event loop instead of blocking a thread each.
+ */
+public class WebClientWarmupdicator extends AbstractEndpointWarmupdicator {
+
+    private final WebClient webClient;
+
+    public WebClientWarmupdicator(EndpointProperties endpoint, WebClient webClient) {
+        super(endpoint);
+        this.webClient = webClient;
+    }
+
+    @Override
+    protected int call() throws Exception {
+        Integer statusCode = exchange().block();
+        return statusCode != null ? statusCode : 0;
+    }
+
+    @Override
+    protected void runRepeatedCalls(BooleanSupplier hasNextCall, int workers, LatencyRecorder recorder, LatencyConvergenceDetector detector,
+                                    AtomicReference<String> lastError, AtomicReference<FailureType> lastFailureType) throws Exception {
+        if (endpoint.isAsync()) {
+            runPipelined(() -> exchange().toFuture(), hasNextCall, workers, recorder, detector, lastError, lastFailureType);
+        } else {
+            super.runRepeatedCalls(hasNextCall, workers, recorder, detector, lastError, lastFailureType);
+        }
+    }
+
+    /**
+     * Builds the request when subscribed, so that an invalid URL or method fails the returned Mono
+     * instead of throwing to the caller.
+     */
+    private Mono<Integer> exchange() {
+        return Mono.defer(() -> {
+            String method = endpoint.getHttpMethod() != null ? endpoint.getHttpMethod().toUpperCase() : "GET";
+            WebClient.RequestBodySpec request = webClient.method(HttpMethod.valueOf(method))
+                    .uri(endpoint.getUrl())
+                    .headers(headers -> {
+                        // Set default Content-Type header, then apply custom headers (which can override defaults)
+                        headers.setContentType(MediaType.APPLICATION_JSON);
+                        if (endpoint.getHeaders() != null) {
+                            endpoint.getHeaders().forEach(headers::set);
+                        }
+                    });
+            WebClient.RequestHeadersSpec<?> spec = endpoint.getRequestBody() != null ? request.bodyValue(endpoint.getRequestBody()) : request;
+            return spec.exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode().value()));
+        }).timeout(Duration.ofMillis(endpoint.getMaxResponseTime()));
+    }
+}
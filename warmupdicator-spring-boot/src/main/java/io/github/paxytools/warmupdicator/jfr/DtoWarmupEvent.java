@@ -0,0 +1,27 @@
+package io.github.paxytools.warmupdicator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning the serialization and deserialization warmup of a single DTO type.
+ */
+@Name(DtoWarmupEvent.NAME)
+@Label("DTO Warmup")
+@Category({"Warmupdicator"})
+@StackTrace(false)
+public class DtoWarmupEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "io.github.paxytools.warmupdicator.DtoWarmup";
+
+    @Label("Type")
+    public String type;
+
+    @Label("Outcome")
+    public String outcome;
+
+    @Label("Error")
+    public String error;
+}
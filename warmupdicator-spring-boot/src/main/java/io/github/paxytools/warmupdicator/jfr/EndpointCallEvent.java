@@ -0,0 +1,34 @@
+package io.github.paxytools.warmupdicator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning a single HTTP call of an endpoint warmer.
+ * Calls that are pipelined asynchronously are committed on the thread that completed them.
+ */
+@Name(EndpointCallEvent.NAME)
+@Label("Endpoint Warmup Call")
+@Category({"Warmupdicator"})
+@StackTrace(false)
+public class EndpointCallEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "io.github.paxytools.warmupdicator.EndpointCall";
+
+    @Label("Warmer")
+    public String warmer;
+
+    @Label("Method")
+    public String method;
+
+    @Label("URL")
+    public String url;
+
+    @Label("Status Code")
+    public int statusCode;
+
+    @Label("Error")
+    public String error;
+}
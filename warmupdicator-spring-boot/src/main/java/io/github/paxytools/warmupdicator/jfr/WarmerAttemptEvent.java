@@ -0,0 +1,38 @@
+package io.github.paxytools.warmupdicator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning a single attempt of a warmer, on the thread that ran it.
+ */
+@Name(WarmerAttemptEvent.NAME)
+@Label("Warmer Attempt")
+@Category({"Warmupdicator"})
+@StackTrace(false)
+public class WarmerAttemptEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "io.github.paxytools.warmupdicator.WarmerAttempt";
+
+    @Label("Warmer")
+    public String warmer;
+
+    @Label("Tier")
+    public String tier;
+
+    @Label("Attempt")
+    @Description("Attempt number, starting at 1")
+    public int attempt;
+
+    @Label("Success")
+    public boolean success;
+
+    @Label("Failure Type")
+    public String failureType;
+
+    @Label("Message")
+    public String message;
+}
@@ -0,0 +1,31 @@
+package io.github.paxytools.warmupdicator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning a warmup run, from its start until the critical warmers have finished.
+ */
+@Name(WarmupRunEvent.NAME)
+@Label("Warmup Run")
+@Description("Time until every critical warmer succeeded or the warmup gave up")
+@Category({"Warmupdicator"})
+@StackTrace(false)
+public class WarmupRunEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "io.github.paxytools.warmupdicator.WarmupRun";
+
+    @Label("Warmers")
+    public int warmers;
+
+    @Label("Tries")
+    @Description("Warmer attempts made across all warmers")
+    public int tries;
+
+    @Label("Succeeded")
+    @Description("Whether every critical warmer succeeded")
+    public boolean succeeded;
+}
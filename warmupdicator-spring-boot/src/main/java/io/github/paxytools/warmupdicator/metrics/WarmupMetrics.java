@@ -0,0 +1,164 @@
+package io.github.paxytools.warmupdicator.metrics;
+
+import io.github.paxytools.warmupdicator.api.WarmupListener;
+import io.github.paxytools.warmupdicator.api.WarmupResult;
+import io.github.paxytools.warmupdicator.api.Warmupdicator;
+import io.github.paxytools.warmupdicator.impl.DtoWarmupIndicator;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Publishes the progress of the warmup to a Micrometer {@link MeterRegistry}.
+ * <ul>
+ *     <li>{@code warmupdicator.warmer.attempt}: timer of every attempt, tagged by warmer id, tier and outcome</li>
+ *     <li>{@code warmupdicator.warmer.duration}: timer from the first attempt until a warmer succeeded or gave up,
+ *     backoffs included, tagged by warmer id, tier and outcome</li>
+ *     <li>{@code warmupdicator.warmer.attempts}: attempts a warmer needed, tagged by warmer id, tier and outcome</li>
+ *     <li>{@code warmupdicator.warmers.pending}: gauge of the warmers that have not finished yet</li>
+ *     <li>{@code warmupdicator.warmup.duration}: timer of the time to warm, tagged by outcome</li>
+ *     <li>{@code warmupdicator.dto.types}: gauge of the DTO types of the last DTO warmup, tagged by outcome</li>
+ * </ul>
+ * The registry is looked up when the warmup starts, so that it can be defined after the warmers.
+ * Without a registry nothing is published.
+ */
+public class WarmupMetrics implements WarmupListener {
+
+    static final String ATTEMPT = "warmupdicator.warmer.attempt";
+    static final String WARMER_DURATION = "warmupdicator.warmer.duration";
+    static final String WARMER_ATTEMPTS = "warmupdicator.warmer.attempts";
+    static final String PENDING = "warmupdicator.warmers.pending";
+    static final String WARMUP_DURATION = "warmupdicator.warmup.duration";
+    static final String DTO_TYPES = "warmupdicator.dto.types";
+
+    private static final Map<String, String> DTO_OUTCOMES = Map.of(
+            "warmed", "warmed",
+            "skipped", "skipped",
+            "failed", "failed",
+            "timedOut", "timed-out");
+
+    private final Supplier<MeterRegistry> registrySupplier;
+    private volatile MeterRegistry registry;
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Map<String, Long> firstAttemptNanos = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> dtoTypes = new ConcurrentHashMap<>();
+
+    public WarmupMetrics(MeterRegistry registry) {
+        this(() -> registry);
+    }
+
+    public WarmupMetrics(Supplier<MeterRegistry> registrySupplier) {
+        this.registrySupplier = registrySupplier;
+    }
+
+    @Override
+    public void warmupStarted(Collection<Warmupdicator> warmers) {
+        MeterRegistry meterRegistry = registry();
+        if (meterRegistry == null) {
+            return;
+        }
+        pending.set(warmers.size());
+        Gauge.builder(PENDING, pending, AtomicInteger::get)
+                .description("Warmers that have not finished yet")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void attemptStarted(Warmupdicator warmer, int attempt) {
+        if (attempt == 1) {
+            firstAttemptNanos.put(warmer.getId(), System.nanoTime());
+        }
+    }
+
+    @Override
+    public void attemptFinished(Warmupdicator warmer, int attempt, WarmupResult result, Duration duration) {
+        MeterRegistry meterRegistry = registry();
+        if (meterRegistry == null) {
+            return;
+        }
+        Timer.builder(ATTEMPT)
+                .description("Duration of a single warmer attempt")
+                .tags("id", warmer.getId(), "tier", tierOf(warmer), "outcome", result.isSuccess() ? "success" : "failure")
+                .register(meterRegistry)
+                .record(duration);
+    }
+
+    @Override
+    public void warmerFinished(Warmupdicator warmer, WarmupResult result) {
+        pending.decrementAndGet();
+        Long startNanos = firstAttemptNanos.remove(warmer.getId());
+        MeterRegistry meterRegistry = registry();
+        if (meterRegistry == null) {
+            return;
+        }
+        String outcome = result == null ? "skipped" : result.isSuccess() ? "success" : "failure";
+        if (startNanos != null) {
+            Timer.builder(WARMER_DURATION)
+                    .description("Time from the first attempt of a warmer until it succeeded or gave up")
+                    .tags("id", warmer.getId(), "tier", tierOf(warmer), "outcome", outcome)
+                    .register(meterRegistry)
+                    .record(Duration.ofNanos(System.nanoTime() - startNanos));
+        }
+        if (result != null) {
+            DistributionSummary.builder(WARMER_ATTEMPTS)
+                    .description("Attempts a warmer needed to succeed or give up")
+                    .tags("id", warmer.getId(), "tier", tierOf(warmer), "outcome", outcome)
+                    .register(meterRegistry)
+                    .record(result.getAttemptCount());
+        }
+        if (warmer instanceof DtoWarmupIndicator && result != null) {
+            publishDtoTypes(meterRegistry, result.getDetails());
+        }
+    }
+
+    @Override
+    public void warmupFinished(boolean succeeded, Duration duration) {
+        MeterRegistry meterRegistry = registry();
+        if (meterRegistry == null) {
+            return;
+        }
+        Timer.builder(WARMUP_DURATION)
+                .description("Time until every critical warmer succeeded or the warmup gave up")
+                .tag("outcome", succeeded ? "success" : "failure")
+                .register(meterRegistry)
+                .record(duration);
+    }
+
+    private void publishDtoTypes(MeterRegistry meterRegistry, Map<String, Object> details) {
+        DTO_OUTCOMES.forEach((detail, outcome) -> {
+            if (details.get(detail) instanceof Number count) {
+                dtoTypes.computeIfAbsent(outcome, key -> {
+                    AtomicLong value = new AtomicLong();
+                    Gauge.builder(DTO_TYPES, value, AtomicLong::get)
+                            .description("DTO types of the last DTO warmup")
+                            .tag("outcome", key)
+                            .register(meterRegistry);
+                    return value;
+                }).set(count.longValue());
+            }
+        });
+    }
+
+    private MeterRegistry registry() {
+        MeterRegistry current = registry;
+        if (current == null) {
+            current = registrySupplier.get();
+            registry = current;
+        }
+        return current;
+    }
+
+    private static String tierOf(Warmupdicator warmer) {
+        return warmer.getTier() != null ? warmer.getTier().name().toLowerCase() : "critical";
+    }
+}
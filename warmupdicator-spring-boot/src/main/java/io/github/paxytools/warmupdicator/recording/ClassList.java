@@ -0,0 +1,77 @@
+package io.github.paxytools.warmupdicator.recording;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reads and writes class lists: plain text files with one binary class name per line, in load order.
+ * Blank lines and lines starting with {@code #} are ignored.
+ */
+public final class ClassList {
+
+    private ClassList() {
+    }
+
+    /**
+     * Reads the class names of a class list, skipping names matching one of the exclude patterns.
+     */
+    public static List<String> read(InputStream in, Collection<String> excludePatterns) throws IOException {
+        List<String> names = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String name = line.trim();
+                if (!name.isEmpty() && !name.startsWith("#") && !isExcluded(name, excludePatterns)) {
+                    names.add(name);
+                }
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Writes the class names to the file, replacing it atomically so a concurrent reader never sees a partial list.
+     */
+    public static void write(Path file, Collection<String> names) throws IOException {
+        Path absolute = file.toAbsolutePath();
+        if (absolute.getParent() != null) {
+            Files.createDirectories(absolute.getParent());
+        }
+        Path temp = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                writer.write("# Classes loaded until the end of warmup, in load order");
+                writer.newLine();
+                for (String name : names) {
+                    writer.write(name);
+                    writer.newLine();
+                }
+            }
+            Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Whether the class name matches one of the patterns, where {@code *} matches any sequence of characters.
+     */
+    public static boolean isExcluded(String name, Collection<String> excludePatterns) {
+        for (String pattern : excludePatterns) {
+            if (name.matches(pattern.replace(".", "\\.").replace("$", "\\$").replace("*", ".*"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
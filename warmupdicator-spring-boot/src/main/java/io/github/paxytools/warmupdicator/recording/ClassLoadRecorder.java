@@ -0,0 +1,135 @@
+package io.github.paxytools.warmupdicator.recording;
+
+import io.github.paxytools.warmupdicator.config.ClassPreloaderProperties;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Records the classes the application loads until the end of warmup into a class list for the class preloader.
+ * <p>
+ * A JFR recording of {@code jdk.ClassLoad} events without stack traces is started on construction, so it covers
+ * the rest of the startup and the whole warmup. {@link #write} stops it and writes the loaded classes in load
+ * order. Hidden and generated classes, such as lambdas and proxies, are left out since they cannot be loaded by
+ * name, as are classes the given class loader cannot see.
+ */
+@Slf4j
+public class ClassLoadRecorder implements Closeable {
+
+    static final String CLASS_LOAD_EVENT = "jdk.ClassLoad";
+
+    private final ClassPreloaderProperties properties;
+    private final ClassLoader classLoader;
+    private final Recording recording;
+
+    public ClassLoadRecorder(ClassPreloaderProperties properties, ClassLoader classLoader) {
+        this.properties = properties;
+        this.classLoader = classLoader;
+        if (FlightRecorder.isAvailable()) {
+            this.recording = new Recording();
+            recording.setName("warmupdicator-class-load");
+            recording.enable(CLASS_LOAD_EVENT).withoutStackTrace().withThreshold(Duration.ZERO);
+            recording.start();
+        } else {
+            log.warn("Flight Recorder is not available on this JVM, loaded classes are not recorded");
+            this.recording = null;
+        }
+    }
+
+    /**
+     * Stops the recording and writes the loaded classes to the class list.
+     *
+     * @return the number of classes written, or -1 if nothing was recorded
+     */
+    public synchronized int write() {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            return -1;
+        }
+        Path dump = null;
+        try {
+            recording.stop();
+            dump = Files.createTempFile("warmupdicator-classes", ".jfr");
+            recording.dump(dump);
+            Set<String> names = readLoadedClasses(dump);
+            Path file = Path.of(properties.getFile());
+            ClassList.write(file, names);
+            log.info("Recorded {} loaded classes to {}", names.size(), file.toAbsolutePath());
+            return names.size();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to record loaded classes: {}", e.getMessage());
+            return -1;
+        } finally {
+            recording.close();
+            if (dump != null) {
+                try {
+                    Files.deleteIfExists(dump);
+                } catch (IOException e) {
+                    log.debug("Cannot delete {}: {}", dump, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private Set<String> readLoadedClasses(Path dump) throws IOException {
+        // Other recordings running at the same time can contribute events to the dump
+        List<RecordedEvent> events = new ArrayList<>();
+        try (RecordingFile file = new RecordingFile(dump)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                if (CLASS_LOAD_EVENT.equals(event.getEventType().getName())) {
+                    events.add(event);
+                }
+            }
+        }
+        events.sort(Comparator.comparing(RecordedEvent::getStartTime));
+
+        Set<String> names = new LinkedHashSet<>();
+        for (RecordedEvent event : events) {
+            RecordedClass loadedClass = event.getClass("loadedClass");
+            if (loadedClass != null && isRecordable(loadedClass.getName())) {
+                names.add(loadedClass.getName());
+            }
+        }
+        names.removeIf(name -> !isVisible(name));
+        return names;
+    }
+
+    private boolean isRecordable(String name) {
+        return !name.startsWith("[") && !name.contains("/") && !name.contains("$$")
+                && !ClassList.isExcluded(name, properties.getExcludePatterns());
+    }
+
+    /**
+     * Whether the class loader resolves the name. Recorded classes are loaded already, so this rarely loads anything.
+     */
+    private boolean isVisible(String name) {
+        try {
+            Class.forName(name, false, classLoader);
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (recording != null && recording.getState() != RecordingState.CLOSED) {
+            recording.close();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.paxytools.warmupdicator.recording;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A request captured from live traffic, to be replayed during warmup.
+ */
+@Getter
+public class RecordedRequest {
+
+    /**
+     * Time the request was received, in epoch milliseconds.
+     */
+    private final long timestamp;
+
+    private final String method;
+
+    /**
+     * Request path including the query string, e.g. {@code /api/users?page=2}.
+     */
+    private final String path;
+
+    private final Map<String, String> headers;
+
+    /**
+     * Request body, null if the request had none.
+     */
+    private final String body;
+
+    public RecordedRequest(long timestamp, String method, String path, Map<String, String> headers, String body) {
+        this.timestamp = timestamp;
+        this.method = method;
+        this.path = path;
+        this.headers = headers != null ? Collections.unmodifiableMap(new LinkedHashMap<>(headers)) : Map.of();
+        this.body = body;
+    }
+}
@@ -0,0 +1,110 @@
+package io.github.paxytools.warmupdicator.recording;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Appends encoded records to memory-mapped recording files of a fixed size.
+ * <p>
+ * A full file is rotated and the oldest files beyond {@code maxFiles} are deleted, so the
+ * recordings never use more than {@code maxFiles * maxFileSize} bytes. File names sort in
+ * creation order. Not thread-safe: used by the single flushing thread only.
+ */
+@Slf4j
+final class RecordingFileWriter implements Closeable {
+
+    private final Path directory;
+    private final int maxFileSize;
+    private final int maxFiles;
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int sequence;
+
+    RecordingFileWriter(Path directory, long maxFileSize, int maxFiles) {
+        if (maxFileSize <= RecordingFormat.FILE_HEADER_SIZE || maxFileSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid recording file size: " + maxFileSize);
+        }
+        this.directory = directory;
+        this.maxFileSize = (int) maxFileSize;
+        this.maxFiles = Math.max(1, maxFiles);
+    }
+
+    /**
+     * Appends a record, rotating to a new file if the current one is full.
+     *
+     * @return false if the record is larger than a whole file and was not written
+     */
+    boolean append(byte[] record) throws IOException {
+        if (record.length > maxFileSize - RecordingFormat.FILE_HEADER_SIZE) {
+            return false;
+        }
+        if (buffer == null || buffer.remaining() < record.length) {
+            rotate();
+        }
+        buffer.put(record);
+        return true;
+    }
+
+    /**
+     * Writes the appended records through to the file.
+     */
+    void flush() {
+        if (buffer != null) {
+            buffer.force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        buffer = null;
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private void rotate() throws IOException {
+        close();
+        Files.createDirectories(directory);
+
+        Path file = directory.resolve(String.format("recording-%013d-%03d%s",
+                System.currentTimeMillis(), sequence++ % 1000, RecordingFormat.FILE_SUFFIX));
+        channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, maxFileSize);
+        buffer.put(RecordingFormat.MAGIC).put(RecordingFormat.VERSION);
+        log.debug("Recording to {}", file);
+
+        deleteOldestFiles();
+    }
+
+    private void deleteOldestFiles() throws IOException {
+        List<Path> files = listRecordingFiles(directory);
+        for (int i = 0; i < files.size() - maxFiles; i++) {
+            Files.deleteIfExists(files.get(i));
+        }
+    }
+
+    /**
+     * Lists the recording files of a directory, oldest first.
+     */
+    static List<Path> listRecordingFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(file -> file.getFileName().toString().endsWith(RecordingFormat.FILE_SUFFIX))
+                .sorted()
+                .collect(Collectors.toList());
+        }
+    }
+}
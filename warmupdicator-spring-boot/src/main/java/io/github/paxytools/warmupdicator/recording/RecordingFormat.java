@@ -0,0 +1,126 @@
+package io.github.paxytools.warmupdicator.recording;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compact binary format of the recording files written by {@link RequestRecorder}.
+ * <p>
+ * A file starts with the magic bytes {@code WRMP} and a version byte, followed by records:
+ * <pre>
+ * int    length of the rest of the record, 0 marks the end of the file
+ * long   timestamp in epoch milliseconds
+ * string method
+ * string path
+ * short  header count, followed by a name and a value string per header
+ * int    body length, -1 if there is no body, followed by the UTF-8 body
+ * </pre>
+ * Strings are an unsigned short length followed by UTF-8 bytes.
+ */
+final class RecordingFormat {
+
+    static final byte[] MAGIC = {'W', 'R', 'M', 'P'};
+    static final byte VERSION = 1;
+    static final int FILE_HEADER_SIZE = MAGIC.length + 1;
+    static final String FILE_SUFFIX = ".wrec";
+
+    private static final int MAX_STRING_LENGTH = 0xFFFF;
+
+    private RecordingFormat() {
+    }
+
+    /**
+     * Returns whether the given leading bytes of a file are the magic bytes of this format.
+     */
+    static boolean hasMagic(byte[] leadingBytes) {
+        return leadingBytes.length >= MAGIC.length && Arrays.equals(leadingBytes, 0, MAGIC.length, MAGIC, 0, MAGIC.length);
+    }
+
+    /**
+     * Encodes a request as a complete record, including its length prefix.
+     *
+     * @throws IllegalArgumentException if a string is too long for the format
+     */
+    static byte[] encode(RecordedRequest request) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(0);
+            out.writeLong(request.getTimestamp());
+            writeString(out, request.getMethod());
+            writeString(out, request.getPath());
+            out.writeShort(request.getHeaders().size());
+            for (Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+                writeString(out, header.getKey());
+                writeString(out, header.getValue());
+            }
+            if (request.getBody() == null) {
+                out.writeInt(-1);
+            } else {
+                byte[] body = request.getBody().getBytes(StandardCharsets.UTF_8);
+                out.writeInt(body.length);
+                out.write(body);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        byte[] record = bytes.toByteArray();
+        ByteBuffer.wrap(record).putInt(0, record.length - Integer.BYTES);
+        return record;
+    }
+
+    /**
+     * Decodes the record at the position of the buffer and advances past it.
+     *
+     * @return the request, or null at the end of the records
+     */
+    static RecordedRequest decode(ByteBuffer buffer) {
+        if (buffer.remaining() < Integer.BYTES) {
+            return null;
+        }
+        int length = buffer.getInt();
+        if (length <= 0 || length > buffer.remaining()) {
+            // Zeroed tail of a file that was not filled, or a record cut short by a crash
+            return null;
+        }
+
+        long timestamp = buffer.getLong();
+        String method = readString(buffer);
+        String path = readString(buffer);
+        int headerCount = Short.toUnsignedInt(buffer.getShort());
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (int i = 0; i < headerCount; i++) {
+            headers.put(readString(buffer), readString(buffer));
+        }
+        int bodyLength = buffer.getInt();
+        String body = null;
+        if (bodyLength >= 0) {
+            byte[] bodyBytes = new byte[bodyLength];
+            buffer.get(bodyBytes);
+            body = new String(bodyBytes, StandardCharsets.UTF_8);
+        }
+        return new RecordedRequest(timestamp, method, path, headers, body);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_LENGTH) {
+            throw new IllegalArgumentException("Value too long to record: " + bytes.length + " bytes");
+        }
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
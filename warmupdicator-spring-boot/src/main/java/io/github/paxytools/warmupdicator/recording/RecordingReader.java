@@ -0,0 +1,133 @@
+package io.github.paxytools.warmupdicator.recording;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads recorded requests from a request log.
+ * <p>
+ * Binary recordings written by {@link RequestRecorder} are recognized by their magic bytes.
+ * A directory is read as all of its recording files, oldest first. Any other file is read
+ * in JSON lines format, one request per line:
+ * <pre>
+ * {"timestamp": 1700000000000, "method": "POST", "path": "/api/users?notify=true",
+ *  "headers": {"Content-Type": "application/json"}, "body": "{\"name\":\"John\"}"}
+ * </pre>
+ * Blank lines are skipped, a missing method defaults to GET.
+ */
+@RequiredArgsConstructor
+public class RecordingReader {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Reads the requests of the given log in recorded order.
+     *
+     * @param file the request log, or a directory of recording files
+     * @param limit maximum number of requests to read, 0 for all
+     * @return the recorded requests
+     * @throws IOException if the log cannot be read or a line is malformed
+     */
+    public List<RecordedRequest> read(Path file, int limit) throws IOException {
+        List<RecordedRequest> requests = new ArrayList<>();
+        if (Files.isDirectory(file)) {
+            for (Path recordingFile : RecordingFileWriter.listRecordingFiles(file)) {
+                readBinary(recordingFile, limit, requests);
+            }
+        } else if (isBinary(file)) {
+            readBinary(file, limit, requests);
+        } else {
+            readJsonLines(file, limit, requests);
+        }
+        return requests;
+    }
+
+    private static boolean isBinary(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return RecordingFormat.hasMagic(in.readNBytes(RecordingFormat.MAGIC.length));
+        }
+    }
+
+    private static void readBinary(Path file, int limit, List<RecordedRequest> requests) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < RecordingFormat.FILE_HEADER_SIZE) {
+                return;
+            }
+            buffer.position(RecordingFormat.MAGIC.length);
+            byte version = buffer.get();
+            if (version != RecordingFormat.VERSION) {
+                throw new IOException(String.format("Unsupported recording version %d in %s", version, file));
+            }
+            RecordedRequest request;
+            while ((limit <= 0 || requests.size() < limit) && (request = decode(buffer, file)) != null) {
+                requests.add(request);
+            }
+        }
+    }
+
+    private static RecordedRequest decode(ByteBuffer buffer, Path file) throws IOException {
+        try {
+            return RecordingFormat.decode(buffer);
+        } catch (BufferUnderflowException e) {
+            throw new IOException(String.format("Malformed record in %s at byte %d", file, buffer.position()), e);
+        }
+    }
+
+    private void readJsonLines(Path file, int limit, List<RecordedRequest> requests) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null && (limit <= 0 || requests.size() < limit)) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    requests.add(parse(objectMapper.readTree(line)));
+                } catch (IOException | IllegalArgumentException e) {
+                    throw new IOException(String.format("Malformed request at %s:%d: %s", file, lineNumber, e.getMessage()), e);
+                }
+            }
+        }
+    }
+
+    private static RecordedRequest parse(JsonNode node) {
+        JsonNode path = node.get("path");
+        if (path == null || path.asText().isEmpty()) {
+            throw new IllegalArgumentException("missing path");
+        }
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        JsonNode headersNode = node.get("headers");
+        if (headersNode != null) {
+            for (Map.Entry<String, JsonNode> header : headersNode.properties()) {
+                headers.put(header.getKey(), header.getValue().asText());
+            }
+        }
+
+        JsonNode body = node.get("body");
+        return new RecordedRequest(
+                node.path("timestamp").asLong(0),
+                node.path("method").asText("GET").toUpperCase(),
+                path.asText(),
+                headers,
+                body != null && !body.isNull() ? body.asText() : null);
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.paxytools.warmupdicator.recording;
+
+import io.github.paxytools.warmupdicator.config.RecordingProperties;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects sampled requests and writes them to rotating recording files.
+ * <p>
+ * {@link #offer} only publishes the request to a lock-free ring buffer, so request threads never
+ * block or do I/O. A single daemon thread drains the buffer at the flush interval, encodes the
+ * requests and appends them to the memory-mapped recording file.
+ */
+@Slf4j
+public class RequestRecorder implements Closeable {
+
+    private final SampleRingBuffer<RecordedRequest> buffer;
+    private final RecordingFileWriter writer;
+    private final ScheduledExecutorService flusher;
+    private final List<RecordedRequest> batch = new ArrayList<>();
+    private final AtomicLong recorded = new AtomicLong();
+
+    public RequestRecorder(RecordingProperties properties) {
+        this.buffer = new SampleRingBuffer<>(properties.getBufferCapacity());
+        this.writer = new RecordingFileWriter(Path.of(properties.getDirectory()), properties.getMaxFileSize().toBytes(), properties.getMaxFiles());
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "warmup-recorder");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMs = Math.max(1, properties.getFlushInterval().toMillis());
+        flusher.scheduleWithFixedDelay(this::flush, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Buffers a sampled request without blocking.
+     *
+     * @return false if the buffer was full and the request was dropped
+     */
+    public boolean offer(RecordedRequest request) {
+        return buffer.offer(request);
+    }
+
+    /**
+     * Writes the buffered requests to the recording file.
+     */
+    public synchronized void flush() {
+        try {
+            buffer.drainTo(batch);
+            for (RecordedRequest request : batch) {
+                byte[] record;
+                try {
+                    record = RecordingFormat.encode(request);
+                } catch (IllegalArgumentException e) {
+                    log.debug("Not recording {} {}: {}", request.getMethod(), request.getPath(), e.getMessage());
+                    continue;
+                }
+                if (writer.append(record)) {
+                    recorded.incrementAndGet();
+                }
+            }
+            if (!batch.isEmpty()) {
+                writer.flush();
+            }
+        } catch (IOException e) {
+            log.warn("Failed to write request recording: {}", e.getMessage());
+        } finally {
+            batch.clear();
+        }
+    }
+
+    /**
+     * Returns the number of requests written to recording files.
+     */
+    public long getRecordedCount() {
+        return recorded.get();
+    }
+
+    /**
+     * Returns the number of sampled requests dropped because the buffer was full.
+     */
+    public long getDroppedCount() {
+        return buffer.getDroppedCount();
+    }
+
+    @Override
+    public void close() throws IOException {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            flush();
+            writer.close();
+        }
+    }
+}
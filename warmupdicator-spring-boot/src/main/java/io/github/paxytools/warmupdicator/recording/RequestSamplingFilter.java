@@ -0,0 +1,107 @@
+package io.github.paxytools.warmupdicator.recording;
+
+import io.github.paxytools.warmupdicator.config.RecordingProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Servlet filter that records a sample of the live requests for replay during the next warmup.
+ * <p>
+ * The sampling decision costs a single random draw, so requests that are not sampled pass through
+ * untouched. Sampled requests have their body cached up to the configured limit and are handed to
+ * the {@link RequestRecorder} once they completed successfully. Requests are only sampled while
+ * {@code active} returns true, so that the warmup's own traffic is not recorded.
+ */
+public class RequestSamplingFilter extends OncePerRequestFilter {
+
+    private final RecordingProperties properties;
+    private final RequestRecorder recorder;
+    private final BooleanSupplier active;
+    private final Set<String> excludedHeaders;
+    private final int maxBodySize;
+
+    public RequestSamplingFilter(RecordingProperties properties, RequestRecorder recorder, BooleanSupplier active) {
+        this.properties = properties;
+        this.recorder = recorder;
+        this.active = active;
+        this.excludedHeaders = properties.getExcludedHeaders().stream()
+                .map(header -> header.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+        this.maxBodySize = (int) Math.min(Integer.MAX_VALUE, properties.getMaxBodySize().toBytes());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!shouldSample(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long timestamp = System.currentTimeMillis();
+        ContentCachingRequestWrapper wrapper = new ContentCachingRequestWrapper(request, maxBodySize);
+        filterChain.doFilter(wrapper, response);
+
+        if (wrapper.isAsyncStarted() || response.getStatus() >= 400) {
+            return;
+        }
+        byte[] body = wrapper.getContentAsByteArray();
+        if (body.length >= maxBodySize && maxBodySize > 0) {
+            // Possibly truncated, a partial body is not worth replaying
+            return;
+        }
+
+        String path = request.getQueryString() != null
+                ? request.getRequestURI() + "?" + request.getQueryString()
+                : request.getRequestURI();
+        recorder.offer(new RecordedRequest(timestamp, request.getMethod(), path, headers(request),
+                body.length > 0 ? new String(body, charset(request)) : null));
+    }
+
+    private boolean shouldSample(HttpServletRequest request) {
+        if (ThreadLocalRandom.current().nextDouble() >= properties.getSampleRate() || !active.getAsBoolean()) {
+            return false;
+        }
+        if (request.getContentLengthLong() > maxBodySize) {
+            return false;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return properties.getExcludedPaths().stream().noneMatch(path::startsWith);
+    }
+
+    private Map<String, String> headers(HttpServletRequest request) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        Enumeration<String> names = request.getHeaderNames();
+        while (names != null && names.hasMoreElements()) {
+            String name = names.nextElement();
+            if (!excludedHeaders.contains(name.toLowerCase(Locale.ROOT))) {
+                headers.put(name, request.getHeader(name));
+            }
+        }
+        return headers;
+    }
+
+    private static Charset charset(HttpServletRequest request) {
+        try {
+            return request.getCharacterEncoding() != null ? Charset.forName(request.getCharacterEncoding()) : StandardCharsets.UTF_8;
+        } catch (IllegalArgumentException e) {
+            return StandardCharsets.UTF_8;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.paxytools.warmupdicator.recording;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded lock-free ring buffer with many producers and a single consumer.
+ * <p>
+ * Producers claim a slot with a CAS on the head and never block: when the buffer is full the
+ * element is dropped and counted. The single consumer drains published elements in order.
+ *
+ * @param <E> the element type
+ */
+final class SampleRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * @param capacity the minimum capacity, rounded up to a power of two
+     */
+    SampleRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Adds the element if there is room. Safe to call from any thread.
+     *
+     * @return false if the buffer was full and the element was dropped
+     */
+    boolean offer(E element) {
+        long claimed;
+        do {
+            claimed = head.get();
+            if (claimed - tail.get() > mask) {
+                dropped.increment();
+                return false;
+            }
+        } while (!head.compareAndSet(claimed, claimed + 1));
+
+        // The consumer frees a slot before advancing the tail, so the claimed slot is empty
+        slots.lazySet((int) (claimed & mask), element);
+        return true;
+    }
+
+    /**
+     * Moves the published elements to the given list. Must only be called by the single consumer.
+     *
+     * @return the number of elements drained
+     */
+    int drainTo(List<? super E> target) {
+        long position = tail.get();
+        int drained = 0;
+        while (position < head.get()) {
+            int index = (int) (position & mask);
+            E element = slots.get(index);
+            if (element == null) {
+                // Claimed but not yet published by its producer
+                break;
+            }
+            slots.set(index, null);
+            target.add(element);
+            position++;
+            tail.set(position);
+            drained++;
+        }
+        return drained;
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    long getDroppedCount() {
+        return dropped.sum();
+    }
+}
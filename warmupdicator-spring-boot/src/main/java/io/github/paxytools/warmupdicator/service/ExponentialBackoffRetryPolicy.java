@@ -0,0 +1,52 @@
+package io.github.paxytools.warmupdicator.service;
+
+import io.github.paxytools.warmupdicator.api.FailureType;
+import io.github.paxytools.warmupdicator.api.WarmupResult;
+import io.github.paxytools.warmupdicator.api.WarmupRetryPolicy;
+import io.github.paxytools.warmupdicator.config.RetryProperties;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Default retry policy: exponential backoff with jitter, optional per-warmer and global
+ * attempt limits, an optional overall deadline, and no retries for permanent failures.
+ */
+@RequiredArgsConstructor
+public class ExponentialBackoffRetryPolicy implements WarmupRetryPolicy {
+
+    private final RetryProperties properties;
+
+    @Override
+    public boolean shouldRetry(String warmerId, WarmupResult result, int attempts) {
+        FailureType failureType = result.getFailureType() != null ? result.getFailureType() : FailureType.UNKNOWN;
+        if (properties.getNonRetryableFailures().contains(failureType)) {
+            return false;
+        }
+        return properties.getMaxAttempts() <= 0 || attempts < properties.getMaxAttempts();
+    }
+
+    @Override
+    public Duration getBackoff(int attempts) {
+        double backoffMs = properties.getInitialBackoff().toMillis() * Math.pow(properties.getMultiplier(), Math.max(0, attempts - 1));
+        backoffMs = Math.min(backoffMs, properties.getMaxBackoff().toMillis());
+        if (properties.getJitter() > 0) {
+            backoffMs *= 1 + ThreadLocalRandom.current().nextDouble(-properties.getJitter(), properties.getJitter());
+        }
+        return Duration.ofMillis(Math.max(0, Math.round(backoffMs)));
+    }
+
+    @Override
+    public boolean canContinue(int totalAttempts, Duration elapsed) {
+        if (properties.getMaxTotalAttempts() > 0 && totalAttempts >= properties.getMaxTotalAttempts()) {
+            return false;
+        }
+        return properties.getDeadline() == null || elapsed.compareTo(properties.getDeadline()) < 0;
+    }
+
+    @Override
+    public Duration getDeadline() {
+        return properties.getDeadline();
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.paxytools.warmupdicator.service;
+
+import io.github.paxytools.warmupdicator.config.TrainingRunProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.IntConsumer;
+
+/**
+ * Turns the application into a CDS training run: once every warmer, critical and background, has finished,
+ * the application context is closed and the JVM exits.
+ * <p>
+ * A JVM started with {@code -XX:ArchiveClassesAtExit} then writes a dynamic CDS archive holding every class
+ * the startup and the warmup loaded, which later JVMs map with {@code -XX:SharedArchiveFile} instead of
+ * loading and verifying those classes again. The exit code tells whether the warmup succeeded, so a build
+ * does not bake the archive of a broken run. A warmup that does not finish within the configured timeout,
+ * e.g. because a warmer retries without limit, also ends the run with the failure exit code.
+ */
+@Slf4j
+public class TrainingRun {
+
+    static final String ARCHIVE_AT_EXIT_FLAG = "-XX:ArchiveClassesAtExit";
+    static final String AUTO_CREATE_FLAG = "-XX:+AutoCreateSharedArchive";
+
+    private final TrainingRunProperties properties;
+    private final WarmupService warmupService;
+    private final ConfigurableApplicationContext context;
+    private final IntConsumer exit;
+
+    public TrainingRun(TrainingRunProperties properties, WarmupService warmupService, ConfigurableApplicationContext context) {
+        this(properties, warmupService, context, System::exit);
+    }
+
+    TrainingRun(TrainingRunProperties properties, WarmupService warmupService, ConfigurableApplicationContext context, IntConsumer exit) {
+        this.properties = properties;
+        this.warmupService = warmupService;
+        this.context = context;
+        this.exit = exit;
+    }
+
+    /**
+     * Logs the JVM flags of the training and production runs and schedules the exit at the end of warmup,
+     * or once the timeout has elapsed.
+     */
+    public void start() {
+        String archiveFile = properties.getArchiveFile();
+        if (isRecordingArchive(ManagementFactory.getRuntimeMXBean().getInputArguments())) {
+            log.info("Training run: the application exits once warmup has finished and the JVM writes its CDS archive");
+        } else {
+            log.warn("Training run without {}: the application exits once warmup has finished, but no CDS archive is written", ARCHIVE_AT_EXIT_FLAG);
+        }
+        log.info("Training run JVM flags:   {}={} -Dwarmupdicator.training-run.enabled=true", ARCHIVE_AT_EXIT_FLAG, archiveFile);
+        log.info("Production run JVM flags: -XX:SharedArchiveFile={}", archiveFile);
+
+        // A copy, so that the timeout does not complete the warmup service's own stage
+        CompletableFuture<Void> finished = warmupService.whenFinished().toCompletableFuture();
+        if (properties.getTimeout() != null && !properties.getTimeout().isZero()) {
+            finished.orTimeout(properties.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        }
+        finished.whenComplete((ignored, error) -> {
+            // The exit closes the warmup executors, so it must not run on one of their threads
+            Thread exiting = new Thread(() -> exit(error instanceof TimeoutException), "warmup-training-run");
+            exiting.start();
+        });
+    }
+
+    void exit(boolean timedOut) {
+        boolean succeeded = !timedOut && warmupService.isWarmedUp() && warmupService.isBackgroundWarmedUp();
+        int exitCode = succeeded ? 0 : properties.getFailureExitCode();
+        if (succeeded) {
+            log.info("Training run complete after {}ms of warmup, shutting down", warmupService.getTotalTimeMs());
+        } else if (timedOut) {
+            log.error("Training run warmup did not finish within {}, shutting down with exit code {}", properties.getTimeout(), exitCode);
+        } else {
+            log.error("Training run warmup did not succeed, shutting down with exit code {}", exitCode);
+        }
+        exit.accept(SpringApplication.exit(context, () -> exitCode));
+    }
+
+    static boolean isRecordingArchive(List<String> jvmArguments) {
+        return jvmArguments.stream().anyMatch(argument -> argument.startsWith(ARCHIVE_AT_EXIT_FLAG + "=") || argument.equals(AUTO_CREATE_FLAG));
+    }
+}
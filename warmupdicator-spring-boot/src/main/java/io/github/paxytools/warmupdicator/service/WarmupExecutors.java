@@ -0,0 +1,95 @@
+package io.github.paxytools.warmupdicator.service;
+
+import io.github.paxytools.warmupdicator.config.ExecutorProperties;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the executor that runs warmers according to {@link ExecutorProperties}.
+ */
+@Slf4j
+public final class WarmupExecutors {
+
+    private static final AtomicBoolean VIRTUAL_UNAVAILABLE_LOGGED = new AtomicBoolean();
+
+    private WarmupExecutors() {
+    }
+
+    /**
+     * Creates an executor for the configured mode.
+     *
+     * @param properties the executor configuration
+     * @return the executor to run warmers on
+     */
+    public static Executor create(ExecutorProperties properties) {
+        switch (properties.getMode()) {
+            case COMMON:
+                return ForkJoinPool.commonPool();
+            case VIRTUAL:
+                ExecutorService virtual = newVirtualThreadPerTaskExecutor();
+                if (virtual != null) {
+                    return virtual;
+                }
+                if (VIRTUAL_UNAVAILABLE_LOGGED.compareAndSet(false, true)) {
+                    log.warn("Virtual threads are not available on this JVM, using a bounded pool of {} threads", properties.getPoolSize());
+                }
+                return newBoundedExecutor(properties.getPoolSize(), "warmup-");
+            case BOUNDED:
+            default:
+                return newBoundedExecutor(properties.getPoolSize(), "warmup-");
+        }
+    }
+
+    /**
+     * Creates a fixed pool of daemon threads.
+     *
+     * @param poolSize the number of threads
+     * @param namePrefix the thread name prefix
+     * @return the executor
+     */
+    public static ExecutorService newBoundedExecutor(int poolSize, String namePrefix) {
+        return Executors.newFixedThreadPool(Math.max(1, poolSize), daemonThreadFactory(namePrefix, Thread.NORM_PRIORITY));
+    }
+
+    /**
+     * Creates the executor for background tier warmers: a fixed pool of minimum-priority daemon threads,
+     * so that background warmup yields to request handling.
+     *
+     * @param properties the executor configuration
+     * @return the executor to run background warmers on
+     */
+    public static ExecutorService createBackground(ExecutorProperties properties) {
+        return Executors.newFixedThreadPool(Math.max(1, properties.getBackgroundPoolSize()),
+                daemonThreadFactory("warmup-background-", Thread.MIN_PRIORITY));
+    }
+
+    static ThreadFactory daemonThreadFactory(String namePrefix, int priority) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(priority);
+            return thread;
+        };
+    }
+
+    /**
+     * Looks up Executors.newVirtualThreadPerTaskExecutor() reflectively, as the library targets Java 17.
+     *
+     * @return the virtual thread executor, or null if virtual threads are not available
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
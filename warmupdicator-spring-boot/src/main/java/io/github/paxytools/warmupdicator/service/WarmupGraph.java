@@ -0,0 +1,112 @@
+package io.github.paxytools.warmupdicator.service;
+
+import io.github.paxytools.warmupdicator.api.WarmupTier;
+import io.github.paxytools.warmupdicator.api.Warmupdicator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Dependency graph of the warmers, validated on construction.
+ * <p>
+ * Edges come from {@link Warmupdicator#dependsOn()}. Deferred warmers additionally depend on
+ * every non-deferred warmer of their tier. Duplicate ids, unknown dependencies, critical warmers
+ * depending on background warmers and cycles are rejected with an {@link IllegalStateException}.
+ */
+final class WarmupGraph {
+
+    private final Map<String, Warmupdicator> warmers = new LinkedHashMap<>();
+    private final Map<String, Set<String>> dependencies = new LinkedHashMap<>();
+    private final List<Warmupdicator> order = new ArrayList<>();
+
+    WarmupGraph(Collection<Warmupdicator> allWarmers) {
+        for (Warmupdicator warmer : allWarmers) {
+            if (warmers.putIfAbsent(warmer.getId(), warmer) != null) {
+                throw new IllegalStateException("Duplicate warmer id: " + warmer.getId());
+            }
+        }
+
+        for (Warmupdicator warmer : warmers.values()) {
+            Set<String> prerequisites = new LinkedHashSet<>();
+            if (warmer.dependsOn() != null) {
+                prerequisites.addAll(warmer.dependsOn());
+            }
+            if (warmer.isDeferred()) {
+                warmers.values().stream()
+                    .filter(other -> !other.isDeferred() && tierOf(other) == tierOf(warmer))
+                    .map(Warmupdicator::getId)
+                    .forEach(prerequisites::add);
+            }
+            for (String prerequisite : prerequisites) {
+                Warmupdicator prerequisiteWarmer = warmers.get(prerequisite);
+                if (prerequisiteWarmer == null) {
+                    throw new IllegalStateException(String.format("Warmer '%s' depends on unknown warmer '%s'", warmer.getId(), prerequisite));
+                }
+                if (tierOf(warmer) == WarmupTier.CRITICAL && tierOf(prerequisiteWarmer) == WarmupTier.BACKGROUND) {
+                    throw new IllegalStateException(String.format("Critical warmer '%s' cannot depend on background warmer '%s'", warmer.getId(), prerequisite));
+                }
+            }
+            dependencies.put(warmer.getId(), prerequisites);
+        }
+
+        Set<String> visited = new HashSet<>();
+        Deque<String> path = new ArrayDeque<>();
+        for (String id : warmers.keySet()) {
+            visit(id, visited, path);
+        }
+    }
+
+    /**
+     * Returns the warmers in topological order: every warmer comes after its prerequisites.
+     */
+    List<Warmupdicator> getOrder() {
+        return order;
+    }
+
+    /**
+     * Returns the ids of the warmers that must succeed before the given warmer starts.
+     */
+    Set<String> getDependencies(String id) {
+        return dependencies.getOrDefault(id, Set.of());
+    }
+
+    /**
+     * Returns the tier of the warmer, treating a missing tier as critical.
+     */
+    static WarmupTier tierOf(Warmupdicator warmer) {
+        return warmer.getTier() != null ? warmer.getTier() : WarmupTier.CRITICAL;
+    }
+
+    /**
+     * Depth-first visit that appends the warmer to the order after its prerequisites.
+     * The current path is kept to report the warmers forming a cycle.
+     */
+    private void visit(String id, Set<String> visited, Deque<String> path) {
+        if (visited.contains(id)) {
+            return;
+        }
+        if (path.contains(id)) {
+            List<String> cycle = new ArrayList<>();
+            path.descendingIterator().forEachRemaining(cycle::add);
+            cycle = cycle.subList(cycle.indexOf(id), cycle.size());
+            throw new IllegalStateException("Cycle in warmer dependencies: " + String.join(" -> ", cycle) + " -> " + id);
+        }
+
+        path.push(id);
+        for (String prerequisite : dependencies.get(id)) {
+            visit(prerequisite, visited, path);
+        }
+        path.pop();
+
+        visited.add(id);
+        order.add(warmers.get(id));
+    }
+}
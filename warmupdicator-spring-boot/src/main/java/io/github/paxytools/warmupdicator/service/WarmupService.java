@@ -1,134 +1,563 @@
 package io.github.paxytools.warmupdicator.service;
 
+import io.github.paxytools.warmupdicator.api.WarmerState;
+import io.github.paxytools.warmupdicator.api.WarmupListener;
 import io.github.paxytools.warmupdicator.api.WarmupResult;
+import io.github.paxytools.warmupdicator.api.WarmupRetryPolicy;
+import io.github.paxytools.warmupdicator.api.WarmupTier;
 import io.github.paxytools.warmupdicator.api.Warmupdicator;
-import lombok.Getter;
-import lombok.RequiredArgsConstructor;
+import io.github.paxytools.warmupdicator.config.RetryProperties;
+import io.github.paxytools.warmupdicator.jfr.WarmerAttemptEvent;
+import io.github.paxytools.warmupdicator.jfr.WarmupRunEvent;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.HashMap;
-import java.util.Set;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 
 /**
  * Service responsible for performing warmup checks.
+ * <p>
+ * Every warmer runs in its own retry chain: a failed attempt is retried after the backoff
+ * given by the {@link WarmupRetryPolicy}, unless the policy classifies the failure as
+ * permanent or the per-warmer, global or deadline limits have been reached.
+ * Warmers run on the given executor, see {@link WarmupExecutors}.
+ * <p>
+ * Warmers are scheduled as a dependency graph, see {@link WarmupGraph}: each warmer starts as
+ * soon as all of its prerequisites have succeeded, so independent branches run in parallel.
+ * <p>
+ * The application is considered warmed up once every {@link WarmupTier#CRITICAL critical} warmer
+ * has succeeded. {@link WarmupTier#BACKGROUND Background} warmers keep running afterwards on the
+ * background executor, and their progress is tracked separately.
+ * <p>
+ * Progress is reported to the registered {@link WarmupListener}s, and the run and every attempt
+ * are recorded as Flight Recorder events, see {@link WarmupRunEvent} and {@link WarmerAttemptEvent}.
+ * The state of every warmer in the current or last run is available from {@link #getWarmerStates()}.
+ * <p>
+ * All state is held in an immutable {@link WarmupSnapshot} that is replaced atomically on every change,
+ * so readers on other threads, such as health probes, always see a consistent and fully published state.
+ * <p>
+ * After the warmup, all or some of the warmers can be run again with {@link #rewarm}, e.g. after a
+ * cache flush. Only one run at a time is allowed.
  */
 @Slf4j
-@RequiredArgsConstructor
 public class WarmupService {
     private final Set<Warmupdicator> warmers;
+    private final WarmupRetryPolicy retryPolicy;
+    private final Executor executor;
+    private final Executor backgroundExecutor;
+
+    private volatile WarmupGraph graph;
+
+    private final AtomicReference<WarmupSnapshot> snapshot = new AtomicReference<>(WarmupSnapshot.initial());
+
+    private final CompletableFuture<Void> finished = new CompletableFuture<>();
+
+    private final List<WarmupListener> listeners = new CopyOnWriteArrayList<>();
+
+    public WarmupService(Set<Warmupdicator> warmers) {
+        this(warmers, new ExponentialBackoffRetryPolicy(new RetryProperties()));
+    }
 
-    @Getter
-    private boolean warmedUp = false;
+    public WarmupService(Set<Warmupdicator> warmers, WarmupRetryPolicy retryPolicy) {
+        this(warmers, retryPolicy, ForkJoinPool.commonPool());
+    }
 
-    @Getter
-    private Map<String, WarmupResult> results = new HashMap<>();
+    public WarmupService(Set<Warmupdicator> warmers, WarmupRetryPolicy retryPolicy, Executor executor) {
+        this(warmers, retryPolicy, executor, executor);
+    }
 
-    @Getter
-    private long totalTimeMs = 0;
+    public WarmupService(Set<Warmupdicator> warmers, WarmupRetryPolicy retryPolicy, Executor executor, Executor backgroundExecutor) {
+        this.warmers = warmers;
+        this.retryPolicy = retryPolicy;
+        this.executor = executor;
+        this.backgroundExecutor = backgroundExecutor;
+    }
+
+    /**
+     * Returns the current state of the warmup. Read it once to get values that are consistent with each other.
+     */
+    public WarmupSnapshot getSnapshot() {
+        return snapshot.get();
+    }
 
-    @Getter
-    private int totalTries = 0;
+    /**
+     * Returns whether every critical warmer has succeeded.
+     */
+    public boolean isWarmedUp() {
+        return snapshot.get().isWarmedUp();
+    }
 
-    @Getter
-    private int attemptNumber = 0;
+    /**
+     * Returns whether every background warmer has succeeded.
+     */
+    public boolean isBackgroundWarmedUp() {
+        return snapshot.get().isBackgroundWarmedUp();
+    }
+
+    /**
+     * Returns whether every background warmer has finished, successfully or not.
+     */
+    public boolean isBackgroundFinished() {
+        return snapshot.get().isBackgroundFinished();
+    }
+
+    /**
+     * Returns the last result of every warmer that has been attempted, by warmer id.
+     */
+    public Map<String, WarmupResult> getResults() {
+        return snapshot.get().getResults();
+    }
+
+    /**
+     * Returns the time until the critical warmers of the last run finished.
+     */
+    public long getTotalTimeMs() {
+        return snapshot.get().getTotalTimeMs();
+    }
+
+    /**
+     * Returns the number of warmer attempts made across all warmers.
+     */
+    public int getTotalTries() {
+        return snapshot.get().getTotalTries();
+    }
+
+    /**
+     * Returns the highest retry number reached by any warmer (0 if no warmer was retried).
+     */
+    public int getAttemptNumber() {
+        return snapshot.get().getAttemptNumber();
+    }
+
+    /**
+     * Returns the number of background tier warmers.
+     */
+    public int getBackgroundTotal() {
+        return snapshot.get().getBackgroundTotal();
+    }
+
+    /**
+     * Returns the number of background tier warmers that have succeeded so far.
+     */
+    public int getBackgroundSucceeded() {
+        return snapshot.get().getBackgroundSucceeded();
+    }
+
+    /**
+     * Returns whether a warmup run is in progress, including its background warmers.
+     */
+    public boolean isRunning() {
+        return snapshot.get().isRunning();
+    }
+
+    /**
+     * Returns the state of every warmer in the current or last run, by warmer id.
+     * Empty until the warmup starts.
+     */
+    public Map<String, WarmerState> getWarmerStates() {
+        return snapshot.get().getWarmerStates();
+    }
+
+    /**
+     * Registers a listener for the progress of the warmup.
+     */
+    public void addListener(WarmupListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Returns a stage that completes once every warmer of the first warmup, critical and background,
+     * has finished, successfully or not.
+     */
+    public CompletionStage<Void> whenFinished() {
+        return finished.minimalCompletionStage();
+    }
 
     /**
      * Performs warmup checks when the application is ready.
      * Executes all configured warmers in parallel with retry logic for failed attempts.
+     * Warmers with dependencies only start once their prerequisites have succeeded, and are
+     * skipped if a prerequisite gives up. Deferred warmers only start once all other warmers
+     * of their tier have succeeded.
+     * Returns once the critical warmers have finished; background warmers keep running.
      * This method is automatically triggered by the ApplicationReadyEvent.
+     *
+     * @throws IllegalStateException if the warmer dependencies are invalid or form a cycle,
+     *                               which aborts the application startup
      */
     @EventListener(ApplicationReadyEvent.class)
     public void performWarmup() {
         if (warmers.isEmpty()) {
             log.info("No warmup warmers configured, skipping warmup");
-            warmedUp = true;
+            update(state -> state.withWarmedUp(true, 0).withBackground(true, true));
+            notifyListeners(listener -> listener.warmupStarted(warmers));
+            notifyListeners(listener -> listener.warmupFinished(true, Duration.ZERO));
+            notifyListeners(WarmupListener::runFinished);
+            finished.complete(null);
             return;
         }
 
-        log.info("Starting warmup for {} warmers", warmers.size());
-        Instant start = Instant.now();
+        WarmupGraph warmupGraph = graph();
+        if (!start()) {
+            log.warn("Warmup is already running, skipping");
+            return;
+        }
+        run(warmupGraph, warmers)
+            .whenComplete((ignored, e) -> finished.complete(null));
+    }
 
-        while (true) {
+    /**
+     * Runs the given warmers again in the background, e.g. after a cache flush or a configuration change.
+     * Prerequisites that are not run again count with their last result. Readiness is kept while the
+     * warmers run, and reflects the results of all warmers once they have finished.
+     *
+     * @param ids the ids of the warmers to run, all warmers if empty
+     * @return a stage that completes once the warmers have finished, with whether they all succeeded
+     * @throws IllegalArgumentException if an id is not the id of a warmer
+     * @throws IllegalStateException if a warmup is already running
+     */
+    public CompletionStage<Boolean> rewarm(Collection<String> ids) {
+        WarmupGraph warmupGraph = graph();
+        Set<String> unknown = ids.stream()
+            .filter(id -> !snapshot.get().getWarmerStates().containsKey(id))
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (!unknown.isEmpty()) {
+            throw new IllegalArgumentException("Unknown warmers: [" + String.join(", ", unknown) + "]");
+        }
+        Set<Warmupdicator> selected = warmers.stream()
+            .filter(warmer -> ids.isEmpty() || ids.contains(warmer.getId()))
+            .collect(Collectors.toSet());
+        if (!start()) {
+            throw new IllegalStateException("A warmup is already running");
+        }
 
-            // If this is a retry, log it
-            if (attemptNumber > 0) {
-                log.info("Retry attempt {} for failed warmers", attemptNumber);
+        CompletableFuture<Boolean> done = new CompletableFuture<>();
+        Thread thread = new Thread(() -> {
+            try {
+                run(warmupGraph, selected).whenComplete((ignored, e) ->
+                    done.complete(selected.stream().map(Warmupdicator::getId).allMatch(this::isSucceeded)));
+            } catch (RuntimeException e) {
+                update(state -> state.withRunning(false));
+                done.completeExceptionally(e);
             }
+        }, "warmup-rewarm");
+        thread.setDaemon(true);
+        thread.start();
+        return done.minimalCompletionStage();
+    }
+
+    /**
+     * Returns the dependency graph of all warmers, validating it on first use, when every warmer is pending.
+     */
+    private synchronized WarmupGraph graph() {
+        if (graph == null) {
+            WarmupGraph warmupGraph = new WarmupGraph(warmers);
+            Map<String, WarmerState> pending = pendingStates(warmupGraph.getOrder());
+            update(state -> state.withWarmers(pending, idsOfTier(WarmupTier.BACKGROUND)));
+            graph = warmupGraph;
+        }
+        return graph;
+    }
 
-            // Try all warmers that haven't succeeded yet in parallel
-            Map<String, CompletableFuture<WarmupResult>> pendingFutures = new HashMap<>();
-            for (Warmupdicator warmer : warmers) {
-                String id = warmer.getId();
-                WarmupResult existingResult = results.get(id);
+    /**
+     * Marks a run as started, unless one is already running.
+     *
+     * @return whether the run may start
+     */
+    private boolean start() {
+        return !snapshot.getAndUpdate(state -> state.isRunning() ? state : state.withRunning(true)).isRunning();
+    }
 
-                // Skip warmers that have already succeeded
-                if (existingResult != null && existingResult.isSuccess()) {
-                    continue;
-                }
+    /**
+     * Publishes a new state computed from the current one.
+     *
+     * @return the published state
+     */
+    private WarmupSnapshot update(UnaryOperator<WarmupSnapshot> change) {
+        return snapshot.updateAndGet(change);
+    }
+
+    private static Map<String, WarmerState> pendingStates(Collection<Warmupdicator> warmers) {
+        return warmers.stream()
+            .collect(Collectors.toMap(Warmupdicator::getId, warmer -> WarmerState.pending(warmer.getId(), WarmupGraph.tierOf(warmer))));
+    }
+
+    /**
+     * Runs the given warmers in dependency order and returns once the critical ones have finished.
+     *
+     * @return a stage that completes once every given warmer has finished and the run is over
+     */
+    private CompletableFuture<Void> run(WarmupGraph warmupGraph, Set<Warmupdicator> selected) {
+        log.info("Starting warmup for {} warmers", selected.size());
+        Instant start = Instant.now();
+        WarmupRunEvent runEvent = new WarmupRunEvent();
+        runEvent.begin();
+        Map<String, WarmerState> pending = pendingStates(selected);
+        update(state -> state.withRunStarted(pending));
+        notifyListeners(listener -> listener.warmupStarted(selected));
 
-                // Execute the warmer
-                log.debug("{} warmer: {}", attemptNumber == 0 ? "Executing" : "Retrying", id);
-                pendingFutures.put(id, CompletableFuture.supplyAsync(warmer::warmUp));
+        // Prerequisites come first in the order, so their chains exist when dependents are scheduled
+        Map<String, CompletableFuture<WarmupResult>> chains = new HashMap<>();
+        for (Warmupdicator warmer : warmupGraph.getOrder()) {
+            if (!selected.contains(warmer)) {
+                continue;
             }
+            CompletableFuture<WarmupResult> chain = schedule(warmer, warmupGraph.getDependencies(warmer.getId()), chains, start);
+            chain.thenAccept(result -> notifyListeners(listener -> listener.warmerFinished(warmer, result)));
+            chains.put(warmer.getId(), chain);
+        }
 
-            if (!pendingFutures.isEmpty()) {
-                CompletableFuture.allOf(pendingFutures.values().toArray(new CompletableFuture[0])).join();
-
-                for (Map.Entry<String, CompletableFuture<WarmupResult>> entry : pendingFutures.entrySet()) {
-                    String id = entry.getKey();
-                    WarmupResult result = entry.getValue().join();
-                    
-                    // Update attempt count to reflect service-level retry
-                    WarmupResult updatedResult = result.isSuccess() 
-                        ? WarmupResult.success(result.getResponseTimeMs(), attemptNumber + 1)
-                        : WarmupResult.failure(result.getMessage(), result.getResponseTimeMs(), attemptNumber + 1);
-                    
-                    results.put(id, updatedResult);
-                    totalTries++;
-
-                    if (updatedResult.isSuccess()) {
-                        log.info("Warmup succeeded - {} (attempt {})", id, updatedResult.getAttemptCount());
-                    } else {
-                        log.info("Warmup failed - {} (attempt {}): {}", id, updatedResult.getAttemptCount(), updatedResult.getMessage());
-                    }
-                }
+        Set<String> criticalIds = idsOfTier(WarmupTier.CRITICAL);
+        Set<String> runCriticalIds = idsOf(selected, WarmupTier.CRITICAL);
+        CompletableFuture<?> backgroundWatch = watchBackground(idsOf(selected, WarmupTier.BACKGROUND), chains, start);
+
+        await(chainsOf(runCriticalIds, chains), start);
+        boolean succeeded = criticalIds.stream().allMatch(this::isSucceeded);
+        long totalTimeMs = Duration.between(start, Instant.now()).toMillis();
+        WarmupSnapshot current = update(state -> state.withWarmedUp(succeeded, totalTimeMs));
+        int totalTries = current.getTotalTries();
+
+        if (succeeded) {
+            int totalAttempts = current.getResults().values().stream().mapToInt(WarmupResult::getAttemptCount).sum();
+            log.info("Warmup completed successfully in {}ms after {} tries ({} total attempts)", totalTimeMs, totalTries, totalAttempts);
+            if (current.getBackgroundTotal() > 0 && !current.isBackgroundFinished()) {
+                log.info("{} background warmers keep warming", current.getBackgroundTotal() - current.getBackgroundSucceeded());
             }
+        } else {
+            Set<String> failingWarmers = criticalIds.stream()
+                .filter(id -> !isSucceeded(id))
+                .collect(Collectors.toSet());
+            log.error("Warmup gave up after {}ms and {} tries, failing warmers: [{}]",
+                    totalTimeMs, totalTries, String.join(", ", failingWarmers));
+        }
+        runEvent.end();
+        if (runEvent.shouldCommit()) {
+            runEvent.warmers = selected.size();
+            runEvent.tries = totalTries;
+            runEvent.succeeded = succeeded;
+            runEvent.commit();
+        }
+        notifyListeners(listener -> listener.warmupFinished(succeeded, Duration.ofMillis(totalTimeMs)));
+
+        // Completes after the readiness flags are set, so listeners observe the final state
+        return CompletableFuture.allOf(CompletableFuture.allOf(chains.values().toArray(CompletableFuture[]::new)), backgroundWatch)
+            .handle((ignored, e) -> {
+                update(state -> state.withRunning(false));
+                notifyListeners(WarmupListener::runFinished);
+                return null;
+            });
+    }
+
+    /**
+     * Tracks completion of the given background warmers without blocking.
+     * The background state covers all background warmers, including those that are not run again.
+     *
+     * @return a stage that completes once the background state has been updated
+     */
+    private CompletableFuture<?> watchBackground(Set<String> runBackgroundIds, Map<String, CompletableFuture<WarmupResult>> chains, Instant start) {
+        if (runBackgroundIds.isEmpty()) {
+            update(state -> state.withBackground(state.getBackgroundSucceeded() == state.getBackgroundTotal(), true));
+            return CompletableFuture.completedFuture(null);
+        }
 
-            // Check if all warmers have been processed and succeeded
-            if (results.size() == warmers.size() &&
-                results.values().stream().allMatch(WarmupResult::isSuccess)) {
-                break;
+        update(state -> state.withBackground(false, false));
+        return CompletableFuture.allOf(chainsOf(runBackgroundIds, chains)).whenComplete((ignored, e) -> {
+            long backgroundTimeMs = Duration.between(start, Instant.now()).toMillis();
+            WarmupSnapshot current = update(state -> state.withBackground(state.getBackgroundSucceeded() == state.getBackgroundTotal(), true));
+            if (current.isBackgroundWarmedUp()) {
+                log.info("Background warmup completed successfully in {}ms", backgroundTimeMs);
             } else {
-                // Log which warmers are still failing
-                Set<String> failingWarmers = warmers.stream()
-                    .map(Warmupdicator::getId)
-                    .filter(id -> {
-                        WarmupResult result = results.get(id);
-                        return result == null || !result.isSuccess();
-                    })
+                Set<String> failingWarmers = current.getBackgroundIds().stream()
+                    .filter(id -> !current.isSucceeded(id))
                     .collect(Collectors.toSet());
-                
-                if (!failingWarmers.isEmpty()) {
-                    log.info("Warmup retry needed for failing warmers: [{}]",
-                            String.join(",\n", failingWarmers));
-                }
+                log.warn("Background warmup gave up after {}ms, failing warmers: [{}]", backgroundTimeMs, String.join(", ", failingWarmers));
             }
+        });
+    }
 
-            attemptNumber++;
-            totalTimeMs = Duration.between(start, Instant.now()).toMillis();
+    private Set<String> idsOfTier(WarmupTier tier) {
+        return idsOf(warmers, tier);
+    }
+
+    private static Set<String> idsOf(Collection<Warmupdicator> warmers, WarmupTier tier) {
+        return warmers.stream()
+            .filter(warmer -> WarmupGraph.tierOf(warmer) == tier)
+            .map(Warmupdicator::getId)
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private static CompletableFuture<?>[] chainsOf(Set<String> ids, Map<String, CompletableFuture<WarmupResult>> chains) {
+        return ids.stream().map(chains::get).toArray(CompletableFuture[]::new);
+    }
+
+    /**
+     * Starts the warmer once all of its prerequisites have finished, or right away if it has none.
+     * Prerequisites that are not part of the run count as finished.
+     * The warmer is skipped if a prerequisite did not succeed or the attempt limit or deadline was reached.
+     */
+    private CompletableFuture<WarmupResult> schedule(Warmupdicator warmer, Set<String> prerequisites,
+                                                     Map<String, CompletableFuture<WarmupResult>> chains, Instant start) {
+        if (prerequisites.isEmpty()) {
+            return attempt(warmer, 1, start);
         }
 
-        if (results.values().stream().allMatch(WarmupResult::isSuccess)) {
-            int totalAttempts = results.values().stream().mapToInt(WarmupResult::getAttemptCount).sum();
-            log.info("Warmup completed successfully in {}ms after {} tries ({} total attempts)", totalTimeMs, totalTries, totalAttempts);
-            warmedUp = true;
+        String id = warmer.getId();
+        CompletableFuture<?>[] prerequisiteChains = prerequisites.stream()
+            .map(prerequisite -> chains.getOrDefault(prerequisite, CompletableFuture.completedFuture(null)))
+            .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(prerequisiteChains).thenCompose(ignored -> {
+            Set<String> failedPrerequisites = prerequisites.stream()
+                .filter(prerequisite -> !isSucceeded(prerequisite))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+            if (!failedPrerequisites.isEmpty()) {
+                log.warn("Skipping warmer {}: prerequisites [{}] did not succeed", id, String.join(", ", failedPrerequisites));
+                updateState(id, state -> state.skipped(Instant.now()));
+                return CompletableFuture.completedFuture(null);
+            }
+            if (!retryPolicy.canContinue(getTotalTries(), Duration.between(start, Instant.now()))) {
+                log.warn("Skipping warmer {}: warmup attempt limit or deadline reached", id);
+                updateState(id, state -> state.skipped(Instant.now()));
+                return CompletableFuture.completedFuture(null);
+            }
+            log.debug("Prerequisites of {} succeeded: [{}]", id, String.join(", ", prerequisites));
+            return attempt(warmer, 1, start);
+        });
+    }
+
+    /**
+     * Waits for the given retry chains to finish, at most until the deadline.
+     */
+    private void await(CompletableFuture<?>[] chains, Instant start) {
+        try {
+            Duration deadline = retryPolicy.getDeadline();
+            if (deadline != null) {
+                Duration remaining = deadline.minus(Duration.between(start, Instant.now()));
+                CompletableFuture.allOf(chains).get(Math.max(0, remaining.toMillis()), TimeUnit.MILLISECONDS);
+            } else {
+                CompletableFuture.allOf(chains).get();
+            }
+        } catch (TimeoutException e) {
+            log.warn("Warmup deadline of {} reached", retryPolicy.getDeadline());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Warmup interrupted");
+        } catch (ExecutionException e) {
+            log.error("Warmup failed unexpectedly", e.getCause());
+        }
+    }
+
+    /**
+     * Runs a single attempt of a warmer and schedules the next one if it failed and may be retried.
+     */
+    private CompletableFuture<WarmupResult> attempt(Warmupdicator warmer, int attempt, Instant start) {
+        String id = warmer.getId();
+        log.debug("{} warmer: {}", attempt == 1 ? "Executing" : "Retrying", id);
+
+        Executor warmerExecutor = WarmupGraph.tierOf(warmer) == WarmupTier.BACKGROUND ? backgroundExecutor : executor;
+        return CompletableFuture.supplyAsync(() -> runAttempt(warmer, attempt), warmerExecutor)
+            .exceptionally(e -> WarmupResult.failure(String.valueOf(e.getCause() != null ? e.getCause().getMessage() : e.getMessage()), 0)
+                .withAttemptCount(attempt))
+            .thenCompose(updatedResult -> {
+                int tries = update(state -> state.withResult(id, updatedResult)).getTotalTries();
+
+                if (updatedResult.isSuccess()) {
+                    log.info("Warmup succeeded - {} (attempt {})", id, attempt);
+                    updateState(id, state -> state.withAttemptFinished(updatedResult).ended(Instant.now()));
+                    return CompletableFuture.completedFuture(updatedResult);
+                }
+
+                log.info("Warmup failed - {} (attempt {}): {}", id, attempt, updatedResult.getMessage());
+
+                if (!retryPolicy.shouldRetry(id, updatedResult, attempt)) {
+                    log.warn("Giving up on warmer {} after {} attempts ({} failure)", id, attempt, updatedResult.getFailureType());
+                    updateState(id, state -> state.withAttemptFinished(updatedResult).ended(Instant.now()));
+                    return CompletableFuture.completedFuture(updatedResult);
+                }
+                if (!retryPolicy.canContinue(tries, Duration.between(start, Instant.now()))) {
+                    log.warn("Giving up on warmer {}: warmup attempt limit or deadline reached", id);
+                    updateState(id, state -> state.withAttemptFinished(updatedResult).ended(Instant.now()));
+                    return CompletableFuture.completedFuture(updatedResult);
+                }
+
+                updateState(id, state -> state.withAttemptFinished(updatedResult).retrying());
+                Duration backoff = retryPolicy.getBackoff(attempt);
+                log.info("Retry attempt {} for {} in {}ms", attempt, id, backoff.toMillis());
+                update(state -> state.withAttemptNumber(attempt));
+
+                return CompletableFuture
+                    .runAsync(() -> { }, CompletableFuture.delayedExecutor(backoff.toMillis(), TimeUnit.MILLISECONDS, warmerExecutor))
+                    .thenCompose(ignored -> attempt(warmer, attempt + 1, start));
+            });
+    }
+
+    /**
+     * Runs the warmer on the current thread, between the attempt notifications of the listeners.
+     */
+    private WarmupResult runAttempt(Warmupdicator warmer, int attempt) {
+        updateState(warmer.getId(), state -> state.withAttemptStarted(attempt, Instant.now()));
+        notifyListeners(listener -> listener.attemptStarted(warmer, attempt));
+        WarmerAttemptEvent event = new WarmerAttemptEvent();
+        event.begin();
+        long startNanos = System.nanoTime();
+        WarmupResult result;
+        try {
+            result = warmer.warmUp();
+        } catch (RuntimeException e) {
+            result = WarmupResult.failure(String.valueOf(e.getMessage()), 0);
         }
+        // Update attempt count to reflect service-level retry
+        WarmupResult updatedResult = result.withAttemptCount(attempt);
+        Duration duration = Duration.ofNanos(System.nanoTime() - startNanos);
+        event.end();
+        if (event.shouldCommit()) {
+            event.warmer = warmer.getId();
+            event.tier = WarmupGraph.tierOf(warmer).name();
+            event.attempt = attempt;
+            event.success = updatedResult.isSuccess();
+            event.failureType = updatedResult.getFailureType() != null ? updatedResult.getFailureType().name() : null;
+            event.message = updatedResult.getMessage();
+            event.commit();
+        }
+        notifyListeners(listener -> listener.attemptFinished(warmer, attempt, updatedResult, duration));
+        return updatedResult;
+    }
+
+    private void notifyListeners(Consumer<WarmupListener> notification) {
+        for (WarmupListener listener : listeners) {
+            try {
+                notification.accept(listener);
+            } catch (RuntimeException e) {
+                log.warn("Warmup listener {} failed: {}", listener.getClass().getName(), e.toString());
+            }
+        }
+    }
+
+    private void updateState(String id, UnaryOperator<WarmerState> change) {
+        update(state -> state.withWarmerState(id, change));
+    }
+
+    private boolean isSucceeded(String id) {
+        return snapshot.get().isSucceeded(id);
     }
 }
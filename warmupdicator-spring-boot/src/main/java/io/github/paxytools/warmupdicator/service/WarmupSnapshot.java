@@ -0,0 +1,223 @@
+package io.github.paxytools.warmupdicator.service;
+
+import io.github.paxytools.warmupdicator.api.WarmerState;
+import io.github.paxytools.warmupdicator.api.WarmupResult;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * Immutable state of the {@link WarmupService}, published atomically on every change.
+ * <p>
+ * Every copy made by a {@code with} method has the next version, so readers such as the health
+ * indicator can tell whether anything changed by comparing versions. Results and warmer states are
+ * sorted by warmer id.
+ */
+@Getter
+public final class WarmupSnapshot {
+
+    private static final WarmupSnapshot INITIAL = new WarmupSnapshot(0, false, false, false, false, 0, 0, 0,
+            Set.of(), Collections.emptySortedMap(), Collections.emptySortedMap());
+
+    /**
+     * Incremented on every change, starting at 0.
+     */
+    private final long version;
+
+    /**
+     * Whether a warmup run is in progress, including its background warmers.
+     */
+    private final boolean running;
+
+    /**
+     * Whether every critical warmer has succeeded.
+     */
+    private final boolean warmedUp;
+
+    /**
+     * Whether every background warmer has succeeded.
+     */
+    private final boolean backgroundWarmedUp;
+
+    /**
+     * Whether every background warmer has finished, successfully or not.
+     */
+    private final boolean backgroundFinished;
+
+    /**
+     * Time until the critical warmers of the last run finished.
+     */
+    private final long totalTimeMs;
+
+    /**
+     * Number of warmer attempts made in the current or last run.
+     */
+    private final int totalTries;
+
+    /**
+     * Highest retry number reached by any warmer in the current or last run (0 if no warmer was retried).
+     */
+    private final int attemptNumber;
+
+    private final Set<String> backgroundIds;
+    private final SortedMap<String, WarmupResult> results;
+    private final SortedMap<String, WarmerState> warmerStates;
+
+    private WarmupSnapshot(long version, boolean running, boolean warmedUp, boolean backgroundWarmedUp, boolean backgroundFinished,
+                           long totalTimeMs, int totalTries, int attemptNumber, Set<String> backgroundIds,
+                           SortedMap<String, WarmupResult> results, SortedMap<String, WarmerState> warmerStates) {
+        this.version = version;
+        this.running = running;
+        this.warmedUp = warmedUp;
+        this.backgroundWarmedUp = backgroundWarmedUp;
+        this.backgroundFinished = backgroundFinished;
+        this.totalTimeMs = totalTimeMs;
+        this.totalTries = totalTries;
+        this.attemptNumber = attemptNumber;
+        this.backgroundIds = backgroundIds;
+        this.results = results;
+        this.warmerStates = warmerStates;
+    }
+
+    /**
+     * Returns the state before any warmup: no warmers, nothing warmed up, version 0.
+     *
+     * @return the initial WarmupSnapshot
+     */
+    public static WarmupSnapshot initial() {
+        return INITIAL;
+    }
+
+    /**
+     * Returns the number of background tier warmers.
+     */
+    public int getBackgroundTotal() {
+        return backgroundIds.size();
+    }
+
+    /**
+     * Returns the number of background tier warmers that have succeeded.
+     */
+    public int getBackgroundSucceeded() {
+        return (int) backgroundIds.stream().filter(this::isSucceeded).count();
+    }
+
+    /**
+     * Returns whether the last result of the given warmer is a success.
+     */
+    public boolean isSucceeded(String id) {
+        WarmupResult result = results.get(id);
+        return result != null && result.isSuccess();
+    }
+
+    /**
+     * Returns a copy with the given warmers, all pending, and the ids of the background tier warmers.
+     *
+     * @param states the pending state of every warmer
+     * @param backgroundIds the ids of the background tier warmers
+     * @return a WarmupSnapshot knowing the given warmers
+     */
+    public WarmupSnapshot withWarmers(Map<String, WarmerState> states, Set<String> backgroundIds) {
+        return new WarmupSnapshot(version + 1, running, warmedUp, backgroundWarmedUp, backgroundFinished, totalTimeMs, totalTries,
+                attemptNumber, Set.copyOf(backgroundIds), results, merge(warmerStates, states));
+    }
+
+    /**
+     * Returns a copy in which a run has started or ended.
+     *
+     * @param running whether a run is in progress
+     * @return a WarmupSnapshot with the given running flag
+     */
+    public WarmupSnapshot withRunning(boolean running) {
+        return new WarmupSnapshot(version + 1, running, warmedUp, backgroundWarmedUp, backgroundFinished, totalTimeMs, totalTries,
+                attemptNumber, backgroundIds, results, warmerStates);
+    }
+
+    /**
+     * Returns a copy for the start of a run of the given warmers: their states are reset and the tries are counted from 0.
+     *
+     * @param states the pending state of every warmer of the run
+     * @return a WarmupSnapshot at the start of the run
+     */
+    public WarmupSnapshot withRunStarted(Map<String, WarmerState> states) {
+        return new WarmupSnapshot(version + 1, running, warmedUp, backgroundWarmedUp, backgroundFinished, totalTimeMs, 0,
+                0, backgroundIds, results, merge(warmerStates, states));
+    }
+
+    /**
+     * Returns a copy with the state of a warmer changed, if the warmer is known.
+     *
+     * @param id the warmer id
+     * @param update computes the new state from the current one
+     * @return a WarmupSnapshot with the updated warmer state
+     */
+    public WarmupSnapshot withWarmerState(String id, UnaryOperator<WarmerState> update) {
+        WarmerState state = warmerStates.get(id);
+        if (state == null) {
+            return this;
+        }
+        return new WarmupSnapshot(version + 1, running, warmedUp, backgroundWarmedUp, backgroundFinished, totalTimeMs, totalTries,
+                attemptNumber, backgroundIds, results, merge(warmerStates, Map.of(id, update.apply(state))));
+    }
+
+    /**
+     * Returns a copy with the result of an attempt, counted as one more try.
+     *
+     * @param id the warmer id
+     * @param result the result of the attempt
+     * @return a WarmupSnapshot with the given result
+     */
+    public WarmupSnapshot withResult(String id, WarmupResult result) {
+        return new WarmupSnapshot(version + 1, running, warmedUp, backgroundWarmedUp, backgroundFinished, totalTimeMs, totalTries + 1,
+                attemptNumber, backgroundIds, merge(results, Map.of(id, result)), warmerStates);
+    }
+
+    /**
+     * Returns a copy with a retry number reached by a warmer, kept only if it is the highest so far.
+     *
+     * @param attempt the retry number
+     * @return a WarmupSnapshot with the highest retry number
+     */
+    public WarmupSnapshot withAttemptNumber(int attempt) {
+        if (attempt <= attemptNumber) {
+            return this;
+        }
+        return new WarmupSnapshot(version + 1, running, warmedUp, backgroundWarmedUp, backgroundFinished, totalTimeMs, totalTries,
+                attempt, backgroundIds, results, warmerStates);
+    }
+
+    /**
+     * Returns a copy for the end of the critical warmers of a run.
+     *
+     * @param warmedUp whether every critical warmer has succeeded
+     * @param totalTimeMs the time until the critical warmers finished
+     * @return a WarmupSnapshot with the given readiness
+     */
+    public WarmupSnapshot withWarmedUp(boolean warmedUp, long totalTimeMs) {
+        return new WarmupSnapshot(version + 1, running, warmedUp, backgroundWarmedUp, backgroundFinished, totalTimeMs, totalTries,
+                attemptNumber, backgroundIds, results, warmerStates);
+    }
+
+    /**
+     * Returns a copy with the progress of the background warmers.
+     *
+     * @param backgroundWarmedUp whether every background warmer has succeeded
+     * @param backgroundFinished whether every background warmer has finished
+     * @return a WarmupSnapshot with the given background progress
+     */
+    public WarmupSnapshot withBackground(boolean backgroundWarmedUp, boolean backgroundFinished) {
+        return new WarmupSnapshot(version + 1, running, warmedUp, backgroundWarmedUp, backgroundFinished, totalTimeMs, totalTries,
+                attemptNumber, backgroundIds, results, warmerStates);
+    }
+
+    private static <T> SortedMap<String, T> merge(SortedMap<String, T> current, Map<String, T> changes) {
+        SortedMap<String, T> merged = new TreeMap<>(current);
+        merged.putAll(changes);
+        return Collections.unmodifiableSortedMap(merged);
+    }
+}
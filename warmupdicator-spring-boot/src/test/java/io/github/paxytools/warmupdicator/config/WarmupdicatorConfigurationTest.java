@@ -0,0 +1,109 @@
+package io.github.paxytools.warmupdicator.config;
+
+import com.sun.net.httpserver.HttpServer;
+import io.github.paxytools.warmupdicator.api.Warmupdicator;
+import io.github.paxytools.warmupdicator.impl.EndpointWarmupdicator;
+import io.github.paxytools.warmupdicator.service.ExponentialBackoffRetryPolicy;
+import io.github.paxytools.warmupdicator.service.WarmupService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WarmupdicatorConfigurationTest {
+
+    private final WarmupdicatorConfiguration configuration = new WarmupdicatorConfiguration();
+    private final WarmupdicatorProperties properties = new WarmupdicatorProperties();
+    private HttpServer server;
+    private Executor warmupExecutor;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        if (warmupExecutor != null) {
+            ((ExecutorService) warmupExecutor).shutdownNow();
+        }
+    }
+
+    @Test
+    void testEndpointWarmersDoNotStarveTheHttpClient() {
+        properties.getExecutor().setPoolSize(2);
+        properties.getHttpClient().setVersion(HttpClient.Version.HTTP_1_1);
+        warmupExecutor = configuration.warmupExecutor(properties);
+        HttpClient httpClient = configuration.httpClient(properties);
+
+        // As many blocking endpoint warmers as the warmer pool has threads
+        Set<Warmupdicator> warmers = new HashSet<>();
+        for (int i = 0; i < 2; i++) {
+            EndpointWarmerProperties.EndpointProperties endpoint = new EndpointWarmerProperties.EndpointProperties();
+            endpoint.setName("endpoint-" + i);
+            endpoint.setUrl("http://localhost:" + server.getAddress().getPort() + "/ping");
+            endpoint.setMaxResponseTime(2000);
+            warmers.add(new EndpointWarmupdicator(endpoint, httpClient));
+        }
+        RetryProperties retry = new RetryProperties();
+        retry.setMaxAttempts(1);
+        WarmupService warmupService = new WarmupService(warmers, new ExponentialBackoffRetryPolicy(retry), warmupExecutor);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), warmupService::performWarmup);
+
+        assertTrue(warmupService.isWarmedUp());
+    }
+
+    @Test
+    void testDispatcherServletIsLoadedOnStartup() {
+        ServletRegistrationBean<DispatcherServlet> registration = dispatcherServletRegistration();
+
+        BeanPostProcessor postProcessor = WarmupdicatorConfiguration.InProcessWarmerConfiguration
+                .dispatcherServletLoadOnStartup(new MockEnvironment());
+        postProcessor.postProcessBeforeInitialization(registration, "dispatcherServletRegistration");
+
+        verify(registration).setLoadOnStartup(1);
+    }
+
+    @Test
+    void testConfiguredLoadOnStartupIsKept() {
+        ServletRegistrationBean<DispatcherServlet> registration = dispatcherServletRegistration();
+
+        BeanPostProcessor postProcessor = WarmupdicatorConfiguration.InProcessWarmerConfiguration
+                .dispatcherServletLoadOnStartup(new MockEnvironment().withProperty("spring.mvc.servlet.load-on-startup", "-1"));
+        postProcessor.postProcessBeforeInitialization(registration, "dispatcherServletRegistration");
+
+        verify(registration, never()).setLoadOnStartup(anyInt());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ServletRegistrationBean<DispatcherServlet> dispatcherServletRegistration() {
+        ServletRegistrationBean<DispatcherServlet> registration = mock(ServletRegistrationBean.class);
+        when(registration.getServlet()).thenReturn(mock(DispatcherServlet.class));
+        return registration;
+    }
+}
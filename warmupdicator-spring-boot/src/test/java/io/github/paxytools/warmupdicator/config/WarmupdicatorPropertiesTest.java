@@ -3,6 +3,9 @@ package io.github.paxytools.warmupdicator.config;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class WarmupdicatorPropertiesTest {
@@ -22,6 +25,15 @@ class WarmupdicatorPropertiesTest {
         assertTrue(properties.getEndpointWarmer().getEndpoints().isEmpty());
     }
 
+    @Test
+    void testHttpClientDefaults() {
+        HttpClientProperties httpClient = properties.getHttpClient();
+
+        assertEquals(HttpClient.Version.HTTP_2, httpClient.getVersion());
+        assertEquals(Duration.ofSeconds(5), httpClient.getConnectTimeout());
+        assertEquals(HttpClient.Redirect.NORMAL, httpClient.getFollowRedirects());
+    }
+
     @Test
     void testSetEnabled() {
         properties.setEnabled(false);
@@ -0,0 +1,90 @@
+package io.github.paxytools.warmupdicator.endpoint;
+
+import io.github.paxytools.warmupdicator.api.WarmerStatus;
+import io.github.paxytools.warmupdicator.api.WarmupResult;
+import io.github.paxytools.warmupdicator.api.Warmupdicator;
+import io.github.paxytools.warmupdicator.service.WarmupService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class WarmupEndpointTest {
+
+    private final Warmupdicator warmer = mock(Warmupdicator.class);
+    private WarmupService warmupService;
+    private WarmupEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        when(warmer.getId()).thenReturn("orders");
+        when(warmer.warmUp()).thenReturn(WarmupResult.success(10));
+        warmupService = new WarmupService(Set.of(warmer));
+        endpoint = new WarmupEndpoint(warmupService);
+    }
+
+    @Test
+    void testReportsEveryWarmer() {
+        warmupService.performWarmup();
+
+        WarmupEndpoint.WarmupDescriptor descriptor = endpoint.warmup();
+
+        assertTrue(descriptor.isWarmedUp());
+        assertEquals(1, descriptor.getTries());
+        assertEquals(WarmerStatus.SUCCEEDED, descriptor.getWarmers().get("orders").getStatus());
+        assertEquals(1, endpoint.warmer("orders").getAttempts());
+        assertNull(endpoint.warmer("unknown"));
+    }
+
+    @Test
+    void testRewarmsAllWarmers() throws Exception {
+        warmupService.performWarmup();
+        warmupService.whenFinished().toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        WarmupEndpoint.RewarmDescriptor descriptor = endpoint.rewarm(null);
+
+        assertTrue(descriptor.isStarted());
+        assertEquals(List.of("orders"), descriptor.getWarmers());
+        assertNull(descriptor.getMessage());
+    }
+
+    @Test
+    void testRejectsUnknownWarmers() {
+        warmupService.performWarmup();
+
+        assertThrows(InvalidEndpointRequestException.class, () -> endpoint.rewarm(List.of("unknown")));
+    }
+
+    @Test
+    void testDoesNotStartWhileRunning() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(warmer.warmUp()).thenAnswer(invocation -> {
+            release.await();
+            return WarmupResult.success(10);
+        });
+        Thread warmup = new Thread(warmupService::performWarmup);
+        warmup.start();
+        try {
+            long deadline = System.currentTimeMillis() + 5000;
+            while (!warmupService.isRunning() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+
+            WarmupEndpoint.RewarmDescriptor descriptor = endpoint.rewarm(List.of("orders"));
+
+            assertFalse(descriptor.isStarted());
+            assertNotNull(descriptor.getMessage());
+        } finally {
+            release.countDown();
+            warmup.join(5000);
+        }
+    }
+}
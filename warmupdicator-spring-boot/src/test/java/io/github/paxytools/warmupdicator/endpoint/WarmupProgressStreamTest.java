@@ -0,0 +1,88 @@
+package io.github.paxytools.warmupdicator.endpoint;
+
+import io.github.paxytools.warmupdicator.api.WarmerStatus;
+import io.github.paxytools.warmupdicator.api.WarmupResult;
+import io.github.paxytools.warmupdicator.api.Warmupdicator;
+import io.github.paxytools.warmupdicator.service.WarmupService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class WarmupProgressStreamTest {
+
+    private final Warmupdicator warmer = mock(Warmupdicator.class);
+    private WarmupService warmupService;
+    private WarmupProgressStream stream;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        when(warmer.getId()).thenReturn("orders");
+        warmupService = new WarmupService(Set.of(warmer));
+        stream = new WarmupProgressStream(() -> warmupService);
+        warmupService.addListener(stream);
+        mockMvc = MockMvcBuilders.standaloneSetup(stream).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stream.close();
+    }
+
+    @Test
+    void testEndsAfterStateWhenIdle() throws Exception {
+        when(warmer.warmUp()).thenReturn(WarmupResult.success(10));
+        warmupService.performWarmup();
+        warmupService.whenFinished().toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        String body = stream(mockMvc.perform(get("/actuator/warmup/stream")).andExpect(request().asyncStarted()).andReturn());
+
+        assertTrue(body.startsWith("event:state\n"));
+        assertTrue(body.contains("\"SUCCEEDED\""));
+        assertFalse(body.contains("event:run-finished"));
+    }
+
+    @Test
+    void testStreamsProgressOfRun() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(warmer.warmUp()).thenReturn(WarmupResult.success(10));
+        warmupService.performWarmup();
+        warmupService.whenFinished().toCompletableFuture().get(5, TimeUnit.SECONDS);
+        when(warmer.warmUp()).thenAnswer(invocation -> {
+            release.await();
+            return WarmupResult.success(10);
+        });
+        warmupService.rewarm(List.of());
+        long deadline = System.currentTimeMillis() + 5000;
+        while (warmupService.getWarmerStates().get("orders").getStatus() != WarmerStatus.RUNNING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        MvcResult result = mockMvc.perform(get("/actuator/warmup/stream")).andExpect(request().asyncStarted()).andReturn();
+        release.countDown();
+        String body = stream(result);
+
+        List<String> events = body.lines().filter(line -> line.startsWith("event:")).toList();
+        assertEquals(List.of("event:state", "event:attempt-finished", "event:warmer-finished", "event:warmup-finished", "event:run-finished"), events);
+    }
+
+    private String stream(MvcResult result) throws Exception {
+        result.getAsyncResult(5000);
+        return mockMvc.perform(asyncDispatch(result)).andReturn().getResponse().getContentAsString();
+    }
+}
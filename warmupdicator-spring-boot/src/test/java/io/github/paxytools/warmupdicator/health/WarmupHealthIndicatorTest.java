@@ -1,15 +1,18 @@
 package io.github.paxytools.warmupdicator.health;
 
+import io.github.paxytools.warmupdicator.api.WarmerState;
 import io.github.paxytools.warmupdicator.api.WarmupResult;
+import io.github.paxytools.warmupdicator.api.WarmupTier;
 import io.github.paxytools.warmupdicator.config.WarmupdicatorProperties;
 import io.github.paxytools.warmupdicator.service.WarmupService;
+import io.github.paxytools.warmupdicator.service.WarmupSnapshot;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.Status;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -29,10 +32,8 @@ class WarmupHealthIndicatorTest {
 
     @Test
     void testHealthWhenWarmedUp() {
-        when(warmupService.isWarmedUp()).thenReturn(true);
-        when(warmupService.getTotalTimeMs()).thenReturn(100L);
-        when(warmupService.getTotalTries()).thenReturn(2);
-        when(warmupService.getResults()).thenReturn(new HashMap<>());
+        when(warmupService.getSnapshot()).thenReturn(snapshot(true, 100L,
+                Map.of("endpoint1", WarmupResult.success(50), "endpoint2", WarmupResult.success(50))));
 
         Health health = healthIndicator.health();
 
@@ -42,12 +43,40 @@ class WarmupHealthIndicatorTest {
         assertEquals(2, health.getDetails().get("tries"));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void testHealthReportsBackgroundProgress() {
+        WarmupSnapshot snapshot = WarmupSnapshot.initial()
+                .withWarmers(Map.of(
+                        "cache", WarmerState.pending("cache", WarmupTier.BACKGROUND),
+                        "search", WarmerState.pending("search", WarmupTier.BACKGROUND),
+                        "reports", WarmerState.pending("reports", WarmupTier.BACKGROUND)), Set.of("cache", "search", "reports"))
+                .withResult("cache", WarmupResult.success(10))
+                .withWarmedUp(true, 10);
+        when(warmupService.getSnapshot()).thenReturn(snapshot);
+
+        Health health = healthIndicator.health();
+
+        assertEquals(Status.UP, health.getStatus());
+        Map<String, Object> background = (Map<String, Object>) health.getDetails().get("background");
+        assertEquals("WARMING", background.get("status"));
+        assertEquals("1/3", background.get("progress"));
+
+        when(warmupService.getSnapshot()).thenReturn(snapshot.withBackground(false, true));
+        background = (Map<String, Object>) healthIndicator.health().getDetails().get("background");
+        assertEquals("FAIL", background.get("status"));
+    }
+
+    @Test
+    void testHealthWithoutBackgroundWarmers() {
+        when(warmupService.getSnapshot()).thenReturn(snapshot(true, 0L, Map.of()));
+
+        assertFalse(healthIndicator.health().getDetails().containsKey("background"));
+    }
+
     @Test
     void testHealthWhenNotWarmedUp() {
-        when(warmupService.isWarmedUp()).thenReturn(false);
-        when(warmupService.getTotalTimeMs()).thenReturn(0L);
-        when(warmupService.getTotalTries()).thenReturn(1);
-        when(warmupService.getResults()).thenReturn(new HashMap<>());
+        when(warmupService.getSnapshot()).thenReturn(snapshot(false, 0L, Map.of("endpoint1", WarmupResult.failure("Timeout", 1000))));
 
         Health health = healthIndicator.health();
 
@@ -60,15 +89,8 @@ class WarmupHealthIndicatorTest {
     @Test
     void testHealthWithDetailsEnabled() {
         properties.setShowDetails(true);
-        
-        Map<String, WarmupResult> results = new HashMap<>();
-        results.put("endpoint1", WarmupResult.success(50));
-        results.put("endpoint2", WarmupResult.failure("Timeout", 1000));
-        
-        when(warmupService.isWarmedUp()).thenReturn(false);
-        when(warmupService.getTotalTimeMs()).thenReturn(1050L);
-        when(warmupService.getTotalTries()).thenReturn(3);
-        when(warmupService.getResults()).thenReturn(results);
+        when(warmupService.getSnapshot()).thenReturn(snapshot(false, 1050L,
+                Map.of("endpoint1", WarmupResult.success(50), "endpoint2", WarmupResult.failure("Timeout", 1000))));
 
         Health health = healthIndicator.health();
 
@@ -84,14 +106,7 @@ class WarmupHealthIndicatorTest {
     @Test
     void testHealthWithDetailsDisabled() {
         properties.setShowDetails(false);
-        
-        Map<String, WarmupResult> results = new HashMap<>();
-        results.put("endpoint1", WarmupResult.success(50));
-        
-        when(warmupService.isWarmedUp()).thenReturn(true);
-        when(warmupService.getTotalTimeMs()).thenReturn(50L);
-        when(warmupService.getTotalTries()).thenReturn(1);
-        when(warmupService.getResults()).thenReturn(results);
+        when(warmupService.getSnapshot()).thenReturn(snapshot(true, 50L, Map.of("endpoint1", WarmupResult.success(50))));
 
         Health health = healthIndicator.health();
 
@@ -105,15 +120,8 @@ class WarmupHealthIndicatorTest {
     @Test
     void testHealthWithMixedResults() {
         properties.setShowDetails(true);
-        
-        Map<String, WarmupResult> results = new HashMap<>();
-        results.put("success", WarmupResult.success(100, 2));
-        results.put("failure", WarmupResult.failure("Error", 200, 3));
-        
-        when(warmupService.isWarmedUp()).thenReturn(false);
-        when(warmupService.getTotalTimeMs()).thenReturn(300L);
-        when(warmupService.getTotalTries()).thenReturn(5);
-        when(warmupService.getResults()).thenReturn(results);
+        when(warmupService.getSnapshot()).thenReturn(snapshot(false, 300L,
+                Map.of("success", WarmupResult.success(100, 2), "failure", WarmupResult.failure("Error", 200, 3))));
 
         Health health = healthIndicator.health();
 
@@ -124,4 +132,33 @@ class WarmupHealthIndicatorTest {
         assertEquals("OK (in 100ms, attempts: 2)", details.get("success"));
         assertEquals("Error (took 200ms, attempts: 3)", details.get("failure"));
     }
+
+    @Test
+    void testHealthIsCachedUntilSnapshotChanges() {
+        WarmupSnapshot snapshot = snapshot(false, 0L, Map.of("endpoint1", WarmupResult.failure("Timeout", 1000)));
+        when(warmupService.getSnapshot()).thenReturn(snapshot);
+
+        Health health = healthIndicator.health();
+        assertSame(health, healthIndicator.health());
+
+        when(warmupService.getSnapshot()).thenReturn(snapshot.withWarmedUp(true, 1000L));
+        Health warmedUp = healthIndicator.health();
+        assertNotSame(health, warmedUp);
+        assertEquals(Status.UP, warmedUp.getStatus());
+        assertSame(warmedUp, healthIndicator.health());
+
+        properties.setShowDetails(true);
+        assertTrue(healthIndicator.health().getDetails().containsKey("details"));
+    }
+
+    /**
+     * Returns a snapshot with the given readiness and results, one try per result.
+     */
+    private static WarmupSnapshot snapshot(boolean warmedUp, long totalTimeMs, Map<String, WarmupResult> results) {
+        WarmupSnapshot snapshot = WarmupSnapshot.initial();
+        for (Map.Entry<String, WarmupResult> result : results.entrySet()) {
+            snapshot = snapshot.withResult(result.getKey(), result.getValue());
+        }
+        return snapshot.withWarmedUp(warmedUp, totalTimeMs);
+    }
 }
@@ -0,0 +1,157 @@
+package io.github.paxytools.warmupdicator.impl;
+
+import io.github.paxytools.warmupdicator.api.FailureType;
+import io.github.paxytools.warmupdicator.api.WarmupResult;
+import io.github.paxytools.warmupdicator.config.ClassPreloaderProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClassPreloadWarmupdicatorTest {
+
+    static volatile boolean lazyInitialized;
+    static volatile boolean eagerInitialized;
+
+    @TempDir
+    Path tempDir;
+
+    private ClassPreloaderProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ClassPreloaderProperties();
+        properties.setFile(tempDir.resolve("classes.lst").toString());
+    }
+
+    @Test
+    void testLoadsAndInitializesClasses() throws IOException {
+        writeClassList("# recorded", "", Eager.class.getName(), "java.util.concurrent.ConcurrentSkipListMap");
+
+        WarmupResult result = new ClassPreloadWarmupdicator(properties, getClass().getClassLoader()).warmUp();
+
+        assertTrue(result.isSuccess());
+        assertTrue(eagerInitialized);
+        assertEquals(2, result.getDetails().get("classes"));
+        assertEquals(2, result.getDetails().get("loaded"));
+        assertEquals(2, result.getDetails().get("initialized"));
+        assertEquals(0, result.getDetails().get("failed"));
+        assertEquals(2, result.getStatistics().getCount());
+    }
+
+    @Test
+    void testLoadsWithoutInitializing() throws IOException {
+        properties.setInitialize(false);
+        writeClassList(Lazy.class.getName());
+
+        WarmupResult result = new ClassPreloadWarmupdicator(properties, getClass().getClassLoader()).warmUp();
+
+        assertTrue(result.isSuccess());
+        assertEquals(1, result.getDetails().get("loaded"));
+        assertEquals(0, result.getDetails().get("initialized"));
+        assertFalse(lazyInitialized);
+    }
+
+    @Test
+    void testStaleClassesAreReportedWithoutFailing() throws IOException {
+        writeClassList("com.example.Removed", String.class.getName());
+
+        WarmupResult result = new ClassPreloadWarmupdicator(properties, getClass().getClassLoader()).warmUp();
+
+        assertTrue(result.isSuccess());
+        assertEquals(1, result.getDetails().get("loaded"));
+        assertEquals(1, result.getDetails().get("failed"));
+        @SuppressWarnings("unchecked")
+        Map<String, String> failures = (Map<String, String>) result.getDetails().get("failures");
+        assertTrue(failures.get("com.example.Removed").contains("ClassNotFoundException"));
+    }
+
+    @Test
+    void testExcludedClassesAreSkipped() throws IOException {
+        properties.setExcludePatterns(List.of("java.util.*"));
+        writeClassList("java.util.ArrayList", String.class.getName());
+
+        WarmupResult result = new ClassPreloadWarmupdicator(properties, getClass().getClassLoader()).warmUp();
+
+        assertEquals(1, result.getDetails().get("classes"));
+    }
+
+    @Test
+    void testLoaderThatIsNotParallelCapableUsesOneWorker() throws IOException {
+        ClassLoader serialLoader = new ClassLoader(getClass().getClassLoader()) {
+        };
+        writeClassList(String.class.getName(), Integer.class.getName());
+
+        WarmupResult result = new ClassPreloadWarmupdicator(properties, serialLoader).warmUp();
+
+        assertTrue(result.isSuccess());
+        assertEquals(1, result.getDetails().get("workers"));
+        assertEquals(2, result.getDetails().get("loaded"));
+    }
+
+    @Test
+    void testParallelCapableLoaderUsesConcurrency() throws IOException {
+        properties.setConcurrency(3);
+        writeClassList(String.class.getName());
+
+        WarmupResult result = new ClassPreloadWarmupdicator(properties, ClassLoader.getSystemClassLoader()).warmUp();
+
+        assertEquals(3, result.getDetails().get("workers"));
+    }
+
+    @Test
+    void testReadsClassListFromClasspath() throws IOException {
+        Files.write(tempDir.resolve("warmup-classes.lst"), List.of(String.class.getName()));
+        properties.setFile("classpath:warmup-classes.lst");
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{tempDir.toUri().toURL()}, getClass().getClassLoader())) {
+            WarmupResult result = new ClassPreloadWarmupdicator(properties, loader).warmUp();
+
+            assertTrue(result.isSuccess());
+            assertEquals(1, result.getDetails().get("loaded"));
+        }
+    }
+
+    @Test
+    void testMissingClassListIsSkipped() {
+        WarmupResult result = new ClassPreloadWarmupdicator(properties, getClass().getClassLoader()).warmUp();
+
+        assertTrue(result.isSuccess());
+        assertTrue(result.getDetails().get("skipped").toString().contains("no class list"));
+    }
+
+    @Test
+    void testMissingClassListFailsWhenRequired() {
+        properties.setFailIfMissing(true);
+
+        WarmupResult result = new ClassPreloadWarmupdicator(properties, getClass().getClassLoader()).warmUp();
+
+        assertFalse(result.isSuccess());
+        assertEquals(FailureType.CLIENT_ERROR, result.getFailureType());
+    }
+
+    private void writeClassList(String... lines) throws IOException {
+        Files.write(Path.of(properties.getFile()), List.of(lines));
+    }
+
+    static class Eager {
+        static {
+            eagerInitialized = true;
+        }
+    }
+
+    static class Lazy {
+        static {
+            lazyInitialized = true;
+        }
+    }
+}
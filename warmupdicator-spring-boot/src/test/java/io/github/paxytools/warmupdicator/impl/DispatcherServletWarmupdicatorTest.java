@@ -0,0 +1,210 @@
+package io.github.paxytools.warmupdicator.impl;
+
+import io.github.paxytools.warmupdicator.api.FailureType;
+import io.github.paxytools.warmupdicator.api.WarmupResult;
+import io.github.paxytools.warmupdicator.config.EndpointWarmerProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockServletConfig;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DispatcherServletWarmupdicatorTest {
+
+    private AnnotationConfigWebApplicationContext context;
+    private DispatcherServlet dispatcherServlet;
+    private MockServletContext servletContext;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        servletContext = new MockServletContext();
+        context = new AnnotationConfigWebApplicationContext();
+        context.setServletContext(servletContext);
+        context.register(WebConfig.class);
+        context.refresh();
+        dispatcherServlet = new DispatcherServlet(context);
+        // Done by the container, since load-on-startup is set
+        dispatcherServlet.init(new MockServletConfig(servletContext, DispatcherServletWarmupdicator.SERVLET_NAME));
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void testGetIsDispatchedThroughHandlerAndInterceptors() {
+        EndpointWarmerProperties.EndpointProperties endpoint = endpoint("GET", "/users/42?verbose=true", null);
+
+        WarmupResult result = new DispatcherServletWarmupdicator(endpoint, dispatcherServlet, servletContext).warmUp();
+
+        assertTrue(result.isSuccess(), result.getMessage());
+        assertEquals(1, context.getBean(WebConfig.class).interceptorCalls.get());
+        assertEquals("42:true", context.getBean(TestController.class).lastUser);
+    }
+
+    @Test
+    void testPostBodyIsReadByMessageConverter() {
+        EndpointWarmerProperties.EndpointProperties endpoint = endpoint("POST", "/users", "{\"name\":\"Ada\"}");
+        endpoint.setHeaders(Map.of("X-Tenant", "acme"));
+        endpoint.setExpectedStatus(201);
+
+        WarmupResult result = new DispatcherServletWarmupdicator(endpoint, dispatcherServlet, servletContext).warmUp();
+
+        assertTrue(result.isSuccess(), result.getMessage());
+        assertEquals("acme:Ada", context.getBean(TestController.class).lastCreated);
+    }
+
+    @Test
+    void testUnknownPathFails() {
+        EndpointWarmerProperties.EndpointProperties endpoint = endpoint("GET", "/missing", null);
+
+        WarmupResult result = new DispatcherServletWarmupdicator(endpoint, dispatcherServlet, servletContext).warmUp();
+
+        assertFalse(result.isSuccess());
+        assertEquals(FailureType.CLIENT_ERROR, result.getFailureType());
+        assertTrue(result.getMessage().contains("HTTP 404"));
+    }
+
+    @Test
+    void testFullUrlAndContextPath() {
+        servletContext.setContextPath("/app");
+        EndpointWarmerProperties.EndpointProperties endpoint = endpoint("GET", "http://ignored:9999/app/users/7", null);
+
+        WarmupResult result = new DispatcherServletWarmupdicator(endpoint, dispatcherServlet, servletContext).warmUp();
+
+        assertTrue(result.isSuccess(), result.getMessage());
+        assertEquals("7:false", context.getBean(TestController.class).lastUser);
+    }
+
+    @Test
+    void testHandlerExceptionFails() {
+        EndpointWarmerProperties.EndpointProperties endpoint = endpoint("GET", "/boom", null);
+
+        WarmupResult result = new DispatcherServletWarmupdicator(endpoint, dispatcherServlet, servletContext).warmUp();
+
+        assertFalse(result.isSuccess());
+        assertEquals(FailureType.UNKNOWN, result.getFailureType());
+    }
+
+    @Test
+    void testFailsUntilContainerInitializesServlet() {
+        DispatcherServlet uninitialized = new DispatcherServlet(context);
+        EndpointWarmerProperties.EndpointProperties endpoint = endpoint("GET", "/users/1", null);
+
+        WarmupResult result = new DispatcherServletWarmupdicator(endpoint, uninitialized, servletContext).warmUp();
+
+        assertFalse(result.isSuccess());
+        assertTrue(result.getMessage().contains("load-on-startup"));
+        assertNull(uninitialized.getServletConfig());
+    }
+
+    @Test
+    void testRepeatedConcurrentCalls() {
+        EndpointWarmerProperties.EndpointProperties endpoint = endpoint("GET", "/users/1", null);
+        endpoint.setIterations(500);
+        endpoint.setConcurrency(4);
+
+        WarmupResult result = new DispatcherServletWarmupdicator(endpoint, dispatcherServlet, servletContext).warmUp();
+
+        assertTrue(result.isSuccess(), result.getMessage());
+        assertEquals(500, result.getStatistics().getCount());
+        assertEquals(0, result.getStatistics().getErrorCount());
+        assertEquals(500, context.getBean(WebConfig.class).interceptorCalls.get());
+    }
+
+    @Test
+    void testIdTierAndDependencies() {
+        EndpointWarmerProperties.EndpointProperties endpoint = endpoint("GET", "/users/1", null);
+        endpoint.setName("users");
+        endpoint.setDependsOn(List.of("database"));
+
+        DispatcherServletWarmupdicator warmer = new DispatcherServletWarmupdicator(endpoint, dispatcherServlet, servletContext);
+
+        assertEquals("users", warmer.getId());
+        assertEquals(Set.of("database"), warmer.dependsOn());
+    }
+
+    private static EndpointWarmerProperties.EndpointProperties endpoint(String method, String url, String body) {
+        EndpointWarmerProperties.EndpointProperties endpoint = new EndpointWarmerProperties.EndpointProperties();
+        endpoint.setHttpMethod(method);
+        endpoint.setUrl(url);
+        endpoint.setRequestBody(body);
+        endpoint.setMaxResponseTime(5000);
+        return endpoint;
+    }
+
+    @Configuration
+    @EnableWebMvc
+    static class WebConfig implements WebMvcConfigurer {
+
+        final AtomicInteger interceptorCalls = new AtomicInteger();
+
+        @Bean
+        TestController testController() {
+            return new TestController();
+        }
+
+        @Override
+        public void addInterceptors(InterceptorRegistry registry) {
+            registry.addInterceptor(new HandlerInterceptor() {
+                @Override
+                public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                    interceptorCalls.incrementAndGet();
+                    return true;
+                }
+            });
+        }
+    }
+
+    @RestController
+    static class TestController {
+
+        volatile String lastUser;
+        volatile String lastCreated;
+
+        @GetMapping("/users/{id}")
+        Map<String, Object> user(@PathVariable("id") long id, @RequestParam(name = "verbose", defaultValue = "false") boolean verbose) {
+            lastUser = id + ":" + verbose;
+            return Map.of("id", id);
+        }
+
+        @PostMapping("/users")
+        @ResponseStatus(HttpStatus.CREATED)
+        Map<String, Object> create(@RequestHeader("X-Tenant") String tenant, @RequestBody Map<String, Object> user) {
+            lastCreated = tenant + ":" + user.get("name");
+            return user;
+        }
+
+        @GetMapping("/boom")
+        String boom() {
+            throw new IllegalStateException("boom");
+        }
+    }
+}
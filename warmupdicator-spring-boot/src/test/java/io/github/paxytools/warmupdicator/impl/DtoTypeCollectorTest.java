@@ -0,0 +1,146 @@
+package io.github.paxytools.warmupdicator.impl;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DtoTypeCollectorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TypeFactory typeFactory = objectMapper.getTypeFactory();
+
+    @Test
+    void testCollectsContainerContentAndKeyTypes() {
+        DtoTypeCollector collector = new DtoTypeCollector(objectMapper);
+
+        collector.collect(ResolvableType.forClassWithGenerics(Map.class,
+                ResolvableType.forClass(String.class), ResolvableType.forClassWithGenerics(List.class, Item.class)));
+
+        Set<JavaType> types = collector.getTypes();
+        assertTrue(types.contains(typeFactory.constructMapType(Map.class,
+                typeFactory.constructType(String.class), typeFactory.constructCollectionType(List.class, Item.class))));
+        assertTrue(types.contains(typeFactory.constructCollectionType(List.class, Item.class)));
+        assertTrue(types.contains(typeFactory.constructType(Item.class)));
+        assertFalse(types.contains(typeFactory.constructType(String.class)), "JDK scalars are not collected");
+    }
+
+    @Test
+    void testCollectsArrayComponentsAndNestedProperties() {
+        DtoTypeCollector collector = new DtoTypeCollector(objectMapper);
+
+        collector.collect(ResolvableType.forClass(Order[].class));
+
+        Set<JavaType> types = collector.getTypes();
+        assertTrue(types.contains(typeFactory.constructType(Order.class)));
+        assertTrue(types.contains(typeFactory.constructType(Item.class)), "property types are followed");
+        assertTrue(types.contains(typeFactory.constructType(Status.class)), "enums are collected");
+    }
+
+    @Test
+    void testKeepsGenericBindings() {
+        DtoTypeCollector collector = new DtoTypeCollector(objectMapper);
+
+        collector.collect(ResolvableType.forClassWithGenerics(Page.class, Item.class));
+        collector.collect(ResolvableType.forClassWithGenerics(Page.class, Order.class));
+
+        Set<JavaType> types = collector.getTypes();
+        assertTrue(types.contains(typeFactory.constructParametricType(Page.class, Item.class)));
+        assertTrue(types.contains(typeFactory.constructParametricType(Page.class, Order.class)));
+        assertTrue(types.contains(typeFactory.constructCollectionType(List.class, Order.class)), "type variables are resolved");
+    }
+
+    @Test
+    void testCollectsPolymorphicSubtypes() {
+        DtoTypeCollector collector = new DtoTypeCollector(objectMapper);
+
+        collector.collect(ResolvableType.forClass(Shelter.class));
+
+        Set<JavaType> types = collector.getTypes();
+        assertTrue(types.contains(typeFactory.constructType(Animal.class)));
+        assertTrue(types.contains(typeFactory.constructType(Dog.class)));
+        assertTrue(types.contains(typeFactory.constructType(Cat.class)));
+        assertTrue(types.contains(typeFactory.constructType(Toy.class)), "subtype properties are followed");
+    }
+
+    @Test
+    void testVisitsCyclicTypesOnce() {
+        DtoTypeCollector collector = new DtoTypeCollector(objectMapper);
+
+        collector.collect(ResolvableType.forClass(TreeNode.class));
+
+        assertEquals(List.of(typeFactory.constructType(TreeNode.class), typeFactory.constructCollectionType(List.class, TreeNode.class)),
+                List.copyOf(collector.getTypes()));
+    }
+
+    @Test
+    void testResolvesTypeVariablesThroughOwner() {
+        DtoTypeCollector collector = new DtoTypeCollector(objectMapper);
+
+        collector.collect(ResolvableType.forClassWithGenerics(ResponseEntity.class, ResolvableType.forClassWithGenerics(Page.class, Item.class))
+                .as(HttpEntity.class).getGeneric(0));
+
+        assertTrue(collector.getTypes().contains(typeFactory.constructParametricType(Page.class, Item.class)));
+    }
+
+    @Test
+    void testConvertsBackToResolvableType() {
+        JavaType page = typeFactory.constructParametricType(Page.class, Item.class);
+        JavaType array = typeFactory.constructArrayType(Item.class);
+
+        assertEquals(ResolvableType.forClassWithGenerics(Page.class, Item.class), DtoTypeCollector.toResolvableType(page));
+        assertEquals(Item[].class, DtoTypeCollector.toResolvableType(array).resolve());
+    }
+
+    enum Status { NEW, PAID }
+
+    public record Item(String sku, int quantity) {
+    }
+
+    public static class Order {
+        public Status status;
+        public List<Item> items;
+    }
+
+    public static class Page<T> {
+        public List<T> content;
+        public int number;
+    }
+
+    public static class Shelter {
+        public List<Animal> animals;
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NAME)
+    @JsonSubTypes({@JsonSubTypes.Type(value = Dog.class, name = "dog"), @JsonSubTypes.Type(value = Cat.class, name = "cat")})
+    public abstract static class Animal {
+        public String name;
+    }
+
+    public static class Dog extends Animal {
+        public Toy toy;
+    }
+
+    public static class Cat extends Animal {
+        public int lives;
+    }
+
+    public static class Toy {
+        public String label;
+    }
+
+    public static class TreeNode {
+        public List<TreeNode> children;
+    }
+}
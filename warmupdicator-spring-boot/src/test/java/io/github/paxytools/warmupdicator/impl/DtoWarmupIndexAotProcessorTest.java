@@ -0,0 +1,122 @@
+package io.github.paxytools.warmupdicator.impl;
+
+import io.github.paxytools.warmupdicator.config.DtoWarmerProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.generate.ClassNameGenerator;
+import org.springframework.aot.generate.DefaultGenerationContext;
+import org.springframework.aot.generate.GeneratedFiles;
+import org.springframework.aot.generate.InMemoryGeneratedFiles;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.http.ResponseEntity;
+import org.springframework.javapoet.ClassName;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DtoWarmupIndexAotProcessorTest {
+
+    private DefaultListableBeanFactory beanFactory;
+    private StandardEnvironment environment;
+
+    @BeforeEach
+    void setUp() {
+        beanFactory = new DefaultListableBeanFactory();
+        environment = new StandardEnvironment();
+        beanFactory.registerSingleton(ConfigurableApplicationContext.ENVIRONMENT_BEAN_NAME, environment);
+        beanFactory.registerBeanDefinition("orderController", new RootBeanDefinition(OrderController.class));
+        beanFactory.registerBeanDefinition("dtoWarmupIndicator", new RootBeanDefinition(DtoWarmupIndicator.class));
+    }
+
+    @Test
+    void testWritesFilteredTypesToIndex() throws Exception {
+        environment.getPropertySources().addFirst(new MapPropertySource("test",
+                Map.of("warmupdicator.dto-warmer.exclude-patterns", "*Audit")));
+
+        DefaultGenerationContext generationContext = applyContribution();
+
+        String index = ((InMemoryGeneratedFiles) generationContext.getGeneratedFiles())
+                .getGeneratedFileContent(GeneratedFiles.Kind.RESOURCE, DtoWarmupIndicator.INDEX_LOCATION);
+        assertNotNull(index);
+        List<String> types = index.lines().filter(line -> !line.startsWith("#")).toList();
+        assertEquals(List.of(
+                Item.class.getName(),
+                Order.class.getName(),
+                "java.util.List<" + Item.class.getName() + ">"), types.stream().sorted().toList());
+
+        assertTrue(RuntimeHintsPredicates.resource().forResource(DtoWarmupIndicator.INDEX_LOCATION)
+                .test(generationContext.getRuntimeHints()));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(Order.class).test(generationContext.getRuntimeHints()));
+    }
+
+    @Test
+    void testSkipsWhenWarmerIsNotRegistered() {
+        beanFactory.removeBeanDefinition("dtoWarmupIndicator");
+
+        assertNull(new DtoWarmupIndexAotProcessor().processAheadOfTime(beanFactory));
+    }
+
+    @Test
+    void testSkipsWhenIndexIsDisabled() {
+        environment.getPropertySources().addFirst(new MapPropertySource("test",
+                Map.of("warmupdicator.dto-warmer.use-index", "false")));
+
+        assertNull(new DtoWarmupIndexAotProcessor().processAheadOfTime(beanFactory));
+    }
+
+    @Test
+    void testPropertiesDefaultToUsingIndex() {
+        assertTrue(new DtoWarmerProperties().isUseIndex());
+    }
+
+    private DefaultGenerationContext applyContribution() {
+        BeanFactoryInitializationAotContribution contribution = new DtoWarmupIndexAotProcessor().processAheadOfTime(beanFactory);
+        assertNotNull(contribution);
+        DefaultGenerationContext generationContext = new DefaultGenerationContext(
+                new ClassNameGenerator(ClassName.get("com.example", "TestApplication")), new InMemoryGeneratedFiles());
+        contribution.applyTo(generationContext, null);
+        return generationContext;
+    }
+
+    @RestController
+    static class OrderController {
+        @GetMapping("/orders")
+        public ResponseEntity<List<Item>> list() {
+            return ResponseEntity.ok(List.of());
+        }
+
+        @PostMapping("/orders")
+        public Order create(@RequestBody Order order) {
+            return order;
+        }
+
+        @PostMapping("/audit")
+        public void audit(@RequestBody OrderAudit audit) {
+        }
+    }
+
+    public static class Order {
+        public String id;
+        public Item item;
+    }
+
+    public static class Item {
+        public String sku;
+    }
+
+    public static class OrderAudit {
+        public String user;
+    }
+}
@@ -0,0 +1,252 @@
+package io.github.paxytools.warmupdicator.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.github.paxytools.warmupdicator.api.FailureType;
+import io.github.paxytools.warmupdicator.api.WarmupResult;
+import io.github.paxytools.warmupdicator.config.DtoWarmerProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DtoWarmupIndicatorTest {
+
+    private DtoWarmerProperties properties;
+    private RequestMappingHandlerMapping handlerMapping;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        properties = new DtoWarmerProperties();
+        properties.setConcurrency(2);
+        properties.setClassTimeout(Duration.ofMillis(200));
+
+        Map<RequestMappingInfo, HandlerMethod> handlerMethods = new LinkedHashMap<>();
+        TestController controller = new TestController();
+        for (Method method : TestController.class.getDeclaredMethods()) {
+            handlerMethods.put(RequestMappingInfo.paths("/" + method.getName()).build(), new HandlerMethod(controller, method));
+        }
+        handlerMapping = mock(RequestMappingHandlerMapping.class);
+        when(handlerMapping.getHandlerMethods()).thenReturn(handlerMethods);
+    }
+
+    @Test
+    void testReportsOutcomesAndSlowestTypes() {
+        WarmupResult result = new DtoWarmupIndicator(properties, new ObjectMapper(), handlerMapping).warmUp();
+
+        assertTrue(result.isSuccess());
+        Map<String, Object> details = result.getDetails();
+        assertEquals(4, details.get("types"));
+        assertEquals(2, details.get("warmed"));
+        assertEquals(1, details.get("failed"));
+        assertEquals(1, details.get("timedOut"));
+        assertEquals(4L, result.getStatistics().getCount());
+        assertEquals(2L, result.getStatistics().getErrorCount());
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> slowest = (Map<String, Object>) details.get("slowest");
+        assertEquals(SlowDto.class.getName(), slowest.keySet().iterator().next());
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> failures = (Map<String, Object>) details.get("failures");
+        assertEquals(List.of(FailingDto.class.getName(), SlowDto.class.getName()), failures.keySet().stream().sorted().toList());
+    }
+
+    @Test
+    void testFailOnErrorFailsWithoutRetry() {
+        properties.setFailOnError(true);
+
+        WarmupResult result = new DtoWarmupIndicator(properties, new ObjectMapper(), handlerMapping).warmUp();
+
+        assertFalse(result.isSuccess());
+        assertEquals("DTO warmup incomplete: 2 warmed, 0 skipped, 1 failed, 1 timed out", result.getMessage());
+        assertEquals(FailureType.CLIENT_ERROR, result.getFailureType());
+        assertEquals(1, result.getDetails().get("failed"));
+    }
+
+    @Test
+    void testSlowTypeDoesNotHoldUpTheWarmer() {
+        long start = System.nanoTime();
+        new DtoWarmupIndicator(properties, new ObjectMapper(), handlerMapping).warmUp();
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < SlowSerializer.DELAY_MS);
+    }
+
+    @Test
+    void testLimitsReportedTypes() {
+        properties.setReportSize(1);
+
+        WarmupResult result = new DtoWarmupIndicator(properties, new ObjectMapper(), handlerMapping).warmUp();
+
+        assertEquals(1, ((Map<?, ?>) result.getDetails().get("slowest")).size());
+        assertEquals(1, ((Map<?, ?>) result.getDetails().get("failures")).size());
+    }
+
+    @Test
+    void testReadsTypesFromIndexInsteadOfDiscovering(@TempDir Path classpath) throws Exception {
+        // The first use of Jackson in a cold JVM can exceed the class timeout of the other tests
+        properties.setClassTimeout(Duration.ZERO);
+        Path index = classpath.resolve(DtoWarmupIndicator.INDEX_LOCATION);
+        Files.createDirectories(index.getParent());
+        Files.writeString(index, "# generated\n" + Order.class.getName() + "\ncom.example.Removed\n");
+
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{classpath.toUri().toURL()}, original)) {
+            thread.setContextClassLoader(classLoader);
+            WarmupResult result = new DtoWarmupIndicator(properties, new ObjectMapper(), handlerMapping).warmUp();
+
+            assertEquals(1, result.getDetails().get("types"));
+            assertEquals(1, result.getDetails().get("warmed"));
+
+            properties.setUseIndex(false);
+            result = new DtoWarmupIndicator(properties, new ObjectMapper(), handlerMapping).warmUp();
+            assertEquals(4, result.getDetails().get("types"));
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+    }
+
+    @Test
+    void testUnwrapsReactiveTypesAndAddsConfiguredTypes() throws Exception {
+        ReactiveController controller = new ReactiveController();
+        List<HandlerMethod> handlerMethods = List.of(
+                new HandlerMethod(controller, ReactiveController.class.getMethod("get")),
+                new HandlerMethod(controller, ReactiveController.class.getMethod("list")),
+                new HandlerMethod(controller, ReactiveController.class.getMethod("delete")));
+        properties.setTypes(List.of("java.util.Map<java.lang.String," + Tag.class.getName() + ">", "com.example.Missing"));
+
+        WarmupResult result = new DtoWarmupIndicator(properties, new ObjectMapper(), () -> handlerMethods).warmUp();
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> slowest = (Map<String, Object>) result.getDetails().get("slowest");
+        assertEquals(List.of(Item.class.getName(), Order.class.getName(), Tag.class.getName(),
+                "java.util.Map<java.lang.String," + Tag.class.getName() + ">"), slowest.keySet().stream().sorted().toList());
+        assertEquals(4, result.getDetails().get("warmed"));
+        assertTrue(result.isSuccess());
+    }
+
+    @Test
+    void testErrorDoesNotHoldUpTheWarmerWithoutTimeout() throws Exception {
+        properties.setClassTimeout(Duration.ZERO);
+        ErrorController controller = new ErrorController();
+        List<HandlerMethod> handlerMethods = List.of(new HandlerMethod(controller, ErrorController.class.getMethod("get")));
+
+        WarmupResult result = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> new DtoWarmupIndicator(properties, new ObjectMapper(), () -> handlerMethods).warmUp());
+
+        assertEquals(1, result.getDetails().get("failed"));
+        assertEquals(0, result.getDetails().get("timedOut"));
+        @SuppressWarnings("unchecked")
+        Map<String, Object> failures = (Map<String, Object>) result.getDetails().get("failures");
+        assertTrue(String.valueOf(failures.get(ErrorDto.class.getName())).contains("StackOverflowError"));
+    }
+
+    static class TestController {
+        public ResponseEntity<Order> create(@RequestBody FailingDto request) {
+            return ResponseEntity.ok(new Order());
+        }
+
+        public SlowDto slow() {
+            return new SlowDto();
+        }
+    }
+
+    static class ErrorController {
+        public ErrorDto get() {
+            return new ErrorDto();
+        }
+    }
+
+    static class ReactiveController {
+        public Mono<ResponseEntity<Order>> get() {
+            return Mono.empty();
+        }
+
+        public Flux<Item> list() {
+            return Flux.empty();
+        }
+
+        public Mono<Void> delete() {
+            return Mono.empty();
+        }
+    }
+
+    public static class Tag {
+        public String label;
+    }
+
+    public static class Order {
+        public String id;
+        public Item item;
+    }
+
+    public static class Item {
+        public String sku;
+    }
+
+    public static class FailingDto {
+        public String getValue() {
+            throw new IllegalStateException("broken getter");
+        }
+
+        public void setValue(String value) {
+        }
+    }
+
+    @JsonSerialize(using = SlowSerializer.class)
+    public static class SlowDto {
+        public String name;
+    }
+
+    @JsonSerialize(using = ErrorSerializer.class)
+    public static class ErrorDto {
+        public String name;
+    }
+
+    public static class ErrorSerializer extends JsonSerializer<ErrorDto> {
+        @Override
+        public void serialize(ErrorDto value, JsonGenerator generator, SerializerProvider serializers) {
+            throw new StackOverflowError();
+        }
+    }
+
+    public static class SlowSerializer extends JsonSerializer<SlowDto> {
+        static final long DELAY_MS = 3000;
+
+        @Override
+        public void serialize(SlowDto value, JsonGenerator generator, SerializerProvider serializers) throws IOException {
+            try {
+                Thread.sleep(DELAY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            generator.writeStartObject();
+            generator.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package io.github.paxytools.warmupdicator.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.paxytools.warmupdicator.api.WarmupResult;
+import io.github.paxytools.warmupdicator.config.EndpointWarmerProperties.EndpointProperties;
+import io.github.paxytools.warmupdicator.config.InProcessWarmerProperties.DiscoveryProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mock.web.MockServletConfig;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EndpointDiscoveryTest {
+
+    private AnnotationConfigWebApplicationContext context;
+    private MockServletContext servletContext;
+    private DiscoveryProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        servletContext = new MockServletContext();
+        context = new AnnotationConfigWebApplicationContext();
+        context.setServletContext(servletContext);
+        context.register(WebConfig.class);
+        context.refresh();
+        properties = new DiscoveryProperties();
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void testGeneratesSafeEndpointsWithSampleValues() {
+        Map<String, EndpointProperties> endpoints = discover();
+
+        assertEquals(List.of("GET /admin/stats", "GET /files/{name:[a-z]+}", "GET /orders/{orderId}", "GET /users/{id}", "GET /versioned"),
+                endpoints.keySet().stream().sorted().toList());
+        assertEquals("/users/1?page=1", endpoints.get("GET /users/{id}").getUrl());
+        assertEquals("/orders/00000000-0000-0000-0000-000000000001", endpoints.get("GET /orders/{orderId}").getUrl());
+        assertEquals("/files/warmup", endpoints.get("GET /files/{name:[a-z]+}").getUrl());
+        assertEquals("/versioned?version=2", endpoints.get("GET /versioned").getUrl());
+        assertEquals(Map.of("X-Tenant", "warmup"), endpoints.get("GET /users/{id}").getHeaders());
+        assertTrue(endpoints.get("GET /users/{id}").isIgnoreFailure());
+    }
+
+    @Test
+    void testIncludeExcludeAndConfiguredValues() {
+        properties.setIncludePatterns(List.of("/users/**", "/admin/**"));
+        properties.setExcludePatterns(List.of("/admin/**"));
+        properties.setPathVariables(Map.of("id", "42"));
+        properties.setRequestParams(Map.of("page", "3", "X-Tenant", "acme"));
+
+        Map<String, EndpointProperties> endpoints = discover();
+
+        assertEquals(List.of("GET /users/{id}"), List.copyOf(endpoints.keySet()));
+        assertEquals("/users/42?page=3", endpoints.get("GET /users/{id}").getUrl());
+        assertEquals(Map.of("X-Tenant", "acme"), endpoints.get("GET /users/{id}").getHeaders());
+    }
+
+    @Test
+    void testUnsafeMethodsGetSyntheticBody() throws Exception {
+        properties.setMethods(List.of("POST"));
+
+        Map<String, EndpointProperties> endpoints = discover();
+
+        EndpointProperties create = endpoints.get("POST /users");
+        assertNotNull(create);
+        assertEquals("POST", create.getHttpMethod());
+        Map<?, ?> body = new ObjectMapper().readValue(create.getRequestBody(), Map.class);
+        assertTrue(body.containsKey("name"));
+    }
+
+    @Test
+    void testDiscoveredEndpointsDispatchInProcess() throws Exception {
+        DispatcherServlet dispatcherServlet = new DispatcherServlet(context);
+        dispatcherServlet.init(new MockServletConfig(servletContext, DispatcherServletWarmupdicator.SERVLET_NAME));
+
+        for (EndpointProperties endpoint : discover().values()) {
+            WarmupResult result = new DispatcherServletWarmupdicator(endpoint, dispatcherServlet, servletContext).warmUp();
+            assertTrue(result.isSuccess(), endpoint.getName() + ": " + result.getMessage());
+        }
+        assertEquals(5, context.getBean(TestController.class).calls);
+    }
+
+    private Map<String, EndpointProperties> discover() {
+        RequestMappingHandlerMapping handlerMapping = context.getBean("requestMappingHandlerMapping", RequestMappingHandlerMapping.class);
+        return new EndpointDiscovery(properties, handlerMapping, new ObjectMapper()).discover().stream()
+                .collect(Collectors.toMap(EndpointProperties::getName, Function.identity()));
+    }
+
+    @Configuration
+    @EnableWebMvc
+    static class WebConfig {
+
+        @Bean
+        TestController testController() {
+            return new TestController();
+        }
+    }
+
+    @RestController
+    static class TestController {
+
+        volatile int calls;
+
+        @GetMapping("/users/{id}")
+        String user(@PathVariable("id") long id, @RequestParam("page") int page,
+                    @RequestParam(name = "sort", required = false) String sort, @RequestHeader("X-Tenant") String tenant) {
+            calls++;
+            return "user";
+        }
+
+        @GetMapping("/orders/{orderId}")
+        String order(@PathVariable("orderId") UUID orderId) {
+            calls++;
+            return "order";
+        }
+
+        @GetMapping("/files/{name:[a-z]+}")
+        String file(@PathVariable("name") String name) {
+            calls++;
+            return name;
+        }
+
+        @GetMapping(path = "/versioned", params = "version=2")
+        String versioned() {
+            calls++;
+            return "v2";
+        }
+
+        @GetMapping("/admin/stats")
+        String stats() {
+            calls++;
+            return "stats";
+        }
+
+        @GetMapping("/events")
+        SseEmitter events() {
+            return new SseEmitter();
+        }
+
+        @PostMapping("/users")
+        String create(@RequestBody NewUser user) {
+            return "created";
+        }
+    }
+
+    public static class NewUser {
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package io.github.paxytools.warmupdicator.impl;
 
+import io.github.paxytools.warmupdicator.api.FailureType;
 import io.github.paxytools.warmupdicator.api.WarmupResult;
 import io.github.paxytools.warmupdicator.config.EndpointWarmerProperties;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,13 +9,24 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.io.IOException;
+import java.net.ConnectException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class EndpointWarmupdicatorTest {
@@ -88,6 +100,208 @@ class EndpointWarmupdicatorTest {
         assertTrue(result.isSuccess()); // Should succeed despite slowness
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void testIterationsAggregateStatistics() throws Exception {
+        endpoint.setIterations(20);
+        endpoint.setConcurrency(4);
+        HttpResponse<String> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(200);
+        when(httpClient.send(any(HttpRequest.class), any())).thenAnswer(invocation -> response);
+
+        WarmupResult result = endpointWarmupdicator.warmUp();
+
+        assertTrue(result.isSuccess());
+        assertNotNull(result.getStatistics());
+        assertEquals(20, result.getStatistics().getCount());
+        assertEquals(0, result.getStatistics().getErrorCount());
+        assertTrue(result.getStatistics().getMinTimeMs() <= result.getStatistics().getMeanTimeMs());
+        assertTrue(result.getStatistics().getMeanTimeMs() <= result.getStatistics().getMaxTimeMs());
+        verify(httpClient, times(20)).send(any(HttpRequest.class), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testIterationsWithErrors() throws Exception {
+        endpoint.setIterations(3);
+        HttpResponse<String> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(200, 500, 200);
+        when(httpClient.send(any(HttpRequest.class), any())).thenAnswer(invocation -> response);
+
+        WarmupResult result = endpointWarmupdicator.warmUp();
+
+        assertFalse(result.isSuccess());
+        assertTrue(result.getMessage().contains("1 of 3 calls failed"));
+        assertEquals(1, result.getStatistics().getErrorCount());
+        assertEquals(1L, result.getDetails().get("errors"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testIterationsTolerateErrorsBelowMaxErrorRate() throws Exception {
+        endpoint.setIterations(100);
+        endpoint.setMaxErrorRate(0.02);
+        HttpResponse<String> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(500, 200);
+        when(httpClient.send(any(HttpRequest.class), any())).thenAnswer(invocation -> response);
+
+        WarmupResult result = endpointWarmupdicator.warmUp();
+
+        assertTrue(result.isSuccess());
+        assertEquals(100L, result.getDetails().get("calls"));
+        assertEquals(1L, result.getDetails().get("errors"));
+
+        when(response.statusCode()).thenReturn(500, 500, 500, 200);
+        assertFalse(endpointWarmupdicator.warmUp().isSuccess());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testWarmupDuration() throws Exception {
+        endpoint.setWarmupDuration(Duration.ofMillis(50));
+        HttpResponse<String> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(200);
+        when(httpClient.send(any(HttpRequest.class), any())).thenAnswer(invocation -> response);
+
+        WarmupResult result = endpointWarmupdicator.warmUp();
+
+        assertTrue(result.isSuccess());
+        assertTrue(result.getStatistics().getCount() > 1);
+        assertTrue(result.getResponseTimeMs() >= 50);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testAdaptiveModeReportsConvergence() throws Exception {
+        endpoint.setAdaptive(true);
+        endpoint.setConvergenceWindow(10);
+        endpoint.setConvergenceTolerance(100);
+        HttpResponse<String> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(200);
+        when(httpClient.send(any(HttpRequest.class), any())).thenAnswer(invocation -> response);
+
+        WarmupResult result = endpointWarmupdicator.warmUp();
+
+        assertTrue(result.isSuccess());
+        assertEquals(20L, result.getStatistics().getConvergedAfter());
+        assertEquals(20, result.getStatistics().getCount());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testAdaptiveModeStopsAtMaxIterations() throws Exception {
+        endpoint.setAdaptive(true);
+        endpoint.setConvergenceWindow(10);
+        endpoint.setConvergenceTolerance(0);
+        endpoint.setMaxIterations(15);
+        HttpResponse<String> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(200);
+        when(httpClient.send(any(HttpRequest.class), any())).thenAnswer(invocation -> response);
+
+        WarmupResult result = endpointWarmupdicator.warmUp();
+
+        assertTrue(result.isSuccess());
+        assertNull(result.getStatistics().getConvergedAfter());
+        assertEquals(15, result.getStatistics().getCount());
+    }
+
+    @Test
+    void testInvalidConvergenceWindowFailsTheWarmer() throws Exception {
+        endpoint.setAdaptive(true);
+        endpoint.setConvergenceWindow(1);
+
+        WarmupResult result = new EndpointWarmupdicator(endpoint, httpClient).warmUp();
+
+        assertFalse(result.isSuccess());
+        assertTrue(result.getMessage().contains("Convergence window"));
+        assertEquals(FailureType.CLIENT_ERROR, result.getFailureType());
+        verify(httpClient, never()).send(any(HttpRequest.class), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testClientErrorIsClassifiedAsPermanent() throws Exception {
+        HttpResponse<String> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(404);
+        when(httpClient.send(any(HttpRequest.class), any())).thenAnswer(invocation -> response);
+
+        WarmupResult result = endpointWarmupdicator.warmUp();
+
+        assertFalse(result.isSuccess());
+        assertEquals(FailureType.CLIENT_ERROR, result.getFailureType());
+    }
+
+    @Test
+    void testConnectionRefusedAndTimeoutClassification() throws Exception {
+        when(httpClient.send(any(HttpRequest.class), any())).thenThrow(new ConnectException("Connection refused"));
+        assertEquals(FailureType.CONNECTION_REFUSED, endpointWarmupdicator.warmUp().getFailureType());
+
+        when(httpClient.send(any(HttpRequest.class), any())).thenThrow(new HttpTimeoutException("request timed out"));
+        assertEquals(FailureType.TIMEOUT, endpointWarmupdicator.warmUp().getFailureType());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testAsyncModePipelinesCallsWithReusedRequest() throws Exception {
+        endpoint.setIterations(50);
+        endpoint.setConcurrency(8);
+        endpoint.setAsync(true);
+        HttpResponse<Void> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(200);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        Set<HttpRequest> requests = ConcurrentHashMap.newKeySet();
+        when(httpClient.sendAsync(any(HttpRequest.class), any())).thenAnswer(invocation -> {
+            requests.add(invocation.getArgument(0));
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return CompletableFuture.supplyAsync(() -> {
+                inFlight.decrementAndGet();
+                return response;
+            }, CompletableFuture.delayedExecutor(2, TimeUnit.MILLISECONDS));
+        });
+
+        WarmupResult result = endpointWarmupdicator.warmUp();
+
+        assertTrue(result.isSuccess());
+        assertEquals(50, result.getStatistics().getCount());
+        assertEquals(0, result.getStatistics().getErrorCount());
+        assertEquals(1, requests.size());
+        assertTrue(maxInFlight.get() <= 8);
+        verify(httpClient, times(50)).sendAsync(any(HttpRequest.class), any());
+        verify(httpClient, never()).send(any(HttpRequest.class), any());
+    }
+
+    @Test
+    void testAsyncModeClassifiesFailures() {
+        endpoint.setIterations(5);
+        endpoint.setConcurrency(2);
+        endpoint.setAsync(true);
+        when(httpClient.sendAsync(any(HttpRequest.class), any()))
+                .thenAnswer(invocation -> CompletableFuture.failedFuture(new ConnectException("Connection refused")));
+
+        WarmupResult result = endpointWarmupdicator.warmUp();
+
+        assertFalse(result.isSuccess());
+        assertEquals(5, result.getStatistics().getErrorCount());
+        assertEquals(FailureType.CONNECTION_REFUSED, result.getFailureType());
+        assertTrue(result.getMessage().contains("Connection refused"));
+    }
+
+    @Test
+    void testAsyncModeRecordsCallsThatFailToStart() {
+        endpoint.setIterations(5);
+        endpoint.setConcurrency(2);
+        endpoint.setAsync(true);
+        when(httpClient.sendAsync(any(HttpRequest.class), any())).thenThrow(new IllegalArgumentException("Rejected"));
+
+        WarmupResult result = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> endpointWarmupdicator.warmUp());
+
+        assertFalse(result.isSuccess());
+        assertEquals(5, result.getStatistics().getCount());
+        assertEquals(5, result.getStatistics().getErrorCount());
+        assertTrue(result.getMessage().contains("Rejected"));
+    }
+
     @Test
     void testGetId() {
         String id = endpointWarmupdicator.getId();
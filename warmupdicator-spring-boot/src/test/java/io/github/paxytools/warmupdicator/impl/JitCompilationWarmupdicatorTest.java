@@ -0,0 +1,74 @@
+package io.github.paxytools.warmupdicator.impl;
+
+import io.github.paxytools.warmupdicator.api.WarmupResult;
+import io.github.paxytools.warmupdicator.config.JitWarmerProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.CompilationMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryUsage;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JitCompilationWarmupdicatorTest {
+
+    private JitWarmerProperties properties;
+    private CompilationMXBean compilationBean;
+    private MemoryPoolMXBean codeCachePool;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JitWarmerProperties();
+        properties.setQuietPeriod(Duration.ofMillis(30));
+        properties.setPollInterval(Duration.ofMillis(5));
+        properties.setMaxWait(Duration.ofMillis(300));
+
+        compilationBean = mock(CompilationMXBean.class);
+        when(compilationBean.isCompilationTimeMonitoringSupported()).thenReturn(true);
+
+        codeCachePool = mock(MemoryPoolMXBean.class);
+        when(codeCachePool.getName()).thenReturn("CodeHeap 'profiled nmethods'");
+        when(codeCachePool.getUsage()).thenReturn(new MemoryUsage(0, 1024 * 1024, 2048 * 1024, 4096 * 1024));
+    }
+
+    @Test
+    void testSucceedsOnceCompilationSettles() {
+        when(compilationBean.getTotalCompilationTime()).thenReturn(100L, 150L, 200L, 200L);
+        JitCompilationWarmupdicator warmer = new JitCompilationWarmupdicator(properties, compilationBean, List.of(codeCachePool));
+
+        WarmupResult result = warmer.warmUp();
+
+        assertTrue(result.isSuccess());
+        assertEquals(200L, result.getDetails().get("compilationTimeMs"));
+        assertEquals(false, result.getDetails().get("timedOut"));
+        assertEquals("1024KB/4096KB (25.0%)", result.getDetails().get("codeCache"));
+        assertEquals("1024KB/4096KB (25.0%)", result.getDetails().get("CodeHeap 'profiled nmethods'"));
+    }
+
+    @Test
+    void testGivesUpWaitingWhileJitKeepsCompiling() {
+        long[] compilationTime = {0};
+        when(compilationBean.getTotalCompilationTime()).thenAnswer(invocation -> compilationTime[0]++);
+        JitCompilationWarmupdicator warmer = new JitCompilationWarmupdicator(properties, compilationBean, List.of(codeCachePool));
+
+        WarmupResult result = warmer.warmUp();
+
+        assertTrue(result.isSuccess());
+        assertEquals(true, result.getDetails().get("timedOut"));
+        assertTrue(result.getResponseTimeMs() >= 300);
+    }
+
+    @Test
+    void testSkipsWhenMonitoringUnsupported() {
+        when(compilationBean.isCompilationTimeMonitoringSupported()).thenReturn(false);
+        JitCompilationWarmupdicator warmer = new JitCompilationWarmupdicator(properties, compilationBean, List.of());
+
+        assertTrue(warmer.warmUp().isSuccess());
+        assertTrue(warmer.isDeferred());
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.paxytools.warmupdicator.impl;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyConvergenceDetectorTest {
+
+    @Test
+    void testConvergesOnStableLatencies() {
+        LatencyConvergenceDetector detector = new LatencyConvergenceDetector(10, 0.1);
+
+        for (int i = 0; i < 19; i++) {
+            assertFalse(detector.record(1_000_000));
+        }
+        assertTrue(detector.record(1_000_000));
+        assertEquals(20L, detector.getConvergedAfter());
+    }
+
+    @Test
+    void testDoesNotConvergeWhileLatenciesDrop() {
+        LatencyConvergenceDetector detector = new LatencyConvergenceDetector(10, 0.1);
+
+        // Latency halves every window, as it would while the JIT is still compiling
+        long latency = 64_000_000;
+        for (int window = 0; window < 5; window++) {
+            for (int i = 0; i < 10; i++) {
+                detector.record(latency);
+            }
+            latency /= 2;
+        }
+
+        assertFalse(detector.isConverged());
+        assertNull(detector.getConvergedAfter());
+    }
+
+    @Test
+    void testConvergesOnceLatenciesSettle() {
+        LatencyConvergenceDetector detector = new LatencyConvergenceDetector(10, 0.1);
+
+        for (int i = 0; i < 10; i++) {
+            detector.record(50_000_000);
+        }
+        for (int i = 0; i < 10; i++) {
+            detector.record(5_000_000);
+        }
+        assertFalse(detector.isConverged());
+
+        for (int i = 0; i < 10; i++) {
+            detector.record(5_200_000);
+        }
+        assertTrue(detector.isConverged());
+        assertEquals(30L, detector.getConvergedAfter());
+    }
+
+    @Test
+    void testRejectsTooSmallWindow() {
+        assertThrows(IllegalArgumentException.class, () -> new LatencyConvergenceDetector(1, 0.1));
+    }
+}
@@ -0,0 +1,196 @@
+package io.github.paxytools.warmupdicator.impl;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import io.github.paxytools.warmupdicator.api.WarmupResult;
+import io.github.paxytools.warmupdicator.config.ConverterWarmerProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonInputMessage;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MessageConverterWarmupdicatorTest {
+
+    private AnnotationConfigWebApplicationContext context;
+    private RecordingConverter converter;
+    private ConverterWarmerProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        context = new AnnotationConfigWebApplicationContext();
+        context.setServletContext(new MockServletContext());
+        context.register(WebConfig.class);
+        context.refresh();
+        converter = context.getBean(WebConfig.class).converter;
+        properties = new ConverterWarmerProperties();
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void testRoundTripsExactGenericTypesThroughSelectedConverter() {
+        WarmupResult result = warmer().warmUp();
+
+        assertTrue(result.isSuccess(), result.getMessage());
+        assertEquals(0, result.getDetails().get("failed"));
+        ResolvableType orders = ResolvableType.forClassWithGenerics(List.class, Order.class);
+        assertTrue(converter.written.stream().anyMatch(type -> ResolvableType.forType(type).getType().toString().equals(orders.getType().toString())),
+                "List<Order> is written with its element type: " + converter.written);
+        assertTrue(converter.read.contains(Order.class), "request body is read back: " + converter.read);
+    }
+
+    @Test
+    void testWritesAndReadsWithJsonView() {
+        warmer().warmUp();
+
+        assertEquals(List.of(Summary.class), converter.serializationViews);
+        assertEquals(List.of(Summary.class), converter.deserializationViews);
+        assertTrue(converter.viewOutputs.stream().noneMatch(json -> json.contains("secret")), converter.viewOutputs.toString());
+    }
+
+    @Test
+    void testWarmsEveryMediaTypeWithoutProducesCondition() {
+        WarmupResult result = warmer().warmUp();
+
+        @SuppressWarnings("unchecked")
+        Map<String, Integer> converters = (Map<String, Integer>) result.getDetails().get("converters");
+        assertTrue(converters.containsKey("StringHttpMessageConverter"), converters.toString());
+        assertTrue(converters.containsKey("RecordingConverter"), converters.toString());
+    }
+
+    @Test
+    void testExcludedTypesAreSkipped() {
+        properties.setExcludePatterns(List.of("Order"));
+
+        warmer().warmUp();
+
+        assertFalse(converter.read.contains(Order.class), converter.read.toString());
+        assertFalse(converter.written.contains(Order.class), converter.written.toString());
+    }
+
+    private MessageConverterWarmupdicator warmer() {
+        return new MessageConverterWarmupdicator(properties,
+                context.getBean("requestMappingHandlerMapping", RequestMappingHandlerMapping.class),
+                context.getBean(RequestMappingHandlerAdapter.class).getMessageConverters());
+    }
+
+    @Configuration
+    @EnableWebMvc
+    static class WebConfig implements WebMvcConfigurer {
+        final RecordingConverter converter = new RecordingConverter();
+
+        @Bean
+        TestController testController() {
+            return new TestController();
+        }
+
+        @Override
+        public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+            converters.add(0, converter);
+        }
+    }
+
+    /**
+     * Records what the warmer converts, the first JSON converter in the chain.
+     */
+    static class RecordingConverter extends MappingJackson2HttpMessageConverter {
+        final List<Type> written = new CopyOnWriteArrayList<>();
+        final List<Type> read = new CopyOnWriteArrayList<>();
+        final List<Class<?>> serializationViews = new CopyOnWriteArrayList<>();
+        final List<Class<?>> deserializationViews = new CopyOnWriteArrayList<>();
+        final List<String> viewOutputs = new CopyOnWriteArrayList<>();
+
+        @Override
+        protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+            written.add(type);
+            if (object instanceof MappingJacksonValue value && value.getSerializationView() != null) {
+                serializationViews.add(value.getSerializationView());
+                super.writeInternal(object, type, outputMessage);
+                viewOutputs.add(outputMessage.getBody().toString());
+                return;
+            }
+            super.writeInternal(object, type, outputMessage);
+        }
+
+        @Override
+        public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+            read.add(type);
+            if (inputMessage instanceof MappingJacksonInputMessage viewMessage) {
+                deserializationViews.add(viewMessage.getDeserializationView());
+            }
+            return super.read(type, contextClass, inputMessage);
+        }
+
+        @Override
+        public List<MediaType> getSupportedMediaTypes(Class<?> clazz) {
+            return List.of(MediaType.APPLICATION_JSON);
+        }
+    }
+
+    @RestController
+    static class TestController {
+        @GetMapping(value = "/orders", produces = "application/json")
+        public ResponseEntity<List<Order>> list() {
+            return ResponseEntity.ok(List.of());
+        }
+
+        @PostMapping(value = "/orders", consumes = "application/json")
+        public void create(@RequestBody Order order) {
+        }
+
+        @JsonView(Summary.class)
+        @GetMapping("/orders/summary")
+        public Order summary() {
+            return new Order();
+        }
+
+        @PostMapping("/orders/summary")
+        public void update(@RequestBody @JsonView(Summary.class) Order order) {
+        }
+
+        @GetMapping("/status")
+        public String status() {
+            return "ok";
+        }
+    }
+
+    interface Summary {
+    }
+
+    public static class Order {
+        @JsonView(Summary.class)
+        public String id;
+        public String secret;
+    }
+}
@@ -0,0 +1,148 @@
+package io.github.paxytools.warmupdicator.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.paxytools.warmupdicator.api.FailureType;
+import io.github.paxytools.warmupdicator.api.WarmupResult;
+import io.github.paxytools.warmupdicator.config.ReplayWarmerProperties;
+import io.github.paxytools.warmupdicator.recording.RecordingReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReplayWarmupdicatorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private HttpClient httpClient;
+    private ReplayWarmerProperties properties;
+    private ReplayWarmupdicator replayWarmupdicator;
+    private final List<HttpRequest> sent = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        httpClient = mock(HttpClient.class);
+        properties = new ReplayWarmerProperties();
+        properties.setFile(tempDir.resolve("requests.jsonl").toString());
+        replayWarmupdicator = new ReplayWarmupdicator(properties, httpClient, new RecordingReader(new ObjectMapper()), () -> "http://localhost:8080/");
+    }
+
+    @Test
+    void testReplaysRecordedRequestsWithoutSensitiveHeaders() throws Exception {
+        properties.setMethods(List.of("GET", "post"));
+        writeLog("{\"timestamp\": 0, \"method\": \"POST\", \"path\": \"/api/users\", \"headers\": {\"Authorization\": \"Bearer secret\", \"X-Trace\": \"1\", \"Host\": \"prod\"}, \"body\": \"{}\"}",
+                "{\"timestamp\": 10, \"path\": \"api/users/1?expand=true\"}");
+        respondWith(200);
+
+        WarmupResult result = replayWarmupdicator.warmUp();
+
+        assertTrue(result.isSuccess());
+        assertEquals(2, result.getStatistics().getCount());
+        assertEquals(2L, result.getDetails().get("replayed"));
+        assertEquals(2, sent.size());
+
+        HttpRequest post = sent.stream().filter(request -> request.method().equals("POST")).findFirst().orElseThrow();
+        assertEquals("http://localhost:8080/api/users", post.uri().toString());
+        assertTrue(post.headers().firstValue("Authorization").isEmpty());
+        assertEquals("1", post.headers().firstValue("X-Trace").orElse(null));
+
+        HttpRequest get = sent.stream().filter(request -> request.method().equals("GET")).findFirst().orElseThrow();
+        assertEquals("http://localhost:8080/api/users/1?expand=true", get.uri().toString());
+    }
+
+    @Test
+    void testSkipsMethodsNotReplayed() throws Exception {
+        writeLog("{\"method\": \"POST\", \"path\": \"/api/users\", \"body\": \"{}\"}",
+                "{\"method\": \"DELETE\", \"path\": \"/api/users/1\"}",
+                "{\"method\": \"HEAD\", \"path\": \"/api/users/1\"}",
+                "{\"path\": \"/api/users\"}");
+        respondWith(200);
+
+        WarmupResult result = replayWarmupdicator.warmUp();
+
+        assertTrue(result.isSuccess());
+        assertEquals(2, result.getDetails().get("skipped"));
+        assertEquals(List.of("GET", "HEAD"), sent.stream().map(HttpRequest::method).sorted().toList());
+    }
+
+    @Test
+    void testClientErrorsAreNotCountedAsFailures() throws Exception {
+        writeLog("{\"path\": \"/a\"}", "{\"path\": \"/b\"}");
+        respondWith(404);
+
+        WarmupResult result = replayWarmupdicator.warmUp();
+
+        assertTrue(result.isSuccess());
+        assertEquals(0, result.getStatistics().getErrorCount());
+    }
+
+    @Test
+    void testFailsWhenErrorRateExceedsThreshold() throws Exception {
+        writeLog("{\"path\": \"/a\"}", "{\"path\": \"/b\"}");
+        respondWith(503);
+
+        WarmupResult result = replayWarmupdicator.warmUp();
+
+        assertFalse(result.isSuccess());
+        assertEquals(2, result.getStatistics().getErrorCount());
+        assertEquals(FailureType.SERVER_ERROR, result.getFailureType());
+    }
+
+    @Test
+    void testSpeedUpPacesRequests() throws Exception {
+        properties.setSpeedUp(2);
+        writeLog("{\"timestamp\": 1000, \"path\": \"/a\"}", "{\"timestamp\": 1200, \"path\": \"/b\"}");
+        respondWith(200);
+
+        long start = System.nanoTime();
+        WarmupResult result = replayWarmupdicator.warmUp();
+
+        assertTrue(result.isSuccess());
+        assertTrue(System.nanoTime() - start >= 100_000_000L);
+    }
+
+    @Test
+    void testMissingLogIsSkippedUnlessRequired() {
+        WarmupResult result = replayWarmupdicator.warmUp();
+
+        assertTrue(result.isSuccess());
+        assertTrue(result.getDetails().containsKey("skipped"));
+        verify(httpClient, never()).sendAsync(any(HttpRequest.class), any());
+
+        properties.setFailIfMissing(true);
+        result = replayWarmupdicator.warmUp();
+
+        assertFalse(result.isSuccess());
+        assertEquals(FailureType.CLIENT_ERROR, result.getFailureType());
+    }
+
+    private void writeLog(String... lines) throws Exception {
+        Files.writeString(Path.of(properties.getFile()), String.join("\n", lines));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void respondWith(int status) {
+        HttpResponse<Void> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(status);
+        when(httpClient.sendAsync(any(HttpRequest.class), any())).thenAnswer(invocation -> {
+            sent.add(invocation.getArgument(0));
+            return CompletableFuture.completedFuture(response);
+        });
+    }
+}
@@ -0,0 +1,217 @@
+package io.github.paxytools.warmupdicator.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyntheticInstanceGeneratorTest {
+
+    private final SyntheticInstanceGenerator generator = new SyntheticInstanceGenerator(3, 2);
+
+    @Test
+    void testPopulatesBeanThroughSettersAndFields() {
+        Order order = (Order) generator.generate(Order.class);
+
+        assertNotNull(order);
+        assertEquals("warmup", order.getId());
+        assertEquals(Status.NEW, order.getStatus());
+        assertEquals(LocalDate.of(2024, 1, 1), order.getCreated());
+        assertEquals(BigDecimal.ONE, order.total);
+        assertEquals(2, order.getLines().size());
+        assertEquals("warmup", order.getLines().get(0).sku());
+        assertEquals(1, order.getLines().get(0).quantity());
+        assertEquals(Set.of("warmup0", "warmup1"), order.getAttributes().keySet());
+        assertEquals(2, order.getTags().length);
+        assertTrue(order.getNote().isPresent());
+    }
+
+    @Test
+    void testPopulatesRecordThroughCanonicalConstructor() {
+        Line line = (Line) generator.generate(Line.class);
+
+        assertEquals(new Line("warmup", 1), line);
+    }
+
+    @Test
+    void testResolvesGenericsOfOwningType() {
+        @SuppressWarnings("unchecked")
+        Page<Line> page = (Page<Line>) generator.generate(ResolvableType.forClassWithGenerics(Page.class, Line.class));
+
+        assertNotNull(page);
+        assertEquals(2, page.getContent().size());
+        assertInstanceOf(Line.class, page.getContent().get(0));
+    }
+
+    @Test
+    void testStopsAtMaxDepthAndCycles() {
+        Node node = (Node) new SyntheticInstanceGenerator(5, 1).generate(Node.class);
+
+        assertNotNull(node);
+        assertNull(node.getNext(), "recursive reference must not be followed");
+
+        Level1 level1 = (Level1) new SyntheticInstanceGenerator(2, 1).generate(Level1.class);
+        assertNotNull(level1.getLevel2());
+        assertNull(level1.getLevel2().getLevel3());
+    }
+
+    @Test
+    void testUsesLargestConstructorWithoutNoArgConstructor() {
+        Money money = (Money) generator.generate(Money.class);
+
+        assertEquals(BigDecimal.ONE, money.getAmount());
+        assertEquals("warmup", money.getCurrency());
+    }
+
+    @Test
+    void testInterfacesAndAbstractTypesAreNull() {
+        assertNull(generator.generate(Runnable.class));
+        assertNull(generator.generate(Number.class));
+    }
+
+    @Test
+    void testGeneratedInstanceRoundTripsThroughJackson() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Page<?> page = (Page<?>) generator.generate(ResolvableType.forClassWithGenerics(Page.class, Line.class));
+
+        byte[] json = objectMapper.writeValueAsBytes(page);
+        Page<?> read = objectMapper.readValue(json, Page.class);
+
+        assertEquals(2, read.getContent().size());
+    }
+
+    enum Status { NEW, PAID }
+
+    record Line(String sku, int quantity) {
+    }
+
+    static class Order {
+        private String id;
+        private Status status;
+        private LocalDate created;
+        private List<Line> lines;
+        private Map<String, Integer> attributes;
+        private String[] tags;
+        private Optional<String> note;
+        BigDecimal total;
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public void setStatus(Status status) {
+            this.status = status;
+        }
+
+        public LocalDate getCreated() {
+            return created;
+        }
+
+        public List<Line> getLines() {
+            return lines;
+        }
+
+        public void setLines(List<Line> lines) {
+            this.lines = lines;
+        }
+
+        public Map<String, Integer> getAttributes() {
+            return attributes;
+        }
+
+        public String[] getTags() {
+            return tags;
+        }
+
+        public Optional<String> getNote() {
+            return note;
+        }
+    }
+
+    public static class Page<T> {
+        private List<T> content;
+        private int number;
+
+        public List<T> getContent() {
+            return content;
+        }
+
+        public void setContent(List<T> content) {
+            this.content = content;
+        }
+
+        public int getNumber() {
+            return number;
+        }
+
+        public void setNumber(int number) {
+            this.number = number;
+        }
+    }
+
+    static class Node {
+        private Node next;
+
+        public Node getNext() {
+            return next;
+        }
+    }
+
+    static class Level1 {
+        private Level2 level2;
+
+        public Level2 getLevel2() {
+            return level2;
+        }
+    }
+
+    static class Level2 {
+        private Level3 level3;
+
+        public Level3 getLevel3() {
+            return level3;
+        }
+    }
+
+    static class Level3 {
+        private String value;
+    }
+
+    public static class Money {
+        private final BigDecimal amount;
+        private final String currency;
+
+        public Money(BigDecimal amount) {
+            this(amount, null);
+        }
+
+        public Money(BigDecimal amount, String currency) {
+            this.amount = amount;
+            this.currency = currency;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        public String getCurrency() {
+            return currency;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package io.github.paxytools.warmupdicator.impl;
+
+import io.github.paxytools.warmupdicator.api.FailureType;
+import io.github.paxytools.warmupdicator.api.WarmupResult;
+import io.github.paxytools.warmupdicator.config.EndpointWarmerProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.net.ConnectException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WebClientWarmupdicatorTest {
+
+    private EndpointWarmerProperties.EndpointProperties endpoint;
+    private final List<ClientRequest> requests = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        endpoint = new EndpointWarmerProperties.EndpointProperties();
+        endpoint.setName("users");
+        endpoint.setUrl("http://localhost:8080/users");
+        endpoint.setMaxResponseTime(1000);
+    }
+
+    @Test
+    void testSuccessfulWarmupSendsConfiguredRequest() {
+        endpoint.setHttpMethod("post");
+        endpoint.setRequestBody("{\"name\":\"warmup\"}");
+        endpoint.setHeaders(Map.of("Content-Type", "text/plain", "X-Warmup", "true"));
+
+        WarmupResult result = warmer(request -> Mono.just(ClientResponse.create(HttpStatus.CREATED).build())).warmUp();
+
+        assertTrue(result.isSuccess());
+        ClientRequest request = requests.get(0);
+        assertEquals(HttpMethod.POST, request.method());
+        assertEquals("http://localhost:8080/users", request.url().toString());
+        assertEquals("text/plain", request.headers().getFirst("Content-Type"));
+        assertEquals("true", request.headers().getFirst("X-Warmup"));
+    }
+
+    @Test
+    void testFailedStatusIsClassified() {
+        WarmupResult result = warmer(request -> Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build())).warmUp();
+
+        assertFalse(result.isSuccess());
+        assertEquals(FailureType.SERVER_ERROR, result.getFailureType());
+    }
+
+    @Test
+    void testSlowResponseTimesOut() {
+        endpoint.setMaxResponseTime(50);
+
+        WarmupResult result = warmer(request -> Mono.never()).warmUp();
+
+        assertFalse(result.isSuccess());
+        assertEquals(FailureType.TIMEOUT, result.getFailureType());
+    }
+
+    @Test
+    void testConnectionErrorIsClassified() {
+        WarmupResult result = warmer(request -> Mono.error(new ConnectException("Connection refused"))).warmUp();
+
+        assertFalse(result.isSuccess());
+        assertEquals(FailureType.CONNECTION_REFUSED, result.getFailureType());
+    }
+
+    @Test
+    void testAsyncCallsArePipelined() {
+        endpoint.setIterations(20);
+        endpoint.setConcurrency(4);
+        endpoint.setAsync(true);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        WarmupResult result = warmer(request -> Mono.fromCallable(() -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    return ClientResponse.create(HttpStatus.OK).build();
+                })
+                .delayElement(java.time.Duration.ofMillis(10))
+                .doOnNext(response -> inFlight.decrementAndGet())).warmUp();
+
+        assertTrue(result.isSuccess());
+        assertEquals(20, result.getStatistics().getCount());
+        assertEquals(20, requests.size());
+        assertTrue(maxInFlight.get() <= 4);
+        assertTrue(maxInFlight.get() > 1, "calls should overlap");
+    }
+
+    @Test
+    void testInvalidUrlFailsAsyncCalls() {
+        endpoint.setUrl("http://localhost:8080/users/{id}");
+        endpoint.setIterations(5);
+        endpoint.setConcurrency(2);
+        endpoint.setAsync(true);
+
+        WarmupResult result = assertTimeoutPreemptively(java.time.Duration.ofSeconds(5),
+                () -> warmer(request -> Mono.just(ClientResponse.create(HttpStatus.OK).build())).warmUp());
+
+        assertFalse(result.isSuccess());
+        assertEquals(5, result.getStatistics().getErrorCount());
+        assertTrue(requests.isEmpty());
+    }
+
+    private WebClientWarmupdicator warmer(Function<ClientRequest, Mono<ClientResponse>> exchange) {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    requests.add(request);
+                    return exchange.apply(request);
+                })
+                .build();
+        return new WebClientWarmupdicator(endpoint, webClient);
+    }
+}
@@ -0,0 +1,139 @@
+package io.github.paxytools.warmupdicator.jfr;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.paxytools.warmupdicator.api.WarmupResult;
+import io.github.paxytools.warmupdicator.api.Warmupdicator;
+import io.github.paxytools.warmupdicator.config.DtoWarmerProperties;
+import io.github.paxytools.warmupdicator.config.EndpointWarmerProperties;
+import io.github.paxytools.warmupdicator.config.RetryProperties;
+import io.github.paxytools.warmupdicator.impl.DtoWarmupIndicator;
+import io.github.paxytools.warmupdicator.impl.EndpointWarmupdicator;
+import io.github.paxytools.warmupdicator.service.ExponentialBackoffRetryPolicy;
+import io.github.paxytools.warmupdicator.service.WarmupService;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.method.HandlerMethod;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class WarmupEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(FlightRecorder.isAvailable());
+    }
+
+    @Test
+    void testRecordsRunAndAttempts() throws Exception {
+        RetryProperties retry = new RetryProperties();
+        retry.setMaxAttempts(2);
+        retry.setInitialBackoff(Duration.ofMillis(1));
+        Warmupdicator warmer = mock(Warmupdicator.class);
+        when(warmer.getId()).thenReturn("flaky");
+        when(warmer.warmUp()).thenReturn(WarmupResult.failure("cold", 1), WarmupResult.success(1));
+        WarmupService warmupService = new WarmupService(Set.of(warmer), new ExponentialBackoffRetryPolicy(retry));
+
+        List<RecordedEvent> events = record(warmupService::performWarmup, WarmupRunEvent.NAME, WarmerAttemptEvent.NAME);
+
+        List<RecordedEvent> attempts = ofType(events, WarmerAttemptEvent.NAME);
+        assertEquals(2, attempts.size());
+        assertEquals("flaky", attempts.get(0).getString("warmer"));
+        assertEquals(1, attempts.get(0).getInt("attempt"));
+        assertFalse(attempts.get(0).getBoolean("success"));
+        assertEquals("cold", attempts.get(0).getString("message"));
+        assertEquals(2, attempts.get(1).getInt("attempt"));
+        assertTrue(attempts.get(1).getBoolean("success"));
+
+        RecordedEvent run = ofType(events, WarmupRunEvent.NAME).get(0);
+        assertTrue(run.getBoolean("succeeded"));
+        assertEquals(2, run.getInt("tries"));
+        assertFalse(run.getStartTime().isAfter(attempts.get(0).getStartTime()));
+        assertFalse(run.getEndTime().isBefore(attempts.get(1).getEndTime()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRecordsEndpointCalls() throws Exception {
+        EndpointWarmerProperties.EndpointProperties endpoint = new EndpointWarmerProperties.EndpointProperties();
+        endpoint.setName("orders");
+        endpoint.setUrl("http://example.com/orders");
+        endpoint.setIterations(3);
+        HttpClient httpClient = mock(HttpClient.class);
+        HttpResponse<Void> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(200);
+        when(httpClient.send(any(HttpRequest.class), any())).thenAnswer(invocation -> response);
+
+        List<RecordedEvent> events = record(new EndpointWarmupdicator(endpoint, httpClient)::warmUp, EndpointCallEvent.NAME);
+
+        assertEquals(3, events.size());
+        assertEquals("orders", events.get(0).getString("warmer"));
+        assertEquals("GET", events.get(0).getString("method"));
+        assertEquals(200, events.get(0).getInt("statusCode"));
+    }
+
+    @Test
+    void testRecordsDtoTypes() throws Exception {
+        HandlerMethod handlerMethod = new HandlerMethod(new TestController(), TestController.class.getDeclaredMethod("create", Order.class));
+        DtoWarmupIndicator warmer = new DtoWarmupIndicator(new DtoWarmerProperties(), new ObjectMapper(), () -> List.of(handlerMethod));
+
+        List<RecordedEvent> events = record(warmer::warmUp, DtoWarmupEvent.NAME);
+
+        RecordedEvent order = events.stream()
+            .filter(event -> Order.class.getName().equals(event.getString("type")))
+            .findFirst()
+            .orElseThrow();
+        assertEquals("WARMED", order.getString("outcome"));
+        assertNull(order.getString("error"));
+    }
+
+    private List<RecordedEvent> record(Runnable action, String... eventNames) throws Exception {
+        Path dump = tempDir.resolve("warmup.jfr");
+        try (Recording recording = new Recording()) {
+            for (String eventName : eventNames) {
+                recording.enable(eventName);
+            }
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(dump);
+        }
+        return RecordingFile.readAllEvents(dump).stream()
+            .filter(event -> List.of(eventNames).contains(event.getEventType().getName()))
+            .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+            .toList();
+    }
+
+    private static List<RecordedEvent> ofType(List<RecordedEvent> events, String eventName) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(eventName)).toList();
+    }
+
+    static class TestController {
+        public Order create(@RequestBody Order order) {
+            return order;
+        }
+    }
+
+    public record Order(String id, int quantity) {
+    }
+}
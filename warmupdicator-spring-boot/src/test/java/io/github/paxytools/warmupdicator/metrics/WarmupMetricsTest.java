@@ -0,0 +1,120 @@
+package io.github.paxytools.warmupdicator.metrics;
+
+import io.github.paxytools.warmupdicator.api.WarmupResult;
+import io.github.paxytools.warmupdicator.api.WarmupTier;
+import io.github.paxytools.warmupdicator.api.Warmupdicator;
+import io.github.paxytools.warmupdicator.config.RetryProperties;
+import io.github.paxytools.warmupdicator.impl.DtoWarmupIndicator;
+import io.github.paxytools.warmupdicator.service.ExponentialBackoffRetryPolicy;
+import io.github.paxytools.warmupdicator.service.WarmupService;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class WarmupMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final Warmupdicator flaky = mock(Warmupdicator.class);
+    private final Warmupdicator failing = mock(Warmupdicator.class);
+    private RetryProperties retry;
+
+    @BeforeEach
+    void setUp() {
+        retry = new RetryProperties();
+        retry.setInitialBackoff(Duration.ZERO);
+        retry.setMaxAttempts(2);
+        when(flaky.getId()).thenReturn("flaky");
+        when(failing.getId()).thenReturn("failing");
+        when(flaky.warmUp()).thenReturn(WarmupResult.failure("cold", 5), WarmupResult.success(5));
+        when(failing.warmUp()).thenReturn(WarmupResult.failure("down", 5));
+    }
+
+    @Test
+    void testPublishesWarmerAndWarmupMetrics() {
+        WarmupService warmupService = warmupService(Set.of(flaky, failing));
+
+        warmupService.performWarmup();
+
+        assertEquals(1, timer(WarmupMetrics.ATTEMPT, "flaky", "success").count());
+        assertEquals(1, timer(WarmupMetrics.ATTEMPT, "flaky", "failure").count());
+        assertEquals(2, timer(WarmupMetrics.ATTEMPT, "failing", "failure").count());
+        assertEquals(1, timer(WarmupMetrics.WARMER_DURATION, "flaky", "success").count());
+        assertEquals(1, timer(WarmupMetrics.WARMER_DURATION, "failing", "failure").count());
+        assertEquals(2.0, registry.get(WarmupMetrics.WARMER_ATTEMPTS).tag("id", "flaky").summary().totalAmount());
+        assertEquals("critical", registry.get(WarmupMetrics.ATTEMPT).tag("id", "flaky").timer().getId().getTag("tier"));
+        assertEquals(1, registry.get(WarmupMetrics.WARMUP_DURATION).tag("outcome", "failure").timer().count());
+        assertEquals(0, registry.get(WarmupMetrics.PENDING).gauge().value());
+    }
+
+    @Test
+    void testPendingGaugeCountsUnfinishedWarmers() {
+        WarmupMetrics metrics = new WarmupMetrics(registry);
+        metrics.warmupStarted(Set.of(flaky, failing));
+
+        assertEquals(2, registry.get(WarmupMetrics.PENDING).gauge().value());
+
+        metrics.warmerFinished(flaky, WarmupResult.success(5));
+        assertEquals(1, registry.get(WarmupMetrics.PENDING).gauge().value());
+    }
+
+    @Test
+    void testSkippedWarmerHasNoDuration() {
+        when(flaky.dependsOn()).thenReturn(Set.of("failing"));
+        WarmupService warmupService = warmupService(Set.of(flaky, failing));
+
+        warmupService.performWarmup();
+
+        assertNull(registry.find(WarmupMetrics.WARMER_DURATION).tag("id", "flaky").timer());
+        assertEquals(0, registry.get(WarmupMetrics.PENDING).gauge().value());
+    }
+
+    @Test
+    void testPublishesDtoTypeCounts() {
+        DtoWarmupIndicator dtoWarmer = mock(DtoWarmupIndicator.class);
+        when(dtoWarmer.getId()).thenReturn("dto-warmup");
+        when(dtoWarmer.getTier()).thenReturn(WarmupTier.CRITICAL);
+        WarmupMetrics metrics = new WarmupMetrics(registry);
+
+        metrics.warmerFinished(dtoWarmer, WarmupResult.success(5).withDetails(Map.of("warmed", 12, "skipped", 3, "failed", 1, "timedOut", 0)));
+
+        assertEquals(12, registry.get(WarmupMetrics.DTO_TYPES).tag("outcome", "warmed").gauge().value());
+        assertEquals(3, registry.get(WarmupMetrics.DTO_TYPES).tag("outcome", "skipped").gauge().value());
+        assertEquals(1, registry.get(WarmupMetrics.DTO_TYPES).tag("outcome", "failed").gauge().value());
+        assertEquals(0, registry.get(WarmupMetrics.DTO_TYPES).tag("outcome", "timed-out").gauge().value());
+    }
+
+    @Test
+    void testWithoutRegistryNothingIsPublished() {
+        WarmupMetrics metrics = new WarmupMetrics(() -> null);
+
+        metrics.warmupStarted(Set.of(flaky));
+        metrics.attemptStarted(flaky, 1);
+        metrics.attemptFinished(flaky, 1, WarmupResult.success(5), Duration.ofMillis(5));
+        metrics.warmerFinished(flaky, WarmupResult.success(5));
+        metrics.warmupFinished(true, Duration.ofMillis(5));
+
+        assertTrue(registry.getMeters().isEmpty());
+    }
+
+    private WarmupService warmupService(Set<Warmupdicator> warmers) {
+        WarmupService warmupService = new WarmupService(warmers, new ExponentialBackoffRetryPolicy(retry), Runnable::run);
+        warmupService.addListener(new WarmupMetrics(registry));
+        return warmupService;
+    }
+
+    private Timer timer(String name, String id, String outcome) {
+        Timer timer = registry.get(name).tags("id", id, "outcome", outcome).timer();
+        assertTrue(timer.totalTime(TimeUnit.NANOSECONDS) >= 0);
+        return timer;
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.paxytools.warmupdicator.recording;
+
+import io.github.paxytools.warmupdicator.config.ClassPreloaderProperties;
+import jdk.jfr.FlightRecorder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class ClassLoadRecorderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ClassPreloaderProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(FlightRecorder.isAvailable());
+        properties = new ClassPreloaderProperties();
+        properties.setFile(tempDir.resolve("classes.lst").toString());
+    }
+
+    @Test
+    void testRecordsClassesLoadedAfterStart() throws Exception {
+        // Test classes are loaded by JUnit discovery already, so JDK classes nothing else uses are loaded instead
+        properties.setExcludePatterns(List.of("*.Phaser"));
+        try (ClassLoadRecorder recorder = new ClassLoadRecorder(properties, getClass().getClassLoader())) {
+            Class.forName("java.util.concurrent.Exchanger");
+            Class.forName("java.util.concurrent.Phaser");
+            Supplier<String> lambda = () -> "warmup";
+            lambda.get();
+
+            assertTrue(recorder.write() > 0);
+        }
+
+        List<String> names = readClassList();
+        assertTrue(names.contains("java.util.concurrent.Exchanger"));
+        assertFalse(names.contains("java.util.concurrent.Phaser"));
+        assertTrue(names.stream().noneMatch(name -> name.contains("$$Lambda") || name.contains("/")));
+        assertTrue(Files.readString(Path.of(properties.getFile())).startsWith("#"));
+    }
+
+    @Test
+    void testWritesOnlyOnce() throws Exception {
+        try (ClassLoadRecorder recorder = new ClassLoadRecorder(properties, getClass().getClassLoader())) {
+            assertTrue(recorder.write() >= 0);
+            assertEquals(-1, recorder.write());
+        }
+    }
+
+    @Test
+    void testClassListRoundTrip() throws Exception {
+        ClassList.write(Path.of(properties.getFile()), List.of("com.example.A", "com.example.B$Inner"));
+
+        assertEquals(List.of("com.example.A", "com.example.B$Inner"), readClassList());
+        try (InputStream in = Files.newInputStream(Path.of(properties.getFile()))) {
+            assertEquals(List.of("com.example.A"), ClassList.read(in, List.of("com.example.B$*")));
+        }
+    }
+
+    private List<String> readClassList() throws Exception {
+        try (InputStream in = Files.newInputStream(Path.of(properties.getFile()))) {
+            return ClassList.read(in, List.of());
+        }
+    }
+}
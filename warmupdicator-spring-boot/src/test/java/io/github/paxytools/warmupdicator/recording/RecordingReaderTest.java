@@ -0,0 +1,61 @@
+package io.github.paxytools.warmupdicator.recording;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordingReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final RecordingReader reader = new RecordingReader(new ObjectMapper());
+
+    @Test
+    void testReadsJsonLines() throws IOException {
+        Path file = tempDir.resolve("requests.jsonl");
+        Files.writeString(file, String.join("\n",
+                "{\"timestamp\": 1000, \"method\": \"post\", \"path\": \"/api/users?notify=true\", \"headers\": {\"Content-Type\": \"application/json\"}, \"body\": \"{\\\"name\\\":\\\"John\\\"}\"}",
+                "",
+                "{\"timestamp\": 1500, \"path\": \"/api/users/1\"}"));
+
+        List<RecordedRequest> requests = reader.read(file, 0);
+
+        assertEquals(2, requests.size());
+        RecordedRequest post = requests.get(0);
+        assertEquals(1000, post.getTimestamp());
+        assertEquals("POST", post.getMethod());
+        assertEquals("/api/users?notify=true", post.getPath());
+        assertEquals("application/json", post.getHeaders().get("Content-Type"));
+        assertEquals("{\"name\":\"John\"}", post.getBody());
+
+        RecordedRequest get = requests.get(1);
+        assertEquals("GET", get.getMethod());
+        assertTrue(get.getHeaders().isEmpty());
+        assertNull(get.getBody());
+    }
+
+    @Test
+    void testHonorsLimit() throws IOException {
+        Path file = tempDir.resolve("requests.jsonl");
+        Files.writeString(file, "{\"path\": \"/a\"}\n{\"path\": \"/b\"}\n{\"path\": \"/c\"}\n");
+
+        assertEquals(2, reader.read(file, 2).size());
+    }
+
+    @Test
+    void testReportsMalformedLine() throws IOException {
+        Path file = tempDir.resolve("requests.jsonl");
+        Files.writeString(file, "{\"path\": \"/a\"}\n{\"method\": \"GET\"}\n");
+
+        IOException e = assertThrows(IOException.class, () -> reader.read(file, 0));
+        assertTrue(e.getMessage().contains(":2"));
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.paxytools.warmupdicator.recording;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.paxytools.warmupdicator.config.RecordingProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestRecorderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private RecordingProperties properties() {
+        RecordingProperties properties = new RecordingProperties();
+        properties.setDirectory(tempDir.toString());
+        properties.setFlushInterval(Duration.ofHours(1));
+        return properties;
+    }
+
+    @Test
+    void testRecordingsAreReplayable() throws Exception {
+        try (RequestRecorder recorder = new RequestRecorder(properties())) {
+            recorder.offer(new RecordedRequest(1000, "POST", "/api/users?notify=true", Map.of("Content-Type", "application/json"), "{\"name\":\"Jöhn\"}"));
+            recorder.offer(new RecordedRequest(1200, "GET", "/api/users/1", Map.of(), null));
+            recorder.flush();
+            assertEquals(2, recorder.getRecordedCount());
+        }
+
+        List<RecordedRequest> requests = new RecordingReader(new ObjectMapper()).read(tempDir, 0);
+
+        assertEquals(2, requests.size());
+        RecordedRequest post = requests.get(0);
+        assertEquals(1000, post.getTimestamp());
+        assertEquals("POST", post.getMethod());
+        assertEquals("/api/users?notify=true", post.getPath());
+        assertEquals("application/json", post.getHeaders().get("Content-Type"));
+        assertEquals("{\"name\":\"Jöhn\"}", post.getBody());
+        assertNull(requests.get(1).getBody());
+    }
+
+    @Test
+    void testRotationKeepsWithinByteBudget() throws Exception {
+        RecordingProperties properties = properties();
+        properties.setMaxFileSize(DataSize.ofBytes(512));
+        properties.setMaxFiles(2);
+
+        try (RequestRecorder recorder = new RequestRecorder(properties)) {
+            for (int i = 0; i < 100; i++) {
+                recorder.offer(new RecordedRequest(i, "GET", "/api/items/" + i, Map.of(), null));
+                recorder.flush();
+            }
+        }
+
+        List<Path> files = RecordingFileWriter.listRecordingFiles(tempDir);
+        assertEquals(2, files.size());
+        List<RecordedRequest> requests = new RecordingReader(new ObjectMapper()).read(tempDir, 0);
+        assertFalse(requests.isEmpty());
+        // Only the most recent requests survive rotation
+        assertEquals("/api/items/99", requests.get(requests.size() - 1).getPath());
+        assertTrue(requests.get(0).getTimestamp() > 0);
+    }
+
+    @Test
+    void testReaderDetectsBinaryFile() throws Exception {
+        try (RequestRecorder recorder = new RequestRecorder(properties())) {
+            recorder.offer(new RecordedRequest(1, "DELETE", "/api/users/1", Map.of(), null));
+        }
+
+        Path file = RecordingFileWriter.listRecordingFiles(tempDir).get(0);
+        List<RecordedRequest> requests = new RecordingReader(new ObjectMapper()).read(file, 0);
+
+        assertEquals(1, requests.size());
+        assertEquals("DELETE", requests.get(0).getMethod());
+    }
+}
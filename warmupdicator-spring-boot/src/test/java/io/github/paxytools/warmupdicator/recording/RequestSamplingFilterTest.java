@@ -0,0 +1,88 @@
+package io.github.paxytools.warmupdicator.recording;
+
+import io.github.paxytools.warmupdicator.config.RecordingProperties;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class RequestSamplingFilterTest {
+
+    private RecordingProperties properties;
+    private RequestRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RecordingProperties();
+        properties.setSampleRate(1.0);
+        recorder = mock(RequestRecorder.class);
+    }
+
+    @Test
+    void testRecordsSampledRequestWithoutSensitiveHeaders() throws Exception {
+        RequestSamplingFilter filter = new RequestSamplingFilter(properties, recorder, () -> true);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/users");
+        request.setQueryString("notify=true");
+        request.addHeader("Authorization", "Bearer secret");
+        request.addHeader("Content-Type", "application/json");
+        request.setContent("{\"name\":\"John\"}".getBytes(StandardCharsets.UTF_8));
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                req.getInputStream().readAllBytes();
+            }
+        });
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        ArgumentCaptor<RecordedRequest> captor = ArgumentCaptor.forClass(RecordedRequest.class);
+        verify(recorder).offer(captor.capture());
+        RecordedRequest recorded = captor.getValue();
+        assertEquals("POST", recorded.getMethod());
+        assertEquals("/api/users?notify=true", recorded.getPath());
+        assertEquals("{\"name\":\"John\"}", recorded.getBody());
+        assertFalse(recorded.getHeaders().containsKey("Authorization"));
+        assertEquals("application/json", recorded.getHeaders().get("Content-Type"));
+    }
+
+    @Test
+    void testSkipsWhileInactiveExcludedOrFailed() throws Exception {
+        new RequestSamplingFilter(properties, recorder, () -> false)
+                .doFilter(new MockHttpServletRequest("GET", "/api/users"), new MockHttpServletResponse(), new MockFilterChain());
+
+        RequestSamplingFilter filter = new RequestSamplingFilter(properties, recorder, () -> true);
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), new MockHttpServletResponse(), new MockFilterChain());
+
+        MockHttpServletResponse errorResponse = new MockHttpServletResponse();
+        errorResponse.setStatus(500);
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/users"), errorResponse, new MockFilterChain());
+
+        verify(recorder, never()).offer(any());
+    }
+
+    @Test
+    void testSampleRateZeroRecordsNothing() throws Exception {
+        properties.setSampleRate(0);
+        RequestSamplingFilter filter = new RequestSamplingFilter(properties, recorder, () -> true);
+
+        for (int i = 0; i < 100; i++) {
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/users"), new MockHttpServletResponse(), new MockFilterChain());
+        }
+
+        verify(recorder, never()).offer(any());
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.paxytools.warmupdicator.recording;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SampleRingBufferTest {
+
+    @Test
+    void testDropsWhenFullAndDrainsInOrder() {
+        SampleRingBuffer<Integer> buffer = new SampleRingBuffer<>(3);
+        assertEquals(4, buffer.capacity());
+
+        for (int i = 0; i < 6; i++) {
+            buffer.offer(i);
+        }
+        List<Integer> drained = new ArrayList<>();
+
+        assertEquals(4, buffer.drainTo(drained));
+        assertEquals(List.of(0, 1, 2, 3), drained);
+        assertEquals(2, buffer.getDroppedCount());
+
+        assertTrue(buffer.offer(6));
+        drained.clear();
+        buffer.drainTo(drained);
+        assertEquals(List.of(6), drained);
+    }
+
+    @Test
+    void testConcurrentProducersLoseNothingWhileDrained() throws Exception {
+        SampleRingBuffer<Integer> buffer = new SampleRingBuffer<>(64);
+        int producers = 4;
+        int perProducer = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+        for (int p = 0; p < producers; p++) {
+            executor.execute(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    buffer.offer(i);
+                }
+                done.countDown();
+            });
+        }
+
+        List<Integer> drained = new ArrayList<>();
+        while (done.getCount() > 0) {
+            buffer.drainTo(drained);
+        }
+        buffer.drainTo(drained);
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals((long) producers * perProducer, drained.size() + buffer.getDroppedCount());
+        assertFalse(drained.contains(null));
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.paxytools.warmupdicator.service;
+
+import io.github.paxytools.warmupdicator.api.FailureType;
+import io.github.paxytools.warmupdicator.api.WarmupResult;
+import io.github.paxytools.warmupdicator.config.RetryProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExponentialBackoffRetryPolicyTest {
+
+    private RetryProperties properties;
+    private ExponentialBackoffRetryPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RetryProperties();
+        properties.setJitter(0);
+        policy = new ExponentialBackoffRetryPolicy(properties);
+    }
+
+    @Test
+    void testBackoffGrowsExponentiallyUpToMax() {
+        properties.setInitialBackoff(Duration.ofMillis(100));
+        properties.setMaxBackoff(Duration.ofMillis(500));
+
+        assertEquals(Duration.ofMillis(100), policy.getBackoff(1));
+        assertEquals(Duration.ofMillis(200), policy.getBackoff(2));
+        assertEquals(Duration.ofMillis(400), policy.getBackoff(3));
+        assertEquals(Duration.ofMillis(500), policy.getBackoff(4));
+    }
+
+    @Test
+    void testJitterStaysWithinBounds() {
+        properties.setInitialBackoff(Duration.ofMillis(1000));
+        properties.setJitter(0.2);
+
+        for (int i = 0; i < 100; i++) {
+            long backoff = policy.getBackoff(1).toMillis();
+            assertTrue(backoff >= 800 && backoff <= 1200, "Backoff out of bounds: " + backoff);
+        }
+    }
+
+    @Test
+    void testPermanentFailuresAreNotRetried() {
+        WarmupResult clientError = WarmupResult.failure("HTTP 404", 10).withFailureType(FailureType.CLIENT_ERROR);
+        WarmupResult refused = WarmupResult.failure("Connection refused", 10).withFailureType(FailureType.CONNECTION_REFUSED);
+        WarmupResult timeout = WarmupResult.failure("Timeout", 10).withFailureType(FailureType.TIMEOUT);
+
+        assertFalse(policy.shouldRetry("warmer", clientError, 1));
+        assertFalse(policy.shouldRetry("warmer", refused, 1));
+        assertTrue(policy.shouldRetry("warmer", timeout, 1));
+        assertTrue(policy.shouldRetry("warmer", WarmupResult.failure("Failed", 10), 1));
+    }
+
+    @Test
+    void testMaxAttemptsPerWarmer() {
+        properties.setMaxAttempts(3);
+        WarmupResult failure = WarmupResult.failure("Failed", 10);
+
+        assertTrue(policy.shouldRetry("warmer", failure, 2));
+        assertFalse(policy.shouldRetry("warmer", failure, 3));
+    }
+
+    @Test
+    void testGlobalLimits() {
+        assertTrue(policy.canContinue(1000, Duration.ofHours(1)));
+
+        properties.setMaxTotalAttempts(10);
+        properties.setDeadline(Duration.ofSeconds(30));
+
+        assertTrue(policy.canContinue(9, Duration.ofSeconds(29)));
+        assertFalse(policy.canContinue(10, Duration.ofSeconds(1)));
+        assertFalse(policy.canContinue(1, Duration.ofSeconds(30)));
+    }
+}
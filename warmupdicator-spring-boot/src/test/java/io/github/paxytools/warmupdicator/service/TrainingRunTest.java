@@ -0,0 +1,87 @@
+package io.github.paxytools.warmupdicator.service;
+
+import io.github.paxytools.warmupdicator.api.WarmupResult;
+import io.github.paxytools.warmupdicator.api.Warmupdicator;
+import io.github.paxytools.warmupdicator.config.RetryProperties;
+import io.github.paxytools.warmupdicator.config.TrainingRunProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TrainingRunTest {
+
+    private final TrainingRunProperties properties = new TrainingRunProperties();
+    private final Warmupdicator warmer = mock(Warmupdicator.class);
+    private final CompletableFuture<Integer> exitCode = new CompletableFuture<>();
+    private GenericApplicationContext context;
+    private WarmupService warmupService;
+
+    @BeforeEach
+    void setUp() {
+        RetryProperties retry = new RetryProperties();
+        retry.setMaxAttempts(1);
+        when(warmer.getId()).thenReturn("warmer");
+        warmupService = new WarmupService(Set.of(warmer), new ExponentialBackoffRetryPolicy(retry));
+        context = new GenericApplicationContext();
+        context.refresh();
+    }
+
+    @Test
+    void testExitsWithZeroAfterSuccessfulWarmup() throws Exception {
+        when(warmer.warmUp()).thenReturn(WarmupResult.success(10));
+        new TrainingRun(properties, warmupService, context, exitCode::complete).start();
+
+        warmupService.performWarmup();
+
+        assertEquals(0, exitCode.get(5, TimeUnit.SECONDS));
+        assertFalse(context.isActive());
+    }
+
+    @Test
+    void testExitsWithFailureCodeWhenWarmupGaveUp() throws Exception {
+        properties.setFailureExitCode(3);
+        when(warmer.warmUp()).thenReturn(WarmupResult.failure("cold", 10));
+        new TrainingRun(properties, warmupService, context, exitCode::complete).start();
+
+        warmupService.performWarmup();
+
+        assertEquals(3, exitCode.get(5, TimeUnit.SECONDS));
+        assertFalse(context.isActive());
+    }
+
+    @Test
+    void testExitsWithFailureCodeWhenWarmupTimesOut() throws Exception {
+        properties.setFailureExitCode(3);
+        properties.setTimeout(Duration.ofMillis(100));
+        new TrainingRun(properties, warmupService, context, exitCode::complete).start();
+
+        assertEquals(3, exitCode.get(5, TimeUnit.SECONDS));
+        assertFalse(context.isActive());
+        assertFalse(warmupService.whenFinished().toCompletableFuture().isDone());
+    }
+
+    @Test
+    void testDoesNotExitBeforeWarmup() {
+        new TrainingRun(properties, warmupService, context, exitCode::complete).start();
+
+        assertFalse(exitCode.isDone());
+        assertTrue(context.isActive());
+    }
+
+    @Test
+    void testDetectsArchiveRecordingFlags() {
+        assertTrue(TrainingRun.isRecordingArchive(List.of("-Xmx1g", "-XX:ArchiveClassesAtExit=app.jsa")));
+        assertTrue(TrainingRun.isRecordingArchive(List.of("-XX:SharedArchiveFile=app.jsa", "-XX:+AutoCreateSharedArchive")));
+        assertFalse(TrainingRun.isRecordingArchive(List.of("-XX:SharedArchiveFile=app.jsa")));
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.paxytools.warmupdicator.service;
+
+import io.github.paxytools.warmupdicator.config.ExecutorProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WarmupExecutorsTest {
+
+    @Test
+    void testCommonMode() {
+        ExecutorProperties properties = new ExecutorProperties();
+        properties.setMode(ExecutorProperties.Mode.COMMON);
+
+        assertSame(ForkJoinPool.commonPool(), WarmupExecutors.create(properties));
+    }
+
+    @Test
+    void testBoundedMode() {
+        ExecutorProperties properties = new ExecutorProperties();
+        properties.setMode(ExecutorProperties.Mode.BOUNDED);
+        properties.setPoolSize(3);
+
+        Executor executor = WarmupExecutors.create(properties);
+
+        assertInstanceOf(ThreadPoolExecutor.class, executor);
+        assertEquals(3, ((ThreadPoolExecutor) executor).getMaximumPoolSize());
+        String threadName = CompletableFuture.supplyAsync(() -> Thread.currentThread().getName(), executor).join();
+        assertTrue(threadName.startsWith("warmup-"));
+        ((ExecutorService) executor).shutdown();
+    }
+
+    @Test
+    void testDefaultsToBoundedMode() {
+        assertEquals(ExecutorProperties.Mode.BOUNDED, new ExecutorProperties().getMode());
+    }
+
+    @Test
+    void testVirtualModeRunsTasks() {
+        ExecutorProperties properties = new ExecutorProperties();
+        properties.setMode(ExecutorProperties.Mode.VIRTUAL);
+
+        Executor executor = WarmupExecutors.create(properties);
+
+        assertEquals("done", CompletableFuture.supplyAsync(() -> "done", executor).join());
+        ((ExecutorService) executor).shutdown();
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.paxytools.warmupdicator.service;
+
+import io.github.paxytools.warmupdicator.api.Warmupdicator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class WarmupGraphTest {
+
+    @Test
+    void testOrderPlacesPrerequisitesFirst() {
+        Warmupdicator endpoint = warmer("endpoint", false, "cache", "database");
+        Warmupdicator cache = warmer("cache", false, "database");
+        Warmupdicator database = warmer("database", false);
+
+        WarmupGraph graph = new WarmupGraph(List.of(endpoint, cache, database));
+
+        assertEquals(List.of("database", "cache", "endpoint"), ids(graph.getOrder()));
+        assertEquals(Set.of("cache", "database"), graph.getDependencies("endpoint"));
+        assertTrue(graph.getDependencies("database").isEmpty());
+    }
+
+    @Test
+    void testDeferredWarmerDependsOnAllRegularWarmers() {
+        Warmupdicator gate = warmer("gate", true);
+        Warmupdicator first = warmer("first", false);
+        Warmupdicator second = warmer("second", false, "first");
+
+        WarmupGraph graph = new WarmupGraph(List.of(gate, first, second));
+
+        assertEquals(Set.of("first", "second"), graph.getDependencies("gate"));
+        assertEquals("gate", ids(graph.getOrder()).get(2));
+    }
+
+    @Test
+    void testCycleIsReported() {
+        Warmupdicator a = warmer("a", false, "c");
+        Warmupdicator b = warmer("b", false, "a");
+        Warmupdicator c = warmer("c", false, "b");
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> new WarmupGraph(List.of(a, b, c)));
+
+        assertEquals("Cycle in warmer dependencies: a -> c -> b -> a", e.getMessage());
+    }
+
+    @Test
+    void testSelfDependencyIsACycle() {
+        assertThrows(IllegalStateException.class, () -> new WarmupGraph(List.of(warmer("a", false, "a"))));
+    }
+
+    @Test
+    void testUnknownDependencyIsRejected() {
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> new WarmupGraph(List.of(warmer("endpoint", false, "missing"))));
+
+        assertTrue(e.getMessage().contains("'missing'"));
+    }
+
+    @Test
+    void testDuplicateIdIsRejected() {
+        assertThrows(IllegalStateException.class, () -> new WarmupGraph(List.of(warmer("a", false), warmer("a", false))));
+    }
+
+    private static Warmupdicator warmer(String id, boolean deferred, String... dependsOn) {
+        Warmupdicator warmer = mock(Warmupdicator.class);
+        when(warmer.getId()).thenReturn(id);
+        when(warmer.isDeferred()).thenReturn(deferred);
+        when(warmer.dependsOn()).thenReturn(Set.of(dependsOn));
+        return warmer;
+    }
+
+    private static List<String> ids(List<Warmupdicator> warmers) {
+        return warmers.stream().map(Warmupdicator::getId).collect(Collectors.toList());
+    }
+}
@@ -1,15 +1,36 @@
 package io.github.paxytools.warmupdicator.service;
 
+import io.github.paxytools.warmupdicator.api.FailureType;
+import io.github.paxytools.warmupdicator.api.WarmerState;
+import io.github.paxytools.warmupdicator.api.WarmerStatus;
+import io.github.paxytools.warmupdicator.api.WarmupListener;
 import io.github.paxytools.warmupdicator.api.WarmupResult;
+import io.github.paxytools.warmupdicator.api.WarmupTier;
 import io.github.paxytools.warmupdicator.api.Warmupdicator;
+import io.github.paxytools.warmupdicator.config.RetryProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class WarmupServiceTest {
@@ -63,6 +84,250 @@ class WarmupServiceTest {
         assertEquals(2, warmupService.getAttemptNumber()); // Should be 2 (0,1,2)
     }
 
+    @Test
+    void testDeferredWarmerRunsAfterOthersSucceeded() {
+        when(warmer1.getId()).thenReturn("warmer1");
+        when(warmer2.getId()).thenReturn("gate");
+        when(warmer2.isDeferred()).thenReturn(true);
+        when(warmer1.warmUp())
+            .thenReturn(WarmupResult.failure("Failed", 100))
+            .thenReturn(WarmupResult.success(100));
+        when(warmer2.warmUp()).thenReturn(WarmupResult.success(50));
+
+        warmupService.performWarmup();
+
+        assertTrue(warmupService.isWarmedUp());
+        InOrder inOrder = inOrder(warmer1, warmer2);
+        inOrder.verify(warmer1, times(2)).warmUp();
+        inOrder.verify(warmer2).warmUp();
+        assertEquals(1, warmupService.getResults().get("gate").getAttemptCount());
+    }
+
+    @Test
+    void testPermanentFailureStopsRetrying() {
+        when(warmer1.getId()).thenReturn("warmer1");
+        when(warmer2.getId()).thenReturn("warmer2");
+        when(warmer1.warmUp()).thenReturn(WarmupResult.success(100));
+        when(warmer2.warmUp()).thenReturn(WarmupResult.failure("HTTP 404 error", 10).withFailureType(FailureType.CLIENT_ERROR));
+
+        warmupService.performWarmup();
+
+        assertFalse(warmupService.isWarmedUp());
+        assertFalse(warmupService.getResults().get("warmer2").isSuccess());
+        assertEquals(1, warmupService.getResults().get("warmer2").getAttemptCount());
+        verify(warmer2, times(1)).warmUp();
+    }
+
+    @Test
+    void testMaxAttemptsPerWarmer() {
+        RetryProperties retry = new RetryProperties();
+        retry.setInitialBackoff(Duration.ZERO);
+        retry.setMaxAttempts(3);
+        warmupService = new WarmupService(Set.of(warmer1, warmer2), new ExponentialBackoffRetryPolicy(retry));
+        when(warmer1.getId()).thenReturn("warmer1");
+        when(warmer2.getId()).thenReturn("warmer2");
+        when(warmer1.warmUp()).thenReturn(WarmupResult.success(100));
+        when(warmer2.warmUp()).thenReturn(WarmupResult.failure("Failed", 10));
+
+        warmupService.performWarmup();
+
+        assertFalse(warmupService.isWarmedUp());
+        assertEquals(3, warmupService.getResults().get("warmer2").getAttemptCount());
+        assertEquals(4, warmupService.getTotalTries());
+        verify(warmer2, times(3)).warmUp();
+    }
+
+    @Test
+    void testThrowingWarmerIsTreatedAsFailure() {
+        RetryProperties retry = new RetryProperties();
+        retry.setMaxAttempts(1);
+        warmupService = new WarmupService(Set.of(warmer1), new ExponentialBackoffRetryPolicy(retry));
+        when(warmer1.getId()).thenReturn("warmer1");
+        when(warmer1.warmUp()).thenThrow(new IllegalStateException("Boom"));
+
+        warmupService.performWarmup();
+
+        assertFalse(warmupService.isWarmedUp());
+        assertEquals("Boom", warmupService.getResults().get("warmer1").getMessage());
+    }
+
+    @Test
+    void testDependentWarmerStartsAfterPrerequisiteSucceeded() {
+        when(warmer1.getId()).thenReturn("database");
+        when(warmer2.getId()).thenReturn("endpoint");
+        when(warmer2.dependsOn()).thenReturn(Set.of("database"));
+        when(warmer1.warmUp())
+            .thenReturn(WarmupResult.failure("Failed", 100))
+            .thenReturn(WarmupResult.success(100));
+        when(warmer2.warmUp()).thenReturn(WarmupResult.success(50));
+
+        warmupService.performWarmup();
+
+        assertTrue(warmupService.isWarmedUp());
+        InOrder inOrder = inOrder(warmer1, warmer2);
+        inOrder.verify(warmer1, times(2)).warmUp();
+        inOrder.verify(warmer2).warmUp();
+    }
+
+    @Test
+    void testDependentWarmerIsSkippedWhenPrerequisiteGivesUp() {
+        when(warmer1.getId()).thenReturn("database");
+        when(warmer2.getId()).thenReturn("endpoint");
+        when(warmer2.dependsOn()).thenReturn(Set.of("database"));
+        when(warmer1.warmUp()).thenReturn(WarmupResult.failure("Access denied", 10).withFailureType(FailureType.CLIENT_ERROR));
+
+        warmupService.performWarmup();
+
+        assertFalse(warmupService.isWarmedUp());
+        assertNull(warmupService.getResults().get("endpoint"));
+        verify(warmer2, never()).warmUp();
+    }
+
+    @Test
+    void testDependencyCycleIsRejected() {
+        when(warmer1.getId()).thenReturn("warmer1");
+        when(warmer2.getId()).thenReturn("warmer2");
+        when(warmer1.dependsOn()).thenReturn(Set.of("warmer2"));
+        when(warmer2.dependsOn()).thenReturn(Set.of("warmer1"));
+
+        assertThrows(IllegalStateException.class, () -> warmupService.performWarmup());
+        verify(warmer1, never()).warmUp();
+        verify(warmer2, never()).warmUp();
+    }
+
+    @Test
+    void testBackgroundWarmerDoesNotHoldReadiness() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(warmer1.getId()).thenReturn("critical");
+        when(warmer2.getId()).thenReturn("background");
+        when(warmer2.getTier()).thenReturn(WarmupTier.BACKGROUND);
+        when(warmer1.warmUp()).thenReturn(WarmupResult.success(10));
+        when(warmer2.warmUp()).thenAnswer(invocation -> {
+            release.await();
+            return WarmupResult.success(500);
+        });
+
+        warmupService.performWarmup();
+
+        assertTrue(warmupService.isWarmedUp());
+        assertFalse(warmupService.isBackgroundFinished());
+        assertEquals(1, warmupService.getBackgroundTotal());
+        assertEquals(0, warmupService.getBackgroundSucceeded());
+
+        release.countDown();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!warmupService.isBackgroundFinished() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(warmupService.isBackgroundWarmedUp());
+        assertEquals(1, warmupService.getBackgroundSucceeded());
+    }
+
+    @Test
+    void testWhenFinishedWaitsForBackgroundWarmers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(warmer1.getId()).thenReturn("critical");
+        when(warmer2.getId()).thenReturn("background");
+        when(warmer2.getTier()).thenReturn(WarmupTier.BACKGROUND);
+        when(warmer1.warmUp()).thenReturn(WarmupResult.success(10));
+        when(warmer2.warmUp()).thenAnswer(invocation -> {
+            release.await();
+            return WarmupResult.success(500);
+        });
+        CompletableFuture<Void> finished = warmupService.whenFinished().toCompletableFuture();
+
+        warmupService.performWarmup();
+
+        assertTrue(warmupService.isWarmedUp());
+        assertFalse(finished.isDone());
+
+        release.countDown();
+        finished.get(5, TimeUnit.SECONDS);
+        assertTrue(warmupService.isBackgroundFinished());
+    }
+
+    @Test
+    void testWhenFinishedWithoutWarmers() {
+        warmupService = new WarmupService(Set.of());
+
+        warmupService.performWarmup();
+
+        assertTrue(warmupService.whenFinished().toCompletableFuture().isDone());
+    }
+
+    @Test
+    void testListenersAreNotified() {
+        when(warmer1.getId()).thenReturn("warmer1");
+        when(warmer2.getId()).thenReturn("warmer2");
+        when(warmer2.dependsOn()).thenReturn(Set.of("warmer1"));
+        when(warmer1.warmUp()).thenReturn(WarmupResult.failure("down", 10));
+        WarmupListener listener = mock(WarmupListener.class);
+        RetryProperties retry = new RetryProperties();
+        retry.setMaxAttempts(1);
+        warmupService = new WarmupService(Set.of(warmer1, warmer2), new ExponentialBackoffRetryPolicy(retry), Runnable::run);
+        warmupService.addListener(listener);
+
+        warmupService.performWarmup();
+
+        InOrder inOrder = inOrder(listener);
+        inOrder.verify(listener).warmupStarted(Set.of(warmer1, warmer2));
+        inOrder.verify(listener).attemptStarted(warmer1, 1);
+        inOrder.verify(listener).attemptFinished(eq(warmer1), eq(1), any(WarmupResult.class), any(Duration.class));
+        inOrder.verify(listener).warmerFinished(eq(warmer1), any(WarmupResult.class));
+        inOrder.verify(listener).warmerFinished(warmer2, null);
+        inOrder.verify(listener).warmupFinished(eq(false), any(Duration.class));
+        verify(listener, never()).attemptStarted(warmer2, 1);
+    }
+
+    @Test
+    void testFailingListenerDoesNotAffectWarmup() {
+        when(warmer1.getId()).thenReturn("warmer1");
+        when(warmer2.getId()).thenReturn("warmer2");
+        when(warmer1.warmUp()).thenReturn(WarmupResult.success(10));
+        when(warmer2.warmUp()).thenReturn(WarmupResult.success(10));
+        warmupService.addListener(new WarmupListener() {
+            @Override
+            public void attemptFinished(Warmupdicator warmer, int attempt, WarmupResult result, Duration duration) {
+                throw new IllegalStateException("broken listener");
+            }
+        });
+
+        warmupService.performWarmup();
+
+        assertTrue(warmupService.isWarmedUp());
+    }
+
+    @Test
+    void testBackgroundWarmersRunOnBackgroundExecutor() {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        Executor backgroundExecutor = runnable -> {
+            threads.add("background");
+            runnable.run();
+        };
+        warmupService = new WarmupService(Set.of(warmer1, warmer2), new ExponentialBackoffRetryPolicy(new RetryProperties()), Runnable::run, backgroundExecutor);
+        when(warmer1.getId()).thenReturn("critical");
+        when(warmer2.getId()).thenReturn("background");
+        when(warmer2.getTier()).thenReturn(WarmupTier.BACKGROUND);
+        when(warmer1.warmUp()).thenReturn(WarmupResult.success(10));
+        when(warmer2.warmUp()).thenReturn(WarmupResult.success(10));
+
+        warmupService.performWarmup();
+
+        assertTrue(warmupService.isWarmedUp());
+        assertTrue(warmupService.isBackgroundWarmedUp());
+        assertEquals(Set.of("background"), threads);
+    }
+
+    @Test
+    void testCriticalWarmerCannotDependOnBackgroundWarmer() {
+        when(warmer1.getId()).thenReturn("critical");
+        when(warmer2.getId()).thenReturn("background");
+        when(warmer2.getTier()).thenReturn(WarmupTier.BACKGROUND);
+        when(warmer1.dependsOn()).thenReturn(Set.of("background"));
+
+        assertThrows(IllegalStateException.class, () -> warmupService.performWarmup());
+    }
+
     @Test
     void testNoWarmers() {
         warmupService = new WarmupService(Set.of());
@@ -71,4 +336,85 @@ class WarmupServiceTest {
         assertTrue(warmupService.isWarmedUp());
         assertEquals(0, warmupService.getResults().size());
     }
+
+    @Test
+    void testWarmerStatesTrackTheRun() {
+        RetryProperties retry = new RetryProperties();
+        retry.setMaxAttempts(2);
+        retry.setInitialBackoff(Duration.ofMillis(1));
+        when(warmer1.getId()).thenReturn("warmer1");
+        when(warmer2.getId()).thenReturn("warmer2");
+        when(warmer2.dependsOn()).thenReturn(Set.of("warmer1"));
+        when(warmer1.warmUp()).thenReturn(WarmupResult.failure("cold", 10));
+        warmupService = new WarmupService(Set.of(warmer1, warmer2), new ExponentialBackoffRetryPolicy(retry));
+
+        warmupService.performWarmup();
+
+        WarmerState failed = warmupService.getWarmerStates().get("warmer1");
+        assertEquals(WarmerStatus.FAILED, failed.getStatus());
+        assertEquals(2, failed.getAttempts());
+        assertEquals("cold", failed.getMessage());
+        assertNotNull(failed.getStartedAt());
+        assertNotNull(failed.getEndedAt());
+        assertNotNull(failed.getDurationMs());
+
+        WarmerState skipped = warmupService.getWarmerStates().get("warmer2");
+        assertEquals(WarmerStatus.SKIPPED, skipped.getStatus());
+        assertEquals(0, skipped.getAttempts());
+        assertNotNull(skipped.getEndedAt());
+    }
+
+    @Test
+    void testRewarmRunsSelectedWarmersAgain() throws Exception {
+        when(warmer1.getId()).thenReturn("warmer1");
+        when(warmer2.getId()).thenReturn("warmer2");
+        when(warmer1.warmUp()).thenReturn(WarmupResult.failure("cold", 10), WarmupResult.success(10));
+        when(warmer2.warmUp()).thenReturn(WarmupResult.success(10));
+        RetryProperties retry = new RetryProperties();
+        retry.setMaxAttempts(1);
+        warmupService = new WarmupService(Set.of(warmer1, warmer2), new ExponentialBackoffRetryPolicy(retry));
+        warmupService.performWarmup();
+        warmupService.whenFinished().toCompletableFuture().get(5, TimeUnit.SECONDS);
+        assertFalse(warmupService.isWarmedUp());
+
+        boolean succeeded = warmupService.rewarm(List.of("warmer1")).toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        assertTrue(succeeded);
+        assertTrue(warmupService.isWarmedUp());
+        assertFalse(warmupService.isRunning());
+        assertEquals(WarmerStatus.SUCCEEDED, warmupService.getWarmerStates().get("warmer1").getStatus());
+        verify(warmer1, times(2)).warmUp();
+        verify(warmer2, times(1)).warmUp();
+    }
+
+    @Test
+    void testRewarmRejectsUnknownWarmers() {
+        when(warmer1.getId()).thenReturn("warmer1");
+        when(warmer2.getId()).thenReturn("warmer2");
+
+        assertThrows(IllegalArgumentException.class, () -> warmupService.rewarm(List.of("warmer1", "unknown")));
+        assertFalse(warmupService.isRunning());
+    }
+
+    @Test
+    void testRewarmRejectedWhileRunning() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(warmer1.getId()).thenReturn("critical");
+        when(warmer2.getId()).thenReturn("background");
+        when(warmer2.getTier()).thenReturn(WarmupTier.BACKGROUND);
+        when(warmer1.warmUp()).thenReturn(WarmupResult.success(10));
+        when(warmer2.warmUp()).thenAnswer(invocation -> {
+            release.await();
+            return WarmupResult.success(10);
+        });
+        warmupService.performWarmup();
+
+        assertTrue(warmupService.isRunning());
+        assertThrows(IllegalStateException.class, () -> warmupService.rewarm(List.of()));
+
+        release.countDown();
+        warmupService.whenFinished().toCompletableFuture().get(5, TimeUnit.SECONDS);
+        assertFalse(warmupService.isRunning());
+        assertTrue(warmupService.rewarm(List.of()).toCompletableFuture().get(5, TimeUnit.SECONDS));
+    }
 }
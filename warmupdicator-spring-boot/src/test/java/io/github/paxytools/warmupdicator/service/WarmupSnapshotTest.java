@@ -0,0 +1,75 @@
+package io.github.paxytools.warmupdicator.service;
+
+import io.github.paxytools.warmupdicator.api.WarmerState;
+import io.github.paxytools.warmupdicator.api.WarmerStatus;
+import io.github.paxytools.warmupdicator.api.WarmupResult;
+import io.github.paxytools.warmupdicator.api.WarmupTier;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WarmupSnapshotTest {
+
+    private final WarmupSnapshot warmers = WarmupSnapshot.initial().withWarmers(Map.of(
+            "b", WarmerState.pending("b", WarmupTier.CRITICAL),
+            "a", WarmerState.pending("a", WarmupTier.BACKGROUND)), Set.of("a"));
+
+    @Test
+    void testEveryChangeHasTheNextVersion() {
+        assertEquals(0, WarmupSnapshot.initial().getVersion());
+        assertEquals(1, warmers.getVersion());
+
+        WarmupSnapshot running = warmers.withRunning(true);
+
+        assertEquals(2, running.getVersion());
+        assertTrue(running.isRunning());
+        assertFalse(warmers.isRunning());
+    }
+
+    @Test
+    void testResultsCountTriesAndAreSortedById() {
+        WarmupSnapshot snapshot = warmers
+                .withResult("b", WarmupResult.failure("cold", 10))
+                .withResult("a", WarmupResult.success(10))
+                .withResult("b", WarmupResult.success(10, 2));
+
+        assertEquals(3, snapshot.getTotalTries());
+        assertEquals(List.of("a", "b"), List.copyOf(snapshot.getResults().keySet()));
+        assertTrue(snapshot.isSucceeded("b"));
+        assertEquals(1, snapshot.getBackgroundSucceeded());
+        assertEquals(1, snapshot.getBackgroundTotal());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getResults().remove("a"));
+    }
+
+    @Test
+    void testRunStartResetsTries() {
+        WarmupSnapshot snapshot = warmers
+                .withResult("a", WarmupResult.failure("cold", 10))
+                .withAttemptNumber(2)
+                .withRunStarted(Map.of("a", WarmerState.pending("a", WarmupTier.BACKGROUND)));
+
+        assertEquals(0, snapshot.getTotalTries());
+        assertEquals(0, snapshot.getAttemptNumber());
+        assertFalse(snapshot.isSucceeded("a"));
+    }
+
+    @Test
+    void testKeepsHighestAttemptNumber() {
+        WarmupSnapshot snapshot = warmers.withAttemptNumber(3);
+
+        assertSame(snapshot, snapshot.withAttemptNumber(2));
+        assertEquals(3, snapshot.withAttemptNumber(2).getAttemptNumber());
+    }
+
+    @Test
+    void testIgnoresStateOfUnknownWarmer() {
+        assertSame(warmers, warmers.withWarmerState("unknown", state -> state.skipped(Instant.now())));
+        assertEquals(WarmerStatus.SKIPPED, warmers.withWarmerState("a", state -> state.skipped(Instant.now()))
+                .getWarmerStates().get("a").getStatus());
+    }
+}